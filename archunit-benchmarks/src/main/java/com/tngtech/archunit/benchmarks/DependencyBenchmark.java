@@ -0,0 +1,67 @@
+/*
+ * Copyright 2014-2023 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.benchmarks;
+
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Measures the calculation of the dependencies from and to all classes of the synthetic code base.
+ * Since {@link JavaClass} memoizes its dependencies, every invocation works on freshly imported classes.
+ * Thus, a single invocation is measured ({@link Mode#SingleShotTime}) and the import itself is excluded from the measurement.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(MILLISECONDS)
+@Warmup(iterations = 10)
+@Measurement(iterations = 20)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class DependencyBenchmark {
+    private JavaClasses classes;
+
+    @Setup(Level.Iteration)
+    public void importClasses(SyntheticCodeBase codeBase) {
+        classes = codeBase.importClasses();
+    }
+
+    @Benchmark
+    public void getDirectDependenciesFromSelf(Blackhole blackhole) {
+        for (JavaClass javaClass : classes) {
+            blackhole.consume(javaClass.getDirectDependenciesFromSelf());
+        }
+    }
+
+    @Benchmark
+    public void getDirectDependenciesToSelf(Blackhole blackhole) {
+        for (JavaClass javaClass : classes) {
+            blackhole.consume(javaClass.getDirectDependenciesToSelf());
+        }
+    }
+}
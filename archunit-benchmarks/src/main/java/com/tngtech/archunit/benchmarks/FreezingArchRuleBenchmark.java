@@ -0,0 +1,93 @@
+/*
+ * Copyright 2014-2023 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.benchmarks;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import com.tngtech.archunit.lang.ArchRule;
+import com.tngtech.archunit.lang.EvaluationResult;
+import com.tngtech.archunit.library.freeze.FreezingArchRule;
+import com.tngtech.archunit.library.freeze.ViolationStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static com.tngtech.archunit.benchmarks.SyntheticClassGraph.ROOT_PACKAGE;
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.noClasses;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Measures the evaluation of a {@link FreezingArchRule} with many stored violations, all of which are still present,
+ * i.e. the matching of actual violations against known violations. The violations are kept in memory,
+ * so the measurement does not depend on the file system.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class FreezingArchRuleBenchmark {
+    private FreezingArchRule frozenRule;
+
+    @Setup
+    public void freezeViolations(SyntheticCodeBase codeBase) {
+        ArchRule rule = noClasses().that().resideInAPackage(ROOT_PACKAGE + "..web..")
+                .should().dependOnClassesThat().resideInAPackage(ROOT_PACKAGE + "..web..");
+        frozenRule = FreezingArchRule.freeze(rule).persistIn(new InMemoryViolationStore());
+        // the first evaluation will store all violations
+        frozenRule.evaluate(codeBase.getClasses());
+    }
+
+    @Benchmark
+    public EvaluationResult evaluateWithKnownViolations(SyntheticCodeBase codeBase) {
+        return frozenRule.evaluate(codeBase.getClasses());
+    }
+
+    private static class InMemoryViolationStore implements ViolationStore {
+        private final Map<String, List<String>> violationsByRule = new HashMap<>();
+
+        @Override
+        public void initialize(Properties properties) {
+        }
+
+        @Override
+        public boolean contains(ArchRule rule) {
+            return violationsByRule.containsKey(rule.getDescription());
+        }
+
+        @Override
+        public void save(ArchRule rule, List<String> violations) {
+            violationsByRule.put(rule.getDescription(), new ArrayList<>(violations));
+        }
+
+        @Override
+        public List<String> getViolations(ArchRule rule) {
+            return violationsByRule.get(rule.getDescription());
+        }
+    }
+}
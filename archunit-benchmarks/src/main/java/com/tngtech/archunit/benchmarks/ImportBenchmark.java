@@ -0,0 +1,54 @@
+/*
+ * Copyright 2014-2023 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.benchmarks;
+
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Measures the import of classes by the {@link ClassFileImporter} from the different sorts of locations,
+ * i.e. the JDK, JAR files and directories.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class ImportBenchmark {
+    @Benchmark
+    public JavaClasses importJdkPackages() {
+        return new ClassFileImporter().importPackages("java.io", "java.util");
+    }
+
+    @Benchmark
+    public JavaClasses importSyntheticJar(SyntheticCodeBase codeBase) {
+        return codeBase.importClasses();
+    }
+
+    @Benchmark
+    public JavaClasses importSyntheticClassesDirectory(SyntheticCodeBase codeBase) {
+        return new ClassFileImporter().importPath(codeBase.getClassesDirectory());
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2014-2023 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.benchmarks;
+
+import java.util.function.Supplier;
+
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Measures the heap retained by the imported {@link JavaClasses}, i.e. the memory needed to hold an import,
+ * as the secondary result {@code retainedKilobytes}. The primary result is the time of the import.
+ * <br><br>
+ * The retained heap is the difference of the used heap after a full garbage collection before and after the import,
+ * thus it is only meaningful with a single thread and if no other objects are allocated concurrently.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class ImportFootprintBenchmark {
+    @Benchmark
+    public void importJdkPackages(RetainedHeap retainedHeap, Blackhole blackhole) {
+        retainedHeap.measure(() -> new ClassFileImporter().importPackages("java.io", "java.util"), blackhole);
+    }
+
+    @Benchmark
+    public void importSyntheticJar(SyntheticCodeBase codeBase, RetainedHeap retainedHeap, Blackhole blackhole) {
+        retainedHeap.measure(codeBase::importClasses, blackhole);
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class RetainedHeap {
+        public long retainedKilobytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            retainedKilobytes = 0;
+        }
+
+        void measure(Supplier<JavaClasses> importClasses, Blackhole blackhole) {
+            long before = usedHeapAfterGarbageCollection();
+            JavaClasses classes = importClasses.get();
+            long after = usedHeapAfterGarbageCollection();
+            retainedKilobytes = (after - before) / 1024;
+            // keep the classes reachable until the used heap has been determined
+            blackhole.consume(classes);
+        }
+
+        private static long usedHeapAfterGarbageCollection() {
+            Runtime runtime = Runtime.getRuntime();
+            for (int i = 0; i < 3; i++) {
+                System.gc();
+            }
+            return runtime.totalMemory() - runtime.freeMemory();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2014-2023 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.benchmarks;
+
+import com.tngtech.archunit.lang.ArchRule;
+import com.tngtech.archunit.lang.EvaluationResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static com.tngtech.archunit.benchmarks.SyntheticClassGraph.ROOT_PACKAGE;
+import static com.tngtech.archunit.library.Architectures.layeredArchitecture;
+import static com.tngtech.archunit.library.dependencies.SlicesRuleDefinition.slices;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Measures the evaluation of typical library rules against the synthetic code base. The classes are imported
+ * once per trial, i.e. after the first invocation all dependencies are memoized and only the evaluation itself is measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class RuleEvaluationBenchmark {
+    private static final ArchRule layeredArchitectureRule = layeredArchitecture()
+            .consideringOnlyDependenciesInLayers()
+            .layer("Web").definedBy(ROOT_PACKAGE + "..web..")
+            .layer("Service").definedBy(ROOT_PACKAGE + "..service..")
+            .layer("Persistence").definedBy(ROOT_PACKAGE + "..persistence..")
+            .whereLayer("Web").mayNotBeAccessedByAnyLayer()
+            .whereLayer("Service").mayOnlyBeAccessedByLayers("Web")
+            .whereLayer("Persistence").mayOnlyBeAccessedByLayers("Service");
+
+    private static final ArchRule modulesFreeOfCyclesRule = slices()
+            .matching(ROOT_PACKAGE + ".(*)..")
+            .should().beFreeOfCycles();
+
+    @Benchmark
+    public EvaluationResult layeredArchitectureRespected(SyntheticCodeBase codeBase) {
+        return layeredArchitectureRule.evaluate(codeBase.getClasses());
+    }
+
+    @Benchmark
+    public EvaluationResult slicesFreeOfCycles(SyntheticCodeBase codeBase) {
+        return modulesFreeOfCyclesRule.evaluate(codeBase.getClasses());
+    }
+}
@@ -0,0 +1,254 @@
+/*
+ * Copyright 2014-2023 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.benchmarks;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+
+import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
+import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
+import static org.objectweb.asm.Opcodes.ACC_SUPER;
+import static org.objectweb.asm.Opcodes.ALOAD;
+import static org.objectweb.asm.Opcodes.GETFIELD;
+import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
+import static org.objectweb.asm.Opcodes.INVOKEVIRTUAL;
+import static org.objectweb.asm.Opcodes.RETURN;
+import static org.objectweb.asm.Opcodes.V1_8;
+
+/**
+ * Generates the class files of a synthetic code base, so benchmarks can be run against a class graph
+ * of a defined size and shape, independently of the JDK or libraries present on the machine.
+ * <br><br>
+ * The code base consists of modules {@code <root>.moduleN}, each of which is divided into the layers
+ * {@code web}, {@code service} and {@code persistence}. Every class declares fields of the types of other classes
+ * and calls methods of these classes. Dependencies mostly point to the same or a lower layer of the same module,
+ * but a fixed fraction of dependencies point to arbitrary classes of the code base, thus creating layer violations
+ * and cycles between modules.
+ * <br><br>
+ * For the same parameters (in particular the same seed) the generated class files are always byte by byte the same.
+ */
+public final class SyntheticClassGraph {
+    static final String ROOT_PACKAGE = "com.tngtech.archunit.benchmarks.synthetic";
+    static final String[] LAYERS = {"web", "service", "persistence"};
+
+    private static final String RUN_METHOD_NAME = "run";
+    private static final String NO_ARGUMENTS_RETURNING_VOID = "()V";
+
+    private final int numberOfModules;
+    private final int classesPerLayer;
+    private final int dependenciesPerClass;
+    private final double arbitraryDependencyRatio;
+    private final long seed;
+
+    private SyntheticClassGraph(int numberOfModules, int classesPerLayer, int dependenciesPerClass, double arbitraryDependencyRatio, long seed) {
+        checkArgument(numberOfModules > 0, "Number of modules must be positive");
+        checkArgument(classesPerLayer > 0, "Classes per layer must be positive");
+        checkArgument(dependenciesPerClass >= 0, "Dependencies per class must not be negative");
+        checkArgument(arbitraryDependencyRatio >= 0 && arbitraryDependencyRatio <= 1, "Ratio of arbitrary dependencies must be between 0 and 1");
+        this.numberOfModules = numberOfModules;
+        this.classesPerLayer = classesPerLayer;
+        this.dependenciesPerClass = dependenciesPerClass;
+        this.arbitraryDependencyRatio = arbitraryDependencyRatio;
+        this.seed = seed;
+    }
+
+    public static SyntheticClassGraph withModules(int numberOfModules) {
+        return new SyntheticClassGraph(numberOfModules, 10, 5, 0.02, 42);
+    }
+
+    public SyntheticClassGraph withClassesPerLayer(int classesPerLayer) {
+        return new SyntheticClassGraph(numberOfModules, classesPerLayer, dependenciesPerClass, arbitraryDependencyRatio, seed);
+    }
+
+    public SyntheticClassGraph withDependenciesPerClass(int dependenciesPerClass) {
+        return new SyntheticClassGraph(numberOfModules, classesPerLayer, dependenciesPerClass, arbitraryDependencyRatio, seed);
+    }
+
+    public SyntheticClassGraph withArbitraryDependencyRatio(double arbitraryDependencyRatio) {
+        return new SyntheticClassGraph(numberOfModules, classesPerLayer, dependenciesPerClass, arbitraryDependencyRatio, seed);
+    }
+
+    public SyntheticClassGraph withSeed(long seed) {
+        return new SyntheticClassGraph(numberOfModules, classesPerLayer, dependenciesPerClass, arbitraryDependencyRatio, seed);
+    }
+
+    public int getNumberOfClasses() {
+        return numberOfModules * LAYERS.length * classesPerLayer;
+    }
+
+    /**
+     * Writes all generated class files into a new JAR file.
+     *
+     * @param jarFile The path of the JAR file to create
+     * @return The passed path
+     */
+    public Path writeJar(Path jarFile) throws IOException {
+        try (JarOutputStream jar = new JarOutputStream(Files.newOutputStream(jarFile))) {
+            write((classFileName, bytes) -> {
+                JarEntry entry = new JarEntry(classFileName);
+                entry.setTime(0);
+                jar.putNextEntry(entry);
+                jar.write(bytes);
+                jar.closeEntry();
+            });
+        }
+        return jarFile;
+    }
+
+    /**
+     * Writes all generated class files into a directory, like a compiler would (i.e. following the package structure).
+     *
+     * @param rootDirectory The root directory of the generated class files
+     * @return The passed path
+     */
+    public Path writeClassesTo(Path rootDirectory) throws IOException {
+        write((classFileName, bytes) -> {
+            Path classFile = rootDirectory.resolve(classFileName);
+            Files.createDirectories(classFile.getParent());
+            try (OutputStream out = Files.newOutputStream(classFile)) {
+                out.write(bytes);
+            }
+        });
+        return rootDirectory;
+    }
+
+    private void write(ClassFileSink sink) throws IOException {
+        List<String> classNames = createClassNames();
+        Random random = new Random(seed);
+        for (int i = 0; i < classNames.size(); i++) {
+            String className = classNames.get(i);
+            sink.write(className + ".class", createClassFile(className, chooseDependencies(i, classNames, random)));
+        }
+    }
+
+    private List<String> createClassNames() {
+        List<String> result = new ArrayList<>(getNumberOfClasses());
+        for (int module = 0; module < numberOfModules; module++) {
+            for (String layer : LAYERS) {
+                for (int clazz = 0; clazz < classesPerLayer; clazz++) {
+                    result.add(String.format("%s/module%d/%s/%sClass%d",
+                            ROOT_PACKAGE.replace('.', '/'), module, layer, capitalize(layer), clazz));
+                }
+            }
+        }
+        return result;
+    }
+
+    private List<String> chooseDependencies(int classIndex, List<String> classNames, Random random) {
+        int classesPerModule = LAYERS.length * classesPerLayer;
+        int moduleStart = classIndex / classesPerModule * classesPerModule;
+        int layerStart = classIndex / classesPerLayer * classesPerLayer;
+
+        List<String> result = new ArrayList<>(dependenciesPerClass);
+        for (int i = 0; i < dependenciesPerClass; i++) {
+            int target = random.nextDouble() < arbitraryDependencyRatio
+                    // any class of the code base
+                    ? random.nextInt(classNames.size())
+                    // a class of the same or a lower layer within the same module
+                    : layerStart + random.nextInt(moduleStart + classesPerModule - layerStart);
+            result.add(classNames.get(target));
+        }
+        return result;
+    }
+
+    private static byte[] createClassFile(String internalName, List<String> dependencies) {
+        ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+        writer.visit(V1_8, ACC_PUBLIC | ACC_SUPER, internalName, null, Type.getInternalName(Object.class), null);
+
+        for (int i = 0; i < dependencies.size(); i++) {
+            writer.visitField(ACC_PRIVATE, fieldName(i), descriptorOf(dependencies.get(i)), null, null).visitEnd();
+        }
+
+        MethodVisitor constructor = writer.visitMethod(ACC_PUBLIC, "<init>", NO_ARGUMENTS_RETURNING_VOID, null, null);
+        constructor.visitCode();
+        constructor.visitVarInsn(ALOAD, 0);
+        constructor.visitMethodInsn(INVOKESPECIAL, Type.getInternalName(Object.class), "<init>", NO_ARGUMENTS_RETURNING_VOID, false);
+        constructor.visitInsn(RETURN);
+        constructor.visitMaxs(0, 0);
+        constructor.visitEnd();
+
+        MethodVisitor run = writer.visitMethod(ACC_PUBLIC, RUN_METHOD_NAME, NO_ARGUMENTS_RETURNING_VOID, null, null);
+        run.visitCode();
+        for (int i = 0; i < dependencies.size(); i++) {
+            run.visitVarInsn(ALOAD, 0);
+            run.visitFieldInsn(GETFIELD, internalName, fieldName(i), descriptorOf(dependencies.get(i)));
+            run.visitMethodInsn(INVOKEVIRTUAL, dependencies.get(i), RUN_METHOD_NAME, NO_ARGUMENTS_RETURNING_VOID, false);
+        }
+        run.visitInsn(RETURN);
+        run.visitMaxs(0, 0);
+        run.visitEnd();
+
+        writer.visitEnd();
+        return writer.toByteArray();
+    }
+
+    private static String fieldName(int index) {
+        return "dependency" + index;
+    }
+
+    private static String descriptorOf(String internalName) {
+        return "L" + internalName + ";";
+    }
+
+    private static String capitalize(String string) {
+        return Character.toUpperCase(string.charAt(0)) + string.substring(1);
+    }
+
+    /**
+     * Writes a synthetic class graph to the JAR file passed as first argument, e.g. to run other tools against the same
+     * class files. Optional further arguments are the number of modules, classes per layer, dependencies per class and the seed.
+     */
+    public static void main(String[] args) throws IOException {
+        checkArgument(args.length >= 1,
+                "Usage: " + SyntheticClassGraph.class.getName() + " <target JAR> [modules] [classesPerLayer] [dependenciesPerClass] [seed]");
+
+        SyntheticClassGraph graph = withModules(args.length > 1 ? Integer.parseInt(args[1]) : 10);
+        if (args.length > 2) {
+            graph = graph.withClassesPerLayer(Integer.parseInt(args[2]));
+        }
+        if (args.length > 3) {
+            graph = graph.withDependenciesPerClass(Integer.parseInt(args[3]));
+        }
+        if (args.length > 4) {
+            graph = graph.withSeed(Long.parseLong(args[4]));
+        }
+        Path jar = graph.writeJar(Paths.get(args[0]));
+        System.out.printf("Wrote %d classes to %s%n", graph.getNumberOfClasses(), jar.toAbsolutePath());
+    }
+
+    private static void checkArgument(boolean condition, String message) {
+        if (!condition) {
+            throw new IllegalArgumentException(message);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ClassFileSink {
+        void write(String classFileName, byte[] bytes) throws IOException;
+    }
+}
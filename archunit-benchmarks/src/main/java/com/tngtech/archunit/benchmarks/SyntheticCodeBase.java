@@ -0,0 +1,87 @@
+/*
+ * Copyright 2014-2023 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+import com.tngtech.archunit.core.importer.Location;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import static java.util.Collections.singleton;
+import static java.util.Comparator.reverseOrder;
+
+/**
+ * Provides a {@link SyntheticClassGraph} written to disk once per benchmark trial, as well as the imported classes.
+ * The size of the code base can be varied via the JMH parameter {@code numberOfModules}.
+ */
+@State(Scope.Benchmark)
+public class SyntheticCodeBase {
+    @Param({"10", "50"})
+    public int numberOfModules;
+
+    private Path tempDirectory;
+    private Path jar;
+    private Path classesDirectory;
+    private JavaClasses classes;
+
+    @Setup
+    public void setUp() throws IOException {
+        SyntheticClassGraph graph = SyntheticClassGraph.withModules(numberOfModules);
+        tempDirectory = Files.createTempDirectory("archunit-benchmarks");
+        jar = graph.writeJar(tempDirectory.resolve("synthetic.jar"));
+        classesDirectory = graph.writeClassesTo(Files.createDirectory(tempDirectory.resolve("classes")));
+        classes = importClasses();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(tempDirectory)) {
+            for (Path file : (Iterable<Path>) files.sorted(reverseOrder())::iterator) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    Path getJar() {
+        return jar;
+    }
+
+    Path getClassesDirectory() {
+        return classesDirectory;
+    }
+
+    /**
+     * @return The classes of the synthetic code base, imported once per trial. Note that the classes memoize
+     *         derived information like dependencies, i.e. benchmarks measuring the calculation of such information
+     *         must use {@link #importClasses()} instead.
+     */
+    JavaClasses getClasses() {
+        return classes;
+    }
+
+    JavaClasses importClasses() {
+        return new ClassFileImporter().importLocations(singleton(Location.of(jar.toUri())));
+    }
+}
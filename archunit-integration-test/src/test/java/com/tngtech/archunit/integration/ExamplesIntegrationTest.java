@@ -241,8 +241,7 @@ class ExamplesIntegrationTest {
 
         expectFailures.ofRule("fields that have raw type java.util.logging.Logger should be private " +
                         "and should be static and should be final, because we agreed on this convention")
-                .by(ExpectedField.of(ClassViolatingCodingRules.class, "log").doesNotHaveModifier(JavaModifier.PRIVATE))
-                .by(ExpectedField.of(ClassViolatingCodingRules.class, "log").doesNotHaveModifier(JavaModifier.FINAL));
+                .by(ExpectedField.of(ClassViolatingCodingRules.class, "log").doesNotHaveModifier(JavaModifier.PRIVATE));
 
         expectFailures.ofRule("no classes should use JodaTime, because modern Java projects use the [java.time] API instead")
                 .by(callFromMethod(ClassViolatingCodingRules.class, "jodaTimeIsBad")
@@ -47,6 +47,8 @@ import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
  * </code></pre>
  *
  * The runner will cache classes between test runs, for details please refer to {@link com.tngtech.archunit.junit.internal.ClassCache}.
+ * If {@code junit.parallelExecution.enabled=true} is configured in {@code archunit.properties}, the rules of a test class
+ * will be checked concurrently, while the results are still reported in the order the rules are declared.
  */
 @PublicAPI(usage = ACCESS)
 public class ArchUnitRunner<T> extends ParentRunner<T> {
@@ -40,7 +40,10 @@ class ArchRuleExecution extends ArchTestExecution {
     Result evaluateOn(JavaClasses classes) {
         ArchRule rule = getValue(ruleField, testClass);
         try {
-            rule.check(classes);
+            // the same rule instance (e.g. of a rule library included several times) must not be checked concurrently
+            synchronized (rule) {
+                rule.check(classes);
+            }
         } catch (Exception | AssertionError e) {
             return new NegativeResult(describeSelf(), e);
         }
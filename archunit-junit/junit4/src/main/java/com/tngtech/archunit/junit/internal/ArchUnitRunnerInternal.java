@@ -48,6 +48,7 @@ import static java.util.stream.Collectors.toList;
 final class ArchUnitRunnerInternal extends ParentRunner<ArchTestExecution> implements ArchUnitRunner.InternalRunner<ArchTestExecution> {
     @SuppressWarnings("FieldMayBeFinal")
     private SharedCache cache = new SharedCache(); // NOTE: We want to change this in tests -> no static/final reference
+    private ConcurrentChildEvaluation concurrentEvaluation; // only set while the children are evaluated concurrently
 
     ArchUnitRunnerInternal(Class<?> testClass) throws InitializationError {
         super(testClass);
@@ -77,6 +78,27 @@ final class ArchUnitRunnerInternal extends ParentRunner<ArchTestExecution> imple
         };
     }
 
+    @Override
+    protected Statement childrenInvoker(RunNotifier notifier) {
+        Statement runChildren = super.childrenInvoker(notifier);
+        if (!ParallelExecution.isEnabled()) {
+            return runChildren;
+        }
+        return new Statement() {
+            @Override
+            public void evaluate() throws Throwable {
+                concurrentEvaluation = new ConcurrentChildEvaluation(ParallelExecution.getParallelism());
+                try {
+                    runChildren.evaluate();
+                    concurrentEvaluation.reportInOrder();
+                } finally {
+                    concurrentEvaluation.shutdown();
+                    concurrentEvaluation = null;
+                }
+            }
+        };
+    }
+
     @Override
     public List<ArchTestExecution> getChildren() {
         List<ArchTestExecution> children = new ArrayList<>();
@@ -127,17 +149,31 @@ final class ArchUnitRunnerInternal extends ParentRunner<ArchTestExecution> imple
 
     @Override
     public void runChild(ArchTestExecution child, RunNotifier notifier) {
-        if (child.ignore()) {
+        if (concurrentEvaluation != null) {
+            scheduleChild(child, notifier);
+        } else if (child.ignore()) {
             notifier.fireTestIgnored(describeChild(child));
         } else {
             notifier.fireTestStarted(describeChild(child));
-            Class<?> testClass = getTestClass().getJavaClass();
-            JavaClasses classes = cache.get().getClassesToAnalyzeFor(testClass, new JUnit4ClassAnalysisRequest(testClass));
-            child.evaluateOn(classes).notify(notifier);
+            evaluate(child).notify(notifier);
             notifier.fireTestFinished(describeChild(child));
         }
     }
 
+    private void scheduleChild(ArchTestExecution child, RunNotifier notifier) {
+        if (child.ignore()) {
+            concurrentEvaluation.scheduleIgnored(describeChild(child), notifier);
+        } else {
+            concurrentEvaluation.schedule(describeChild(child), () -> evaluate(child), notifier);
+        }
+    }
+
+    private ArchTestExecution.Result evaluate(ArchTestExecution child) {
+        Class<?> testClass = getTestClass().getJavaClass();
+        JavaClasses classes = cache.get().getClassesToAnalyzeFor(testClass, new JUnit4ClassAnalysisRequest(testClass));
+        return child.evaluateOn(classes);
+    }
+
     static class SharedCache {
         private static final ClassCache cache = new ClassCache();
 
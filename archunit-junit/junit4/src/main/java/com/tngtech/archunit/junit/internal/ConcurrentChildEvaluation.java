@@ -0,0 +1,80 @@
+/*
+ * Copyright 2014-2023 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.junit.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.tngtech.archunit.junit.internal.ArchTestExecution.Result;
+import org.junit.runner.Description;
+import org.junit.runner.notification.RunNotifier;
+
+/**
+ * Evaluates the children of an {@link ArchUnitRunnerInternal} concurrently on a bounded thread pool,
+ * but reports the results to the {@link RunNotifier} on the calling thread in the order the children have been scheduled.
+ */
+class ConcurrentChildEvaluation {
+    private final ExecutorService executor;
+    private final List<Report> reports = new ArrayList<>();
+
+    ConcurrentChildEvaluation(int parallelism) {
+        executor = Executors.newFixedThreadPool(parallelism,
+                new ThreadFactoryBuilder().setNameFormat("archunit-junit4-%d").setDaemon(true).build());
+    }
+
+    void scheduleIgnored(Description description, RunNotifier notifier) {
+        reports.add(() -> notifier.fireTestIgnored(description));
+    }
+
+    void schedule(Description description, Callable<Result> evaluation, RunNotifier notifier) {
+        Future<Result> result = executor.submit(evaluation);
+        reports.add(() -> {
+            notifier.fireTestStarted(description);
+            await(result).notify(notifier);
+            notifier.fireTestFinished(description);
+        });
+    }
+
+    void reportInOrder() throws Throwable {
+        for (Report report : reports) {
+            report.run();
+        }
+    }
+
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static Result await(Future<Result> result) throws Throwable {
+        try {
+            return result.get();
+        } catch (ExecutionException e) {
+            // same behavior as if the child had been evaluated on the calling thread
+            throw e.getCause();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Report {
+        void run() throws Throwable;
+    }
+}
@@ -3,12 +3,16 @@ package com.tngtech.archunit.junit.internal;
 import java.lang.annotation.Retention;
 
 import com.tngtech.archunit.ArchConfiguration;
+import com.tngtech.archunit.core.domain.JavaClass;
 import com.tngtech.archunit.core.domain.JavaClasses;
 import com.tngtech.archunit.junit.AnalyzeClasses;
 import com.tngtech.archunit.junit.ArchIgnore;
 import com.tngtech.archunit.junit.ArchTest;
 import com.tngtech.archunit.junit.internal.ArchUnitRunnerInternal.SharedCache;
+import com.tngtech.archunit.lang.ArchCondition;
 import com.tngtech.archunit.lang.ArchRule;
+import com.tngtech.archunit.lang.ConditionEvents;
+import com.tngtech.archunit.lang.SimpleConditionEvent;
 import com.tngtech.archunit.testutil.ArchConfigurationRule;
 import org.junit.Before;
 import org.junit.Rule;
@@ -18,6 +22,7 @@ import org.junit.runner.notification.Failure;
 import org.junit.runner.notification.RunNotifier;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnit;
@@ -25,6 +30,8 @@ import org.mockito.junit.MockitoRule;
 
 import static com.tngtech.archunit.core.domain.TestUtils.importClassesWithContext;
 import static com.tngtech.archunit.junit.internal.ArchUnitRunnerRunsRuleFieldsTest.ArchTestWithPrivateInstanceField.PRIVATE_RULE_FIELD_NAME;
+import static com.tngtech.archunit.junit.internal.ArchUnitRunnerRunsRuleFieldsTest.ArchTestWithSlowFirstRule.FAST_RULE_FIELD_NAME;
+import static com.tngtech.archunit.junit.internal.ArchUnitRunnerRunsRuleFieldsTest.ArchTestWithSlowFirstRule.SLOW_RULE_FIELD_NAME;
 import static com.tngtech.archunit.junit.internal.ArchUnitRunnerRunsRuleFieldsTest.IgnoredArchTest.RULE_ONE_IN_IGNORED_TEST;
 import static com.tngtech.archunit.junit.internal.ArchUnitRunnerRunsRuleFieldsTest.IgnoredArchTest.RULE_TWO_IN_IGNORED_TEST;
 import static com.tngtech.archunit.junit.internal.ArchUnitRunnerRunsRuleFieldsTest.SomeArchTest.FAILING_FIELD_NAME;
@@ -39,6 +46,8 @@ import static java.lang.annotation.RetentionPolicy.RUNTIME;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -200,6 +209,25 @@ public class ArchUnitRunnerRunsRuleFieldsTest {
         assertThat(description.getDisplayName()).as("expected display name").startsWith("some_test_Field(");
     }
 
+    @Test
+    public void reports_rules_checked_concurrently_in_declaration_order() {
+        ArchConfiguration.get().setProperty(ParallelExecution.JUNIT_PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME, "true");
+        ArchUnitRunnerInternal runner = newRunnerFor(ArchTestWithSlowFirstRule.class, cache);
+
+        runner.run(runNotifier);
+
+        InOrder inOrder = inOrder(runNotifier);
+        inOrder.verify(runNotifier).fireTestStarted(descriptionWithMethodName(SLOW_RULE_FIELD_NAME));
+        inOrder.verify(runNotifier).fireTestFinished(descriptionWithMethodName(SLOW_RULE_FIELD_NAME));
+        inOrder.verify(runNotifier).fireTestStarted(descriptionWithMethodName(FAST_RULE_FIELD_NAME));
+        inOrder.verify(runNotifier).fireTestFinished(descriptionWithMethodName(FAST_RULE_FIELD_NAME));
+        verify(runNotifier, never()).fireTestFailure(any(Failure.class));
+    }
+
+    private static Description descriptionWithMethodName(String methodName) {
+        return argThat(description -> description != null && methodName.equals(description.getMethodName()));
+    }
+
     private ArchTestExecution getRule(String name) {
         return ArchUnitRunnerTestUtils.getRule(name, runner);
     }
@@ -292,6 +320,29 @@ public class ArchUnitRunnerRunsRuleFieldsTest {
         public static final ArchRule some_test_Field = classes().should(NEVER_BE_SATISFIED);
     }
 
+    @AnalyzeClasses(packages = "some.pkg")
+    public static class ArchTestWithSlowFirstRule {
+        // JUnit 4 orders fields by name
+        static final String SLOW_RULE_FIELD_NAME = "first_rule_being_slow";
+        static final String FAST_RULE_FIELD_NAME = "second_rule_being_fast";
+
+        @ArchTest
+        public static final ArchRule first_rule_being_slow = classes().should(new ArchCondition<JavaClass>("be satisfied slowly") {
+            @Override
+            public void check(JavaClass item, ConditionEvents events) {
+                try {
+                    Thread.sleep(200);
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+                events.add(SimpleConditionEvent.satisfied(item, "I'm satisfied after a while"));
+            }
+        });
+
+        @ArchTest
+        public static final ArchRule second_rule_being_fast = classes().should(BE_SATISFIED);
+    }
+
     @Retention(RUNTIME)
     @interface SomeAnnotation {
     }
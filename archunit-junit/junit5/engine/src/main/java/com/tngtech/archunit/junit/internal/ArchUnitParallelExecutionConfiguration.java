@@ -0,0 +1,59 @@
+/*
+ * Copyright 2014-2023 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.junit.internal;
+
+import org.junit.platform.engine.support.hierarchical.ParallelExecutionConfiguration;
+
+/**
+ * Configures the {@link org.junit.platform.engine.support.hierarchical.ForkJoinPoolHierarchicalTestExecutorService}
+ * like the fixed strategy of JUnit Jupiter, but with the parallelism configured in {@code archunit.properties}.
+ */
+class ArchUnitParallelExecutionConfiguration implements ParallelExecutionConfiguration {
+    private static final int KEEP_ALIVE_SECONDS = 30;
+    // threads blocked e.g. by waiting for an import of another thread can be compensated up to this number of threads
+    private static final int ADDITIONAL_COMPENSATION_THREADS = 256;
+
+    private final int parallelism;
+
+    ArchUnitParallelExecutionConfiguration(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    @Override
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    @Override
+    public int getMinimumRunnable() {
+        return parallelism;
+    }
+
+    @Override
+    public int getMaxPoolSize() {
+        return parallelism + ADDITIONAL_COMPENSATION_THREADS;
+    }
+
+    @Override
+    public int getCorePoolSize() {
+        return parallelism;
+    }
+
+    @Override
+    public int getKeepAliveSeconds() {
+        return KEEP_ALIVE_SECONDS;
+    }
+}
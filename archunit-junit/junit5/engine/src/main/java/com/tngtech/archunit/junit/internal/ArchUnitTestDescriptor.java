@@ -19,6 +19,7 @@ import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.Field;
 import java.lang.reflect.Member;
 import java.lang.reflect.Method;
+import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
@@ -35,6 +36,7 @@ import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.UniqueId;
 import org.junit.platform.engine.support.descriptor.ClassSource;
 import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.engine.support.hierarchical.ExclusiveResource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -45,6 +47,8 @@ import static com.tngtech.archunit.junit.internal.ReflectionUtils.getAllMethods;
 import static com.tngtech.archunit.junit.internal.ReflectionUtils.getValueOrThrowException;
 import static com.tngtech.archunit.junit.internal.ReflectionUtils.invokeMethod;
 import static com.tngtech.archunit.junit.internal.ReflectionUtils.withAnnotation;
+import static java.util.Collections.singleton;
+import static org.junit.platform.engine.support.hierarchical.ExclusiveResource.LockMode.READ_WRITE;
 
 class ArchUnitTestDescriptor extends AbstractArchUnitTestDescriptor implements CreatesChildren {
     private static final Logger LOG = LoggerFactory.getLogger(ArchUnitTestDescriptor.class);
@@ -161,6 +165,16 @@ class ArchUnitTestDescriptor extends AbstractArchUnitTestDescriptor implements C
             return Type.TEST;
         }
 
+        /**
+         * The same rule instance (e.g. of a rule library included by several test classes) must not be checked concurrently,
+         * since conditions may keep state between {@link com.tngtech.archunit.lang.ArchCondition#init(java.util.Collection) init(..)}
+         * and {@link com.tngtech.archunit.lang.ArchCondition#finish(com.tngtech.archunit.lang.ConditionEvents) finish(..)}.
+         */
+        @Override
+        public Set<ExclusiveResource> getExclusiveResources() {
+            return singleton(new ExclusiveResource(ArchRule.class.getName() + "@" + System.identityHashCode(rule), READ_WRITE));
+        }
+
         @Override
         public ArchUnitEngineExecutionContext execute(ArchUnitEngineExecutionContext context, DynamicTestExecutor dynamicTestExecutor) {
             rule.check(classes.get());
@@ -18,19 +18,18 @@ package com.tngtech.archunit.junit.internal;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URL;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
-import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
-import com.tngtech.archunit.ArchConfiguration;
 import com.tngtech.archunit.Internal;
 import com.tngtech.archunit.base.MayResolveTypesViaReflection;
-import com.tngtech.archunit.core.domain.JavaClass;
-import com.tngtech.archunit.core.domain.JavaClasses;
-import com.tngtech.archunit.core.importer.ClassFileImporter;
-import com.tngtech.archunit.core.importer.resolvers.ClassResolver;
+import com.tngtech.archunit.core.importer.Location;
+import com.tngtech.archunit.core.importer.Locations;
+import com.tngtech.archunit.core.importer.MemberAnnotationScanner;
 import com.tngtech.archunit.junit.AnalyzeClasses;
 import com.tngtech.archunit.junit.ArchTest;
 import com.tngtech.archunit.junit.engine_api.FieldSelector;
@@ -46,12 +45,17 @@ import org.junit.platform.engine.discovery.MethodSelector;
 import org.junit.platform.engine.discovery.PackageNameFilter;
 import org.junit.platform.engine.discovery.PackageSelector;
 import org.junit.platform.engine.discovery.UniqueIdSelector;
+import org.junit.platform.engine.support.hierarchical.ForkJoinPoolHierarchicalTestExecutorService;
 import org.junit.platform.engine.support.hierarchical.HierarchicalTestEngine;
+import org.junit.platform.engine.support.hierarchical.HierarchicalTestExecutorService;
 
+import static com.tngtech.archunit.base.ClassLoaders.getCurrentClassLoader;
 import static com.tngtech.archunit.junit.internal.ReflectionUtils.getAllFields;
 import static com.tngtech.archunit.junit.internal.ReflectionUtils.getAllMethods;
 import static com.tngtech.archunit.junit.internal.ReflectionUtils.withAnnotation;
+import static java.util.Collections.singleton;
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
 
 /**
  * A simple test engine to discover and execute ArchUnit tests with JUnit 5. In particular the engine
@@ -66,6 +70,8 @@ import static java.util.stream.Collectors.toList;
  *     public static final ArchRule myRule = classes()...
  * }
  * </code></pre>
+ * If {@value ParallelExecution#JUNIT_PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME} is configured, the rules are checked concurrently
+ * within a {@link ForkJoinPoolHierarchicalTestExecutorService}.
  */
 @Internal
 public final class ArchUnitTestEngine extends HierarchicalTestEngine<ArchUnitEngineExecutionContext> {
@@ -94,9 +100,9 @@ public final class ArchUnitTestEngine extends HierarchicalTestEngine<ArchUnitEng
     }
 
     private void resolveRequestedClasspathRoot(EngineDiscoveryRequest discoveryRequest, UniqueId uniqueId, ArchUnitEngineDescriptor result) {
-        Stream<JavaClass> classes = discoveryRequest.getSelectorsByType(ClasspathRootSelector.class).stream()
+        Stream<String> classNames = discoveryRequest.getSelectorsByType(ClasspathRootSelector.class).stream()
                 .flatMap(this::getContainedClasses);
-        filterCandidatesAndLoadClasses(classes, discoveryRequest)
+        filterCandidatesAndLoadClasses(classNames, discoveryRequest)
                 .forEach(clazz -> ArchUnitTestDescriptor.resolve(
                         result, ElementResolver.create(result, uniqueId, clazz), cache.get()));
     }
@@ -105,18 +111,17 @@ public final class ArchUnitTestEngine extends HierarchicalTestEngine<ArchUnitEng
         String[] packages = discoveryRequest.getSelectorsByType(PackageSelector.class).stream()
                 .map(PackageSelector::getPackageName)
                 .toArray(String[]::new);
-        Stream<JavaClass> classes = getContainedClasses(packages);
+        Stream<String> classNames = getContainedClasses(packages);
 
-        filterCandidatesAndLoadClasses(classes, discoveryRequest)
+        filterCandidatesAndLoadClasses(classNames, discoveryRequest)
                 .forEach(clazz -> ArchUnitTestDescriptor.resolve(
                         result, ElementResolver.create(result, uniqueId, clazz), cache.get()));
     }
 
-    private Stream<Class<?>> filterCandidatesAndLoadClasses(Stream<JavaClass> classes, EngineDiscoveryRequest discoveryRequest) {
-        return classes
+    private Stream<Class<?>> filterCandidatesAndLoadClasses(Stream<String> classNames, EngineDiscoveryRequest discoveryRequest) {
+        return classNames
                 .filter(isAllowedBy(discoveryRequest))
-                .filter(this::isArchUnitTestCandidate)
-                .flatMap(this::safelyReflect);
+                .flatMap(this::safelyLoad);
     }
 
     private void resolveRequestedClasses(EngineDiscoveryRequest discoveryRequest, UniqueId uniqueId, ArchUnitEngineDescriptor result) {
@@ -148,43 +153,42 @@ public final class ArchUnitTestEngine extends HierarchicalTestEngine<ArchUnitEng
                         result, ElementResolver.create(result, uniqueId, selector.getUniqueId()), cache.get()));
     }
 
-    private Stream<JavaClass> getContainedClasses(String[] packages) {
+    private Stream<String> getContainedClasses(String[] packages) {
         if (packages.length == 0) {
             return Stream.empty();
         }
-        return discoverClasses(importer -> importer.importPackages(packages));
+        return discoverClasses(Arrays.stream(packages)
+                .flatMap(pkg -> Locations.ofPackage(pkg).stream())
+                .collect(toSet()));
     }
 
-    private Stream<JavaClass> getContainedClasses(ClasspathRootSelector selector) {
-        return discoverClasses(importer -> importer.importUrl(toUrl(selector.getClasspathRoot())));
+    private Stream<String> getContainedClasses(ClasspathRootSelector selector) {
+        return discoverClasses(Locations.of(singleton(toUrl(selector.getClasspathRoot()))));
     }
 
-    private Stream<JavaClass> discoverClasses(Function<ClassFileImporter, JavaClasses> importClasses) {
-        return ArchConfiguration.withThreadLocalScope(configuration -> {
-            configuration.setClassResolver(NoOpClassResolver.class);
-            return importClasses.apply(new ClassFileImporter()).stream();
-        });
+    /**
+     * Only scans the class files for members annotated with {@link ArchTest @ArchTest} instead of importing them,
+     * the classes that are actually executed will be imported later on anyway.
+     */
+    private Stream<String> discoverClasses(Collection<Location> locations) {
+        return new MemberAnnotationScanner(ArchTest.class).findClassesWithAnnotatedMembers(locations).stream();
     }
 
-    private Predicate<JavaClass> isAllowedBy(EngineDiscoveryRequest discoveryRequest) {
+    private Predicate<String> isAllowedBy(EngineDiscoveryRequest discoveryRequest) {
         List<Predicate<String>> filters = Stream
                 .concat(discoveryRequest.getFiltersByType(ClassNameFilter.class).stream(),
                         discoveryRequest.getFiltersByType(PackageNameFilter.class).stream())
                 .map(Filter::toPredicate)
                 .collect(toList());
 
-        return javaClass -> filters.stream().allMatch(p -> p.test(javaClass.getName()));
-    }
-
-    private boolean isArchUnitTestCandidate(JavaClass javaClass) {
-        return javaClass.getAllMembers().stream().anyMatch(m -> m.isAnnotatedWith(ArchTest.class));
+        return className -> filters.stream().allMatch(p -> p.test(className));
     }
 
     @MayResolveTypesViaReflection(reason = "Within the ArchUnitTestEngine we may resolve types via reflection, since they are needed anyway")
-    private Stream<Class<?>> safelyReflect(JavaClass javaClass) {
+    private Stream<Class<?>> safelyLoad(String className) {
         try {
-            return Stream.of(javaClass.reflect());
-        } catch (NoClassDefFoundError | RuntimeException e) {
+            return Stream.of(Class.forName(className, false, getCurrentClassLoader(getClass())));
+        } catch (ClassNotFoundException | LinkageError | RuntimeException e) {
             return Stream.empty();
         }
     }
@@ -206,6 +210,13 @@ public final class ArchUnitTestEngine extends HierarchicalTestEngine<ArchUnitEng
         }
     }
 
+    @Override
+    protected HierarchicalTestExecutorService createExecutorService(ExecutionRequest request) {
+        return ParallelExecution.isEnabled()
+                ? new ForkJoinPoolHierarchicalTestExecutorService(new ArchUnitParallelExecutionConfiguration(ParallelExecution.getParallelism()))
+                : super.createExecutorService(request);
+    }
+
     @Override
     protected ArchUnitEngineExecutionContext createExecutionContext(ExecutionRequest request) {
         return new ArchUnitEngineExecutionContext();
@@ -218,15 +229,4 @@ public final class ArchUnitTestEngine extends HierarchicalTestEngine<ArchUnitEng
             return cache;
         }
     }
-
-    static class NoOpClassResolver implements ClassResolver {
-        @Override
-        public void setClassUriImporter(ClassUriImporter classUriImporter) {
-        }
-
-        @Override
-        public Optional<JavaClass> tryResolve(String typeName) {
-            return Optional.empty();
-        }
-    }
 }
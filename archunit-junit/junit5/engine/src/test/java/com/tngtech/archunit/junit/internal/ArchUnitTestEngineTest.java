@@ -1210,6 +1210,38 @@ class ArchUnitTestEngineTest {
         }
     }
 
+    @Nested
+    class ExecutesConcurrently {
+        @BeforeEach
+        void enableParallelExecution() {
+            ArchConfiguration.get().setProperty(ParallelExecution.JUNIT_PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME, "true");
+        }
+
+        @Test
+        void rule_library_with_violation() {
+            simulateCachedClassesForTest(SimpleRuleLibrary.class, UnwantedClass.CLASS_VIOLATING_RULES);
+
+            EngineExecutionTestListener testListener = execute(engineId, SimpleRuleLibrary.class);
+
+            getExpectedIdsForSimpleRuleLibrary(engineId).forEach(testId ->
+                    testListener.verifyViolation(testId, UnwantedClass.CLASS_VIOLATING_RULES.getSimpleName()));
+        }
+
+        @Test
+        void rule_library_including_the_same_rules_several_times() {
+            simulateCachedClassesForTest(ComplexRuleLibrary.class, UnwantedClass.CLASS_SATISFYING_RULES);
+
+            EngineExecutionTestListener testListener = execute(engineId, ComplexRuleLibrary.class);
+
+            getExpectedIdsForComplexRuleLibrary(engineId).forEach(testListener::verifySuccessful);
+        }
+
+        @AfterEach
+        void resetConfiguration() {
+            ArchConfiguration.get().reset();
+        }
+    }
+
     @Nested
     class GeneratesDisplayName {
         @Test
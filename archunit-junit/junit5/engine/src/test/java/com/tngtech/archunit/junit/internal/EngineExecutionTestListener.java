@@ -15,15 +15,17 @@ import org.junit.platform.engine.TestExecutionResult;
 import org.junit.platform.engine.UniqueId;
 import org.junit.platform.engine.reporting.ReportEntry;
 
+import static java.util.Collections.synchronizedList;
 import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.platform.engine.TestExecutionResult.Status.FAILED;
 import static org.junit.platform.engine.TestExecutionResult.Status.SUCCESSFUL;
 
 class EngineExecutionTestListener implements EngineExecutionListener {
-    private final List<TestDescriptor> startedTests = new ArrayList<>();
-    private final List<FinishedTest> finishedTests = new ArrayList<>();
-    private final List<SkippedTest> skippedTests = new ArrayList<>();
+    // tests might be executed concurrently
+    private final List<TestDescriptor> startedTests = synchronizedList(new ArrayList<>());
+    private final List<FinishedTest> finishedTests = synchronizedList(new ArrayList<>());
+    private final List<SkippedTest> skippedTests = synchronizedList(new ArrayList<>());
 
     @Override
     public void dynamicTestRegistered(TestDescriptor testDescriptor) {
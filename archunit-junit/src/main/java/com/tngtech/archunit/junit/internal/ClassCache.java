@@ -66,6 +66,7 @@ class ClassCache {
                     return new LazyJavaClasses(key.locations, key.importOptionTypes);
                 }
             });
+    private final Map<Class<?>, LazyJavaClasses> lazyClassesByTest = new ConcurrentHashMap<>();
 
     @SuppressWarnings("FieldMayBeFinal") // We want to change this in tests
     private CacheClassFileImporter cacheClassFileImporter = new CacheClassFileImporter();
@@ -78,18 +79,24 @@ class ClassCache {
             return cachedByTest.get(testClass);
         }
 
-        LocationsKey locations = RequestedLocations.by(classAnalysisRequest, testClass).asKey();
-
-        JavaClasses classes = classAnalysisRequest.getCacheMode() == FOREVER
-                ? cachedByLocations.getUnchecked(locations).get()
-                : new LazyJavaClasses(locations.locations, locations.importOptionTypes).get();
+        // the rules of a test class might be checked concurrently, but must nevertheless share one import
+        JavaClasses classes = lazyClassesByTest.computeIfAbsent(testClass, __ -> getLazyJavaClasses(testClass, classAnalysisRequest)).get();
 
         cachedByTest.put(testClass, classes);
         return classes;
     }
 
+    private LazyJavaClasses getLazyJavaClasses(Class<?> testClass, ClassAnalysisRequest classAnalysisRequest) {
+        LocationsKey locations = RequestedLocations.by(classAnalysisRequest, testClass).asKey();
+
+        return classAnalysisRequest.getCacheMode() == FOREVER
+                ? cachedByLocations.getUnchecked(locations)
+                : new LazyJavaClasses(locations.locations, locations.importOptionTypes);
+    }
+
     void clear(Class<?> testClass) {
         cachedByTest.remove(testClass);
+        lazyClassesByTest.remove(testClass);
     }
 
     private class LazyJavaClasses {
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2014-2023 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.junit.internal;
+
+import com.tngtech.archunit.ArchConfiguration;
+
+final class ParallelExecution {
+
+    static final String JUNIT_PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME = "junit.parallelExecution.enabled";
+    static final String JUNIT_PARALLEL_EXECUTION_PARALLELISM_PROPERTY_NAME = "junit.parallelExecution.parallelism";
+
+    private ParallelExecution() {
+    }
+
+    static boolean isEnabled() {
+        String enabled = ArchConfiguration.get()
+                .getPropertyOrDefault(JUNIT_PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME, Boolean.FALSE.toString());
+        return Boolean.parseBoolean(enabled);
+    }
+
+    /**
+     * @return the number of rules to check concurrently, by default the number of available processors
+     */
+    static int getParallelism() {
+        String parallelism = ArchConfiguration.get()
+                .getPropertyOrDefault(JUNIT_PARALLEL_EXECUTION_PARALLELISM_PROPERTY_NAME, String.valueOf(Runtime.getRuntime().availableProcessors()));
+        return Math.max(1, Integer.parseInt(parallelism));
+    }
+}
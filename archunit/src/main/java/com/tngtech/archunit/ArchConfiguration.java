@@ -53,6 +53,10 @@ public final class ArchConfiguration {
     static final String CLASS_RESOLVER_ARGS = "classResolver.args";
     @Internal
     public static final String ENABLE_MD5_IN_CLASS_SOURCES = "enableMd5InClassSources";
+    @Internal
+    public static final String ENABLE_PARALLEL_IMPORT = "enableParallelImport";
+    @Internal
+    public static final String ENABLE_PARALLEL_RULE_EVALUATION = "enableParallelRuleEvaluation";
     private static final String EXTENSION_PREFIX = "extension";
 
     private static final Logger LOG = LoggerFactory.getLogger(ArchConfiguration.class);
@@ -124,6 +128,46 @@ public final class ArchConfiguration {
         properties.setProperty(ENABLE_MD5_IN_CLASS_SOURCES, String.valueOf(enabled));
     }
 
+    /**
+     * @return true, if class files should be parsed concurrently during the import. The resulting {@link com.tngtech.archunit.core.domain.JavaClasses}
+     *         will be the same as for a sequential import.
+     * @see #setParallelImportEnabled(boolean)
+     */
+    @PublicAPI(usage = ACCESS)
+    public boolean parallelImportEnabled() {
+        return Boolean.parseBoolean(properties.getProperty(ENABLE_PARALLEL_IMPORT));
+    }
+
+    /**
+     * @param enabled Whether class files should be parsed concurrently by a pool of worker threads
+     *                (one per available processor) during the import
+     * @see #parallelImportEnabled()
+     */
+    @PublicAPI(usage = ACCESS)
+    public void setParallelImportEnabled(boolean enabled) {
+        properties.setProperty(ENABLE_PARALLEL_IMPORT, String.valueOf(enabled));
+    }
+
+    /**
+     * @return true, if rules should check their objects concurrently, as long as their
+     *         {@link com.tngtech.archunit.lang.ArchCondition ArchCondition} {@link com.tngtech.archunit.lang.ArchCondition#supportsParallelEvaluation() supports} it.
+     *         The reported violations will be the same as for a sequential evaluation.
+     * @see #setParallelRuleEvaluationEnabled(boolean)
+     */
+    @PublicAPI(usage = ACCESS)
+    public boolean parallelRuleEvaluationEnabled() {
+        return Boolean.parseBoolean(properties.getProperty(ENABLE_PARALLEL_RULE_EVALUATION));
+    }
+
+    /**
+     * @param enabled Whether rules should check their objects concurrently within the common {@link java.util.concurrent.ForkJoinPool}
+     * @see #parallelRuleEvaluationEnabled()
+     */
+    @PublicAPI(usage = ACCESS)
+    public void setParallelRuleEvaluationEnabled(boolean enabled) {
+        properties.setProperty(ENABLE_PARALLEL_RULE_EVALUATION, String.valueOf(enabled));
+    }
+
     @PublicAPI(usage = ACCESS)
     public Optional<String> getClassResolver() {
         return Optional.ofNullable(properties.getProperty(CLASS_RESOLVER));
@@ -328,7 +372,9 @@ public final class ArchConfiguration {
     private static class PropertiesOverwritableBySystemProperties {
         private static final Properties PROPERTY_DEFAULTS = createProperties(ImmutableMap.of(
                 RESOLVE_MISSING_DEPENDENCIES_FROM_CLASS_PATH, Boolean.TRUE.toString(),
-                ENABLE_MD5_IN_CLASS_SOURCES, Boolean.FALSE.toString()
+                ENABLE_MD5_IN_CLASS_SOURCES, Boolean.FALSE.toString(),
+                ENABLE_PARALLEL_IMPORT, Boolean.FALSE.toString(),
+                ENABLE_PARALLEL_RULE_EVALUATION, Boolean.FALSE.toString()
         ));
 
         private final Properties baseProperties;
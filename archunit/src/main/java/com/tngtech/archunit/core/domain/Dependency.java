@@ -27,6 +27,7 @@ import com.tngtech.archunit.PublicAPI;
 import com.tngtech.archunit.base.ChainableFunction;
 import com.tngtech.archunit.base.DescribedPredicate;
 import com.tngtech.archunit.base.HasDescription;
+import com.tngtech.archunit.core.domain.DependencyGraph.DependencyType;
 import com.tngtech.archunit.core.domain.properties.HasName;
 import com.tngtech.archunit.core.domain.properties.HasOwner;
 import com.tngtech.archunit.core.domain.properties.HasSourceCodeLocation;
@@ -60,10 +61,11 @@ public final class Dependency implements HasDescription, Comparable<Dependency>,
     private final JavaClass targetClass;
     private final int lineNumber;
     private final String description;
+    private final DependencyType type;
     private final SourceCodeLocation sourceCodeLocation;
     private final int hashCode;
 
-    private Dependency(JavaClass originClass, JavaClass targetClass, int lineNumber, String description) {
+    private Dependency(JavaClass originClass, JavaClass targetClass, int lineNumber, String description, DependencyType type) {
         checkArgument(!originClass.equals(targetClass) || targetClass.isPrimitive(),
                 "Tried to create illegal dependency '%s' (%s -> %s), this is likely a bug!",
                 description, originClass.getSimpleName(), targetClass.getSimpleName());
@@ -72,6 +74,7 @@ public final class Dependency implements HasDescription, Comparable<Dependency>,
         this.targetClass = targetClass;
         this.lineNumber = lineNumber;
         this.description = description;
+        this.type = type;
         this.sourceCodeLocation = SourceCodeLocation.of(originClass, lineNumber);
         hashCode = Objects.hash(originClass, targetClass, lineNumber, description);
     }
@@ -80,8 +83,10 @@ public final class Dependency implements HasDescription, Comparable<Dependency>,
         JavaClass originOwner = access.getOriginOwner();
         JavaClass targetOwner = access.getTargetOwner();
         ImmutableSet.Builder<Dependency> dependencies = ImmutableSet.<Dependency>builder()
-                .addAll(createComponentTypeDependencies(originOwner, access.getOrigin().getDescription(), targetOwner, access.getSourceCodeLocation()));
-        dependencies.addAll(asSet(tryCreateDependency(originOwner, targetOwner, access.getDescription(), access.getLineNumber())));
+                .addAll(createComponentTypeDependencies(
+                        originOwner, access.getOrigin().getDescription(), targetOwner, access.getSourceCodeLocation(), DependencyType.MEMBER_ACCESS));
+        dependencies.addAll(asSet(tryCreateDependency(
+                originOwner, targetOwner, access.getDescription(), access.getLineNumber(), DependencyType.MEMBER_ACCESS)));
         return dependencies.build();
     }
 
@@ -97,7 +102,7 @@ public final class Dependency implements HasDescription, Comparable<Dependency>,
         String dependencyDescription = originDescription + " " + dependencyType + " " + targetType + " " + targetDescription;
 
         String description = dependencyDescription + " in " + origin.getSourceCodeLocation();
-        Optional<Dependency> result = tryCreateDependency(origin, targetSupertype, description, 0);
+        Optional<Dependency> result = tryCreateDependency(origin, targetSupertype, description, 0, DependencyType.INHERITANCE);
 
         if (!result.isPresent()) {
             throw new IllegalStateException(String.format("Tried to create illegal inheritance dependency '%s' (%s -> %s), this is likely a bug!",
@@ -107,67 +112,67 @@ public final class Dependency implements HasDescription, Comparable<Dependency>,
     }
 
     static Set<Dependency> tryCreateFromField(JavaField field) {
-        return tryCreateDependency(field, "has type", field.getRawType());
+        return tryCreateDependency(field, "has type", field.getRawType(), DependencyType.MEMBER_TYPE);
     }
 
     static Set<Dependency> tryCreateFromReturnType(JavaMethod method) {
-        return tryCreateDependency(method, "has return type", method.getRawReturnType());
+        return tryCreateDependency(method, "has return type", method.getRawReturnType(), DependencyType.MEMBER_TYPE);
     }
 
     static Set<Dependency> tryCreateFromParameter(JavaCodeUnit codeUnit, JavaClass parameter) {
-        return tryCreateDependency(codeUnit, "has parameter of type", parameter);
+        return tryCreateDependency(codeUnit, "has parameter of type", parameter, DependencyType.MEMBER_TYPE);
     }
 
     static Set<Dependency> tryCreateFromThrowsDeclaration(ThrowsDeclaration<? extends JavaCodeUnit> declaration) {
-        return tryCreateDependency(declaration.getLocation(), "throws type", declaration.getRawType());
+        return tryCreateDependency(declaration.getLocation(), "throws type", declaration.getRawType(), DependencyType.MEMBER_TYPE);
     }
 
     static Set<Dependency> tryCreateFromInstanceofCheck(InstanceofCheck instanceofCheck) {
         return tryCreateDependency(
                 instanceofCheck.getOwner(), "checks instanceof",
-                instanceofCheck.getRawType(), instanceofCheck.getSourceCodeLocation());
+                instanceofCheck.getRawType(), instanceofCheck.getSourceCodeLocation(), DependencyType.INSTANCEOF_CHECK);
     }
 
     static Set<Dependency> tryCreateFromReferencedClassObject(ReferencedClassObject referencedClassObject) {
         return tryCreateDependency(
                 referencedClassObject.getOwner(), "references class object",
-                referencedClassObject.getRawType(), referencedClassObject.getSourceCodeLocation());
+                referencedClassObject.getRawType(), referencedClassObject.getSourceCodeLocation(), DependencyType.CLASS_OBJECT_REFERENCE);
     }
 
     static Set<Dependency> tryCreateFromAnnotation(JavaAnnotation<?> target) {
         Origin origin = findSuitableOrigin(target, target.getAnnotatedElement());
-        return tryCreateDependency(origin, "is annotated with", target.getRawType());
+        return tryCreateDependency(origin, "is annotated with", target.getRawType(), DependencyType.ANNOTATION);
     }
 
     static Set<Dependency> tryCreateFromAnnotationMember(JavaAnnotation<?> annotation, JavaClass memberType) {
         Origin origin = findSuitableOrigin(annotation, annotation.getAnnotatedElement());
-        return tryCreateDependency(origin, "has annotation member of type", memberType);
+        return tryCreateDependency(origin, "has annotation member of type", memberType, DependencyType.ANNOTATION);
     }
 
     static Set<Dependency> tryCreateFromTypeParameter(JavaTypeVariable<?> typeParameter, JavaClass typeParameterDependency) {
         String dependencyType = "has type parameter '" + typeParameter.getName() + "' depending on";
         Origin origin = findSuitableOrigin(typeParameter, typeParameter.getOwner());
-        return tryCreateDependency(origin, dependencyType, typeParameterDependency);
+        return tryCreateDependency(origin, dependencyType, typeParameterDependency, DependencyType.GENERIC_TYPE_ARGUMENT);
     }
 
     static Set<Dependency> tryCreateFromGenericSuperclassTypeArguments(JavaClass originClass, JavaType superclass, JavaClass typeArgumentDependency) {
-        return tryCreateDependency(originClass, genericDependencyType("superclass", superclass), typeArgumentDependency);
+        return tryCreateDependency(originClass, genericDependencyType("superclass", superclass), typeArgumentDependency, DependencyType.GENERIC_TYPE_ARGUMENT);
     }
 
     static Set<Dependency> tryCreateFromGenericInterfaceTypeArgument(JavaClass originClass, JavaType genericInterface, JavaClass typeArgumentDependency) {
-        return tryCreateDependency(originClass, genericDependencyType("interface", genericInterface), typeArgumentDependency);
+        return tryCreateDependency(originClass, genericDependencyType("interface", genericInterface), typeArgumentDependency, DependencyType.GENERIC_TYPE_ARGUMENT);
     }
 
     static Set<Dependency> tryCreateFromGenericFieldTypeArgument(JavaField origin, JavaClass typeArgumentDependency) {
-        return tryCreateDependency(origin, genericDependencyType("type", origin.getType()), typeArgumentDependency);
+        return tryCreateDependency(origin, genericDependencyType("type", origin.getType()), typeArgumentDependency, DependencyType.GENERIC_TYPE_ARGUMENT);
     }
 
     static Set<Dependency> tryCreateFromGenericMethodReturnTypeArgument(JavaMethod origin, JavaClass typeArgumentDependency) {
-        return tryCreateDependency(origin, genericDependencyType("return type", origin.getReturnType()), typeArgumentDependency);
+        return tryCreateDependency(origin, genericDependencyType("return type", origin.getReturnType()), typeArgumentDependency, DependencyType.GENERIC_TYPE_ARGUMENT);
     }
 
     static Set<Dependency> tryCreateFromGenericCodeUnitParameterTypeArgument(JavaCodeUnit origin, JavaType parameterType, JavaClass typeArgumentDependency) {
-        return tryCreateDependency(origin, genericDependencyType("parameter type", parameterType), typeArgumentDependency);
+        return tryCreateDependency(origin, genericDependencyType("parameter type", parameterType), typeArgumentDependency, DependencyType.GENERIC_TYPE_ARGUMENT);
     }
 
     private static String genericDependencyType(String genericTypeDescription, JavaType genericType) {
@@ -190,36 +195,36 @@ public final class Dependency implements HasDescription, Comparable<Dependency>,
         throw new IllegalStateException("Could not find suitable dependency origin for " + dependencyCause);
     }
 
-    private static Set<Dependency> tryCreateDependency(JavaClass origin, String dependencyType, JavaClass targetClass) {
-        return tryCreateDependency(origin, origin.getDescription(), dependencyType, targetClass, origin.getSourceCodeLocation());
+    private static Set<Dependency> tryCreateDependency(JavaClass origin, String dependencyType, JavaClass targetClass, DependencyType type) {
+        return tryCreateDependency(origin, origin.getDescription(), dependencyType, targetClass, origin.getSourceCodeLocation(), type);
     }
 
     private static <T extends HasOwner<JavaClass> & HasDescription> Set<Dependency> tryCreateDependency(
-            T origin, String dependencyType, JavaClass targetClass) {
+            T origin, String dependencyType, JavaClass targetClass, DependencyType type) {
 
-        return tryCreateDependency(origin, dependencyType, targetClass, origin.getOwner().getSourceCodeLocation());
+        return tryCreateDependency(origin, dependencyType, targetClass, origin.getOwner().getSourceCodeLocation(), type);
     }
 
     private static <T extends HasOwner<JavaClass> & HasDescription> Set<Dependency> tryCreateDependency(
-            T origin, String dependencyType, JavaClass targetClass, SourceCodeLocation sourceCodeLocation) {
+            T origin, String dependencyType, JavaClass targetClass, SourceCodeLocation sourceCodeLocation, DependencyType type) {
 
-        return tryCreateDependency(origin.getOwner(), origin.getDescription(), dependencyType, targetClass, sourceCodeLocation);
+        return tryCreateDependency(origin.getOwner(), origin.getDescription(), dependencyType, targetClass, sourceCodeLocation, type);
     }
 
-    private static Set<Dependency> tryCreateDependency(
-            JavaClass originClass, String originDescription, String dependencyType, JavaClass targetClass, SourceCodeLocation sourceCodeLocation) {
+    private static Set<Dependency> tryCreateDependency(JavaClass originClass, String originDescription, String dependencyType,
+            JavaClass targetClass, SourceCodeLocation sourceCodeLocation, DependencyType type) {
 
         ImmutableSet.Builder<Dependency> dependencies = ImmutableSet.<Dependency>builder()
-                .addAll(createComponentTypeDependencies(originClass, originDescription, targetClass, sourceCodeLocation));
+                .addAll(createComponentTypeDependencies(originClass, originDescription, targetClass, sourceCodeLocation, type));
         String targetDescription = bracketFormat(targetClass.getName());
         String dependencyDescription = originDescription + " " + dependencyType + " " + targetDescription;
         String description = dependencyDescription + " in " + sourceCodeLocation;
-        dependencies.addAll(asSet(tryCreateDependency(originClass, targetClass, description, sourceCodeLocation.getLineNumber())));
+        dependencies.addAll(asSet(tryCreateDependency(originClass, targetClass, description, sourceCodeLocation.getLineNumber(), type)));
         return dependencies.build();
     }
 
-    private static Set<Dependency> createComponentTypeDependencies(
-            JavaClass originClass, String originDescription, JavaClass targetClass, SourceCodeLocation sourceCodeLocation) {
+    private static Set<Dependency> createComponentTypeDependencies(JavaClass originClass, String originDescription,
+            JavaClass targetClass, SourceCodeLocation sourceCodeLocation, DependencyType type) {
 
         ImmutableSet.Builder<Dependency> result = ImmutableSet.builder();
         Optional<JavaClass> componentType = targetClass.tryGetComponentType();
@@ -227,17 +232,18 @@ public final class Dependency implements HasDescription, Comparable<Dependency>,
             String componentTypeTargetDescription = bracketFormat(componentType.get().getName());
             String componentTypeDependencyDescription = originDescription + " depends on component type " + componentTypeTargetDescription;
             String componentTypeDescription = componentTypeDependencyDescription + " in " + sourceCodeLocation;
-            result.addAll(asSet(tryCreateDependency(originClass, componentType.get(), componentTypeDescription, sourceCodeLocation.getLineNumber())));
+            result.addAll(asSet(tryCreateDependency(originClass, componentType.get(), componentTypeDescription, sourceCodeLocation.getLineNumber(), type)));
             componentType = componentType.get().tryGetComponentType();
         }
         return result.build();
     }
 
-    private static Optional<Dependency> tryCreateDependency(JavaClass originClass, JavaClass targetClass, String description, int lineNumber) {
+    private static Optional<Dependency> tryCreateDependency(
+            JavaClass originClass, JavaClass targetClass, String description, int lineNumber, DependencyType type) {
         if (originClass.equals(targetClass) || targetClass.isPrimitive()) {
             return Optional.empty();
         }
-        return Optional.of(new Dependency(originClass, targetClass, lineNumber, description));
+        return Optional.of(new Dependency(originClass, targetClass, lineNumber, description, type));
     }
 
     private static String bracketFormat(String name) {
@@ -266,6 +272,10 @@ public final class Dependency implements HasDescription, Comparable<Dependency>,
         return sourceCodeLocation;
     }
 
+    DependencyType getType() {
+        return type;
+    }
+
     @Override
     @PublicAPI(usage = ACCESS)
     public int compareTo(Dependency o) {
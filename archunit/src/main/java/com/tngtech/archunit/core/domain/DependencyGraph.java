@@ -0,0 +1,536 @@
+/*
+ * Copyright 2014-2023 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.domain;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntConsumer;
+
+import com.google.common.collect.ImmutableList;
+import com.tngtech.archunit.PublicAPI;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkElementIndex;
+import static com.tngtech.archunit.PublicAPI.State.EXPERIMENTAL;
+import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
+
+/**
+ * A compact view of the {@link Dependency Dependencies} between a set of {@link JavaClasses}, meant to efficiently run
+ * graph algorithms (like reachability or cycle detection) on big code bases.
+ * <br><br>
+ * Every {@link JavaClass} is identified by a dense {@code int} id between {@code 0} (inclusive) and {@link #size()} (exclusive).
+ * All dependencies from one class to another class are combined into one edge, which knows the {@link DependencyType types}
+ * of the dependencies it consists of. The edges are stored in compressed sparse row format, i.e. as plain {@code int} arrays,
+ * so traversing the graph does not allocate any objects (besides the ones explicitly returned).
+ * <br><br>
+ * Note that the graph only contains the classes of the {@link JavaClasses} it has been created from, i.e. dependencies
+ * to any other classes (e.g. to classes of the JDK, if those have not been imported) are not part of the graph.
+ *
+ * @see JavaClasses#dependencyGraph()
+ */
+@PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+public final class DependencyGraph {
+    private final JavaClass[] classesById;
+    private final Map<JavaClass, Integer> idsByClass;
+    private final int[] outgoingOffsets;
+    private final int[] outgoingTargets;
+    private final byte[] outgoingTypes;
+    private final int[] incomingOffsets;
+    private final int[] incomingOrigins;
+    private final byte[] incomingTypes;
+
+    private DependencyGraph(JavaClass[] classesById, Map<JavaClass, Integer> idsByClass,
+            int[] outgoingOffsets, int[] outgoingTargets, byte[] outgoingTypes) {
+        this.classesById = classesById;
+        this.idsByClass = idsByClass;
+        this.outgoingOffsets = outgoingOffsets;
+        this.outgoingTargets = outgoingTargets;
+        this.outgoingTypes = outgoingTypes;
+        this.incomingOffsets = new int[classesById.length + 1];
+        this.incomingOrigins = new int[outgoingTargets.length];
+        this.incomingTypes = new byte[outgoingTargets.length];
+        transposeInto(incomingOffsets, incomingOrigins, incomingTypes);
+    }
+
+    // origins are visited in ascending order, thus the incoming edges of every class are sorted by origin as well
+    private void transposeInto(int[] offsets, int[] origins, byte[] types) {
+        for (int target : outgoingTargets) {
+            offsets[target + 1]++;
+        }
+        for (int id = 0; id < classesById.length; id++) {
+            offsets[id + 1] += offsets[id];
+        }
+        int[] nextPosition = Arrays.copyOf(offsets, classesById.length);
+        for (int origin = 0; origin < classesById.length; origin++) {
+            for (int edge = outgoingOffsets[origin]; edge < outgoingOffsets[origin + 1]; edge++) {
+                int position = nextPosition[outgoingTargets[edge]]++;
+                origins[position] = origin;
+                types[position] = outgoingTypes[edge];
+            }
+        }
+    }
+
+    /**
+     * @return The number of classes within this graph, i.e. all ids are between {@code 0} (inclusive) and this number (exclusive)
+     */
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public int size() {
+        return classesById.length;
+    }
+
+    /**
+     * @return The number of edges within this graph, where all dependencies from one class to another class count as one edge
+     */
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public int getNumberOfEdges() {
+        return outgoingTargets.length;
+    }
+
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public boolean contains(JavaClass javaClass) {
+        return idsByClass.containsKey(javaClass);
+    }
+
+    /**
+     * @param javaClass A class contained in this graph
+     * @return The id of the class within this graph
+     */
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public int getId(JavaClass javaClass) {
+        Integer id = idsByClass.get(javaClass);
+        checkArgument(id != null, "%s does not contain %s", getClass().getSimpleName(), javaClass.getName());
+        return id;
+    }
+
+    /**
+     * @param id The id of a class within this graph
+     * @return The class with this id
+     */
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public JavaClass getJavaClass(int id) {
+        return classesById[checkElementIndex(id, classesById.length)];
+    }
+
+    /**
+     * @param ids Ids of classes within this graph (e.g. the result of {@link #getTransitiveTargets(int)})
+     * @return The classes with the given ids, in the order of their ids
+     */
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public List<JavaClass> getJavaClasses(BitSet ids) {
+        ImmutableList.Builder<JavaClass> result = ImmutableList.builder();
+        for (int id = ids.nextSetBit(0); id >= 0; id = ids.nextSetBit(id + 1)) {
+            result.add(getJavaClass(id));
+        }
+        return result.build();
+    }
+
+    /**
+     * @return The number of classes the class with the given id directly depends on (i.e. its efferent coupling)
+     */
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public int getOutDegree(int id) {
+        checkElementIndex(id, classesById.length);
+        return outgoingOffsets[id + 1] - outgoingOffsets[id];
+    }
+
+    /**
+     * @return The number of classes directly depending on the class with the given id (i.e. its afferent coupling)
+     */
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public int getInDegree(int id) {
+        checkElementIndex(id, classesById.length);
+        return incomingOffsets[id + 1] - incomingOffsets[id];
+    }
+
+    /**
+     * Passes the ids of all classes the class with the given id directly depends on to the consumer, in ascending order.
+     */
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public void forEachTarget(int id, IntConsumer targetIdConsumer) {
+        forEachTarget(id, EnumSet.allOf(DependencyType.class), targetIdConsumer);
+    }
+
+    /**
+     * Like {@link #forEachTarget(int, IntConsumer)}, but only considers dependencies of the given types.
+     */
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public void forEachTarget(int id, Set<DependencyType> types, IntConsumer targetIdConsumer) {
+        forEachNeighbor(id, outgoingOffsets, outgoingTargets, outgoingTypes, maskOf(types), targetIdConsumer);
+    }
+
+    /**
+     * Passes the ids of all classes directly depending on the class with the given id to the consumer, in ascending order.
+     */
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public void forEachOrigin(int id, IntConsumer originIdConsumer) {
+        forEachOrigin(id, EnumSet.allOf(DependencyType.class), originIdConsumer);
+    }
+
+    /**
+     * Like {@link #forEachOrigin(int, IntConsumer)}, but only considers dependencies of the given types.
+     */
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public void forEachOrigin(int id, Set<DependencyType> types, IntConsumer originIdConsumer) {
+        forEachNeighbor(id, incomingOffsets, incomingOrigins, incomingTypes, maskOf(types), originIdConsumer);
+    }
+
+    private void forEachNeighbor(int id, int[] offsets, int[] neighbors, byte[] types, int typeMask, IntConsumer consumer) {
+        checkElementIndex(id, classesById.length);
+        for (int edge = offsets[id]; edge < offsets[id + 1]; edge++) {
+            if ((types[edge] & typeMask) != 0) {
+                consumer.accept(neighbors[edge]);
+            }
+        }
+    }
+
+    /**
+     * @return {@code true}, if the class with id {@code originId} directly depends on the class with id {@code targetId}
+     */
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public boolean dependsOn(int originId, int targetId) {
+        return findEdge(originId, targetId) >= 0;
+    }
+
+    /**
+     * @return The types of all dependencies from the class with id {@code originId} to the class with id {@code targetId},
+     *         an empty set if there is no such dependency
+     */
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public Set<DependencyType> getDependencyTypes(int originId, int targetId) {
+        int edge = findEdge(originId, targetId);
+        return edge >= 0 ? typesOf(outgoingTypes[edge]) : EnumSet.noneOf(DependencyType.class);
+    }
+
+    private int findEdge(int originId, int targetId) {
+        checkElementIndex(originId, classesById.length);
+        checkElementIndex(targetId, classesById.length);
+        int edge = Arrays.binarySearch(outgoingTargets, outgoingOffsets[originId], outgoingOffsets[originId + 1], targetId);
+        return Math.max(edge, -1);
+    }
+
+    /**
+     * @return The ids of all classes the class with the given id transitively depends on. The class itself is only
+     *         contained, if it is part of a dependency cycle.
+     */
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public BitSet getTransitiveTargets(int id) {
+        return getTransitiveTargets(id, EnumSet.allOf(DependencyType.class));
+    }
+
+    /**
+     * Like {@link #getTransitiveTargets(int)}, but only follows dependencies of the given types.
+     */
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public BitSet getTransitiveTargets(int id, Set<DependencyType> types) {
+        return reachableFrom(id, outgoingOffsets, outgoingTargets, outgoingTypes, maskOf(types));
+    }
+
+    /**
+     * @return The ids of all classes transitively depending on the class with the given id. The class itself is only
+     *         contained, if it is part of a dependency cycle.
+     */
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public BitSet getTransitiveOrigins(int id) {
+        return getTransitiveOrigins(id, EnumSet.allOf(DependencyType.class));
+    }
+
+    /**
+     * Like {@link #getTransitiveOrigins(int)}, but only follows dependencies of the given types.
+     */
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public BitSet getTransitiveOrigins(int id, Set<DependencyType> types) {
+        return reachableFrom(id, incomingOffsets, incomingOrigins, incomingTypes, maskOf(types));
+    }
+
+    private BitSet reachableFrom(int start, int[] offsets, int[] neighbors, byte[] types, int typeMask) {
+        checkElementIndex(start, classesById.length);
+        BitSet reached = new BitSet(classesById.length);
+        int[] queue = new int[classesById.length];
+        int head = 0;
+        int tail = 0;
+        int current = start;
+        while (true) {
+            for (int edge = offsets[current]; edge < offsets[current + 1]; edge++) {
+                int neighbor = neighbors[edge];
+                if ((types[edge] & typeMask) != 0 && !reached.get(neighbor)) {
+                    reached.set(neighbor);
+                    queue[tail++] = neighbor;
+                }
+            }
+            if (head == tail) {
+                return reached;
+            }
+            current = queue[head++];
+        }
+    }
+
+    /**
+     * Determines the strongly connected components of this graph, i.e. the maximal sets of classes where every class
+     * transitively depends on every other class of the set. Since a class never depends on itself,
+     * every such component with more than one class constitutes one or more dependency cycles,
+     * while all classes that are not part of any cycle are omitted.
+     *
+     * @return The ids of the classes of each component with more than one class, every array sorted ascending
+     */
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public List<int[]> getStronglyConnectedComponents() {
+        return getStronglyConnectedComponents(EnumSet.allOf(DependencyType.class));
+    }
+
+    /**
+     * Like {@link #getStronglyConnectedComponents()}, but only follows dependencies of the given types.
+     */
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public List<int[]> getStronglyConnectedComponents(Set<DependencyType> types) {
+        return new TarjanAlgorithm(maskOf(types)).run();
+    }
+
+    /**
+     * @return {@code true}, if there is any dependency cycle between the classes of this graph
+     */
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public boolean hasCycles() {
+        return !getStronglyConnectedComponents().isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{classes=" + size() + ", edges=" + getNumberOfEdges() + '}';
+    }
+
+    private static int maskOf(Set<DependencyType> types) {
+        int result = 0;
+        for (DependencyType type : types) {
+            result |= type.flag;
+        }
+        return result;
+    }
+
+    private static Set<DependencyType> typesOf(int mask) {
+        EnumSet<DependencyType> result = EnumSet.noneOf(DependencyType.class);
+        for (DependencyType type : DependencyType.values()) {
+            if ((mask & type.flag) != 0) {
+                result.add(type);
+            }
+        }
+        return result;
+    }
+
+    static DependencyGraph of(Collection<JavaClass> classes) {
+        JavaClass[] classesById = classes.toArray(new JavaClass[0]);
+        Map<JavaClass, Integer> idsByClass = new IdentityHashMap<>(classesById.length);
+        for (int id = 0; id < classesById.length; id++) {
+            idsByClass.put(classesById[id], id);
+        }
+
+        int[] offsets = new int[classesById.length + 1];
+        EdgeBuffer edges = new EdgeBuffer(classesById.length);
+        for (int origin = 0; origin < classesById.length; origin++) {
+            for (Dependency dependency : classesById[origin].getDirectDependenciesFromSelf()) {
+                Integer target = idsByClass.get(dependency.getTargetClass());
+                if (target != null) {
+                    edges.add(target, dependency.getType().flag);
+                }
+            }
+            edges.finishRow();
+            offsets[origin + 1] = edges.size;
+        }
+        return new DependencyGraph(classesById, idsByClass, offsets, edges.targets(), edges.types());
+    }
+
+    /**
+     * Collects the edges row by row, i.e. origin by origin, merging all dependencies to the same target into one edge.
+     */
+    private static class EdgeBuffer {
+        private final byte[] typesOfCurrentRow;
+        private int[] targets = new int[16];
+        private byte[] types = new byte[16];
+        private int rowStart = 0;
+        private int size = 0;
+
+        EdgeBuffer(int numberOfClasses) {
+            typesOfCurrentRow = new byte[numberOfClasses];
+        }
+
+        void add(int target, int typeFlag) {
+            if (typesOfCurrentRow[target] == 0) {
+                ensureCapacity(size + 1);
+                targets[size++] = target;
+            }
+            typesOfCurrentRow[target] |= (byte) typeFlag;
+        }
+
+        void finishRow() {
+            Arrays.sort(targets, rowStart, size);
+            for (int edge = rowStart; edge < size; edge++) {
+                types[edge] = typesOfCurrentRow[targets[edge]];
+                typesOfCurrentRow[targets[edge]] = 0;
+            }
+            rowStart = size;
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (capacity > targets.length) {
+                int newLength = Math.max(capacity, targets.length * 2);
+                targets = Arrays.copyOf(targets, newLength);
+                types = Arrays.copyOf(types, newLength);
+            }
+        }
+
+        int[] targets() {
+            return Arrays.copyOf(targets, size);
+        }
+
+        byte[] types() {
+            return Arrays.copyOf(types, size);
+        }
+    }
+
+    /**
+     * Iterative version of Tarjan's algorithm, so deep dependency chains cannot overflow the stack.
+     */
+    private class TarjanAlgorithm {
+        private final int typeMask;
+        private final int[] index = new int[classesById.length];
+        private final int[] lowLink = new int[classesById.length];
+        private final int[] nextEdge = new int[classesById.length];
+        private final BitSet onStack = new BitSet(classesById.length);
+        private final int[] stack = new int[classesById.length];
+        private final int[] callStack = new int[classesById.length];
+        private final List<int[]> components = new ArrayList<>();
+        private int stackSize = 0;
+        private int callStackSize = 0;
+        private int nextIndex = 0;
+
+        TarjanAlgorithm(int typeMask) {
+            this.typeMask = typeMask;
+            Arrays.fill(index, -1);
+        }
+
+        List<int[]> run() {
+            for (int root = 0; root < classesById.length; root++) {
+                if (index[root] < 0) {
+                    visitFrom(root);
+                }
+            }
+            return components;
+        }
+
+        private void visitFrom(int root) {
+            push(root);
+            while (callStackSize > 0) {
+                int current = callStack[callStackSize - 1];
+                if (nextEdge[current] < outgoingOffsets[current + 1]) {
+                    int edge = nextEdge[current]++;
+                    if ((outgoingTypes[edge] & typeMask) == 0) {
+                        continue;
+                    }
+                    int target = outgoingTargets[edge];
+                    if (index[target] < 0) {
+                        push(target);
+                    } else if (onStack.get(target)) {
+                        lowLink[current] = Math.min(lowLink[current], index[target]);
+                    }
+                } else {
+                    callStackSize--;
+                    if (callStackSize > 0) {
+                        int caller = callStack[callStackSize - 1];
+                        lowLink[caller] = Math.min(lowLink[caller], lowLink[current]);
+                    }
+                    if (lowLink[current] == index[current]) {
+                        popComponentOf(current);
+                    }
+                }
+            }
+        }
+
+        private void push(int id) {
+            index[id] = lowLink[id] = nextIndex++;
+            nextEdge[id] = outgoingOffsets[id];
+            stack[stackSize++] = id;
+            onStack.set(id);
+            callStack[callStackSize++] = id;
+        }
+
+        private void popComponentOf(int root) {
+            int start = stackSize;
+            do {
+                start--;
+                onStack.clear(stack[start]);
+            } while (stack[start] != root);
+
+            if (stackSize - start > 1) {
+                int[] component = Arrays.copyOfRange(stack, start, stackSize);
+                Arrays.sort(component);
+                components.add(component);
+            }
+            stackSize = start;
+        }
+    }
+
+    /**
+     * The types of {@link Dependency Dependencies} an edge of the {@link DependencyGraph} can consist of.
+     */
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public enum DependencyType {
+        /**
+         * A class extends another class or implements an interface
+         */
+        @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+        INHERITANCE,
+        /**
+         * A class accesses a field or calls/references a method or constructor of another class
+         */
+        @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+        MEMBER_ACCESS,
+        /**
+         * A field, method or constructor has the type of another class as field type, parameter type, return type
+         * or within its throws declaration
+         */
+        @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+        MEMBER_TYPE,
+        /**
+         * A class, field, method or constructor declares a type parameter or generic type argument depending on another class
+         */
+        @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+        GENERIC_TYPE_ARGUMENT,
+        /**
+         * A class or member is annotated with an annotation of another class, or references another class within
+         * the members of an annotation
+         */
+        @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+        ANNOTATION,
+        /**
+         * A class checks {@code instanceof} another class
+         */
+        @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+        INSTANCEOF_CHECK,
+        /**
+         * A class references the class object of another class (e.g. {@code Example.class})
+         */
+        @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+        CLASS_OBJECT_REFERENCE;
+
+        private final int flag = 1 << ordinal();
+    }
+}
@@ -26,6 +26,8 @@ import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
 import com.google.common.collect.ImmutableBiMap;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
 import com.google.common.collect.Maps;
 import com.tngtech.archunit.Internal;
 import com.tngtech.archunit.base.ArchUnitException.ReflectionException;
@@ -79,6 +81,7 @@ public interface JavaClassDescriptor {
                         return new ObjectClassDescriptor(typeName);
                     }
                 });
+        private static final Interner<String> packageNames = Interners.newWeakInterner();
         private static final ImmutableMap<String, Class<?>> primitiveClassesByName =
                 Maps.uniqueIndex(allPrimitiveTypes(), Class::getName);
         private static final ImmutableBiMap<String, Class<?>> primitiveClassesByDescriptor =
@@ -304,7 +307,8 @@ public interface JavaClassDescriptor {
 
         private static String createPackage(String fullName) {
             int packageEnd = fullName.lastIndexOf('.');
-            return packageEnd >= 0 ? fullName.substring(0, packageEnd) : "";
+            // many classes reside in the same package, so we only keep one instance of every package name
+            return packageEnd >= 0 ? packageNames.intern(fullName.substring(0, packageEnd)) : "";
         }
     }
 }
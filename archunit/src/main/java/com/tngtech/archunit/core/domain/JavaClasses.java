@@ -19,6 +19,7 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Iterables;
@@ -26,10 +27,12 @@ import com.tngtech.archunit.PublicAPI;
 import com.tngtech.archunit.base.DescribedIterable;
 import com.tngtech.archunit.base.DescribedPredicate;
 import com.tngtech.archunit.base.ForwardingCollection;
+import com.tngtech.archunit.base.Suppliers;
 import com.tngtech.archunit.core.domain.properties.CanOverrideDescription;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
+import static com.tngtech.archunit.PublicAPI.State.EXPERIMENTAL;
 import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
 import static java.util.stream.Collectors.toMap;
 
@@ -38,6 +41,7 @@ public final class JavaClasses extends ForwardingCollection<JavaClass> implement
     private final ImmutableMap<String, JavaClass> classes;
     private final JavaPackage defaultPackage;
     private final String description;
+    private final Supplier<DependencyGraph> dependencyGraph = Suppliers.memoize(() -> DependencyGraph.of(delegate()));
 
     private JavaClasses(JavaPackage defaultPackage, Map<String, JavaClass> classes) {
         this(defaultPackage, classes, "classes");
@@ -151,6 +155,17 @@ public final class JavaClasses extends ForwardingCollection<JavaClass> implement
         return defaultPackage;
     }
 
+    /**
+     * @return a compact graph of the dependencies between these classes, to efficiently analyze big code bases,
+     *         e.g. to determine all classes a class transitively depends on. The graph is created on the first call
+     *         and then reused.
+     * @see DependencyGraph
+     */
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public DependencyGraph dependencyGraph() {
+        return dependencyGraph.get();
+    }
+
     @Override
     public int hashCode() {
         return Objects.hash(classes.keySet(), description);
@@ -15,9 +15,12 @@
  */
 package com.tngtech.archunit.core.domain;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -25,6 +28,7 @@ import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import com.google.common.base.CharMatcher;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.tngtech.archunit.PublicAPI;
 
@@ -80,15 +84,19 @@ public final class PackageMatcher {
                     + "|" + nestedGroupRegex('[', ']', '['));
 
     private static final Set<Character> PACKAGE_CONTROL_SYMBOLS = ImmutableSet.of('*', '(', ')', '.', '|', '[', ']');
+    // '$' is not escaped when converting to regex, so it does not match itself literally
+    private static final CharMatcher NON_LITERAL_SYMBOLS = CharMatcher.anyOf("*()|[]$");
+    private static final String TWO_DOTS = "..";
+    private static final String ONE_STAR_CAPTURE_LITERAL = "(*)";
 
     private final String packageIdentifier;
-    private final Pattern packagePattern;
+    private final CompiledPackageIdentifier compiledPackageIdentifier;
 
     private PackageMatcher(String packageIdentifier) {
         validate(packageIdentifier);
 
         this.packageIdentifier = packageIdentifier;
-        this.packagePattern = Pattern.compile(convertToRegex(packageIdentifier));
+        this.compiledPackageIdentifier = compile(packageIdentifier);
     }
 
     private void validate(String packageIdentifier) {
@@ -140,6 +148,40 @@ public final class PackageMatcher {
         }
     }
 
+    /**
+     * The most common package identifiers can be evaluated by simple string comparisons, which is a lot cheaper
+     * than evaluating the respective regex. These shapes must behave exactly like the regex created by
+     * {@link #convertToRegex(String)}, i.e. '..' only bridges over (possibly empty) packages consisting of word characters.
+     * All other package identifiers are evaluated as regex.
+     */
+    private CompiledPackageIdentifier compile(String packageIdentifier) {
+        if (packageIdentifier.endsWith(ONE_STAR_CAPTURE_LITERAL) || packageIdentifier.endsWith(ONE_STAR_CAPTURE_LITERAL + TWO_DOTS)) {
+            String prefix = packageIdentifier.substring(0, packageIdentifier.lastIndexOf(ONE_STAR_CAPTURE_LITERAL));
+            if (prefix.endsWith(".") && isPlainPackage(prefix)) {
+                return new CapturingSubpackage(prefix, packageIdentifier.endsWith(TWO_DOTS));
+            }
+        }
+        if (isPlainPackage(packageIdentifier)) {
+            return new ExactPackage(packageIdentifier);
+        }
+        if (packageIdentifier.endsWith(TWO_DOTS)) {
+            String withoutTrailingDots = packageIdentifier.substring(0, packageIdentifier.length() - TWO_DOTS.length());
+            if (withoutTrailingDots.startsWith(TWO_DOTS)) {
+                String infix = withoutTrailingDots.substring(TWO_DOTS.length());
+                if (!infix.isEmpty() && isPlainPackage(infix)) {
+                    return new InfixPackage(infix);
+                }
+            } else if (!withoutTrailingDots.isEmpty() && isPlainPackage(withoutTrailingDots)) {
+                return new PackageWithSubpackages(withoutTrailingDots);
+            }
+        }
+        return new RegexPackageIdentifier(Pattern.compile(convertToRegex(packageIdentifier)));
+    }
+
+    private static boolean isPlainPackage(String packageIdentifier) {
+        return NON_LITERAL_SYMBOLS.matchesNoneOf(packageIdentifier) && !packageIdentifier.contains(TWO_DOTS);
+    }
+
     private String convertToRegex(String packageIdentifier) {
         return packageIdentifier
                 .replaceAll("\\[(.*?)]", "(?:$1)") // replacing all '[..|..]' with '(?:..|..)'
@@ -164,7 +206,7 @@ public final class PackageMatcher {
 
     @PublicAPI(usage = ACCESS)
     public boolean matches(String aPackage) {
-        return packagePattern.matcher(aPackage).matches();
+        return compiledPackageIdentifier.matches(aPackage);
     }
 
     /**
@@ -178,8 +220,7 @@ public final class PackageMatcher {
      */
     @PublicAPI(usage = ACCESS)
     public Optional<Result> match(String aPackage) {
-        Matcher matcher = packagePattern.matcher(aPackage);
-        return matcher.matches() ? Optional.of(new Result(matcher)) : Optional.empty();
+        return compiledPackageIdentifier.match(aPackage);
     }
 
     @Override
@@ -191,22 +232,197 @@ public final class PackageMatcher {
         return "\\" + outerOpeningChar + "[^" + outerClosingChar + "]*\\" + nestedOpeningChar;
     }
 
+    private static boolean isWordCharacter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+    }
+
+    /**
+     * @return true, if the part of {@code aPackage} starting at {@code from} is a valid replacement for a trailing '..',
+     * i.e. it is empty or a '.' followed by arbitrary packages (compare {@link #TWO_DOTS_REGEX})
+     */
+    private static boolean isArbitrarySubpackage(String aPackage, int from) {
+        return from == aPackage.length()
+                || (aPackage.charAt(from) == '.' && consistsOfPackages(aPackage, from + 1, aPackage.length()));
+    }
+
+    /**
+     * @return true, if the part of {@code aPackage} up to {@code to} is a valid replacement for a leading '..',
+     * i.e. it is empty or arbitrary packages followed by a '.' (compare {@link #TWO_DOTS_REGEX})
+     */
+    private static boolean isArbitraryParentPackage(String aPackage, int to) {
+        return to == 0
+                || (aPackage.charAt(to - 1) == '.' && consistsOfPackages(aPackage, 0, to));
+    }
+
+    private static boolean consistsOfPackages(String aPackage, int from, int to) {
+        for (int i = from; i < to; i++) {
+            char c = aPackage.charAt(i);
+            boolean validDot = c == '.' && (i == 0 || (i > from && aPackage.charAt(i - 1) != '.'));
+            if (!validDot && !isWordCharacter(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private abstract static class CompiledPackageIdentifier {
+        abstract boolean matches(String aPackage);
+
+        Optional<Result> match(String aPackage) {
+            return matches(aPackage) ? Optional.of(new Result(ImmutableList.of(aPackage))) : Optional.empty();
+        }
+    }
+
+    /**
+     * E.g. {@code 'com.myapp'}
+     */
+    private static class ExactPackage extends CompiledPackageIdentifier {
+        private final String packageName;
+
+        ExactPackage(String packageName) {
+            this.packageName = packageName;
+        }
+
+        @Override
+        boolean matches(String aPackage) {
+            return packageName.equals(aPackage);
+        }
+    }
+
+    /**
+     * E.g. {@code 'com.myapp..'}
+     */
+    private static class PackageWithSubpackages extends CompiledPackageIdentifier {
+        private final String packageName;
+
+        PackageWithSubpackages(String packageName) {
+            this.packageName = packageName;
+        }
+
+        @Override
+        boolean matches(String aPackage) {
+            return aPackage.startsWith(packageName) && isArbitrarySubpackage(aPackage, packageName.length());
+        }
+    }
+
+    /**
+     * E.g. {@code '..service..'}
+     */
+    private static class InfixPackage extends CompiledPackageIdentifier {
+        private final String infix;
+
+        InfixPackage(String infix) {
+            this.infix = infix;
+        }
+
+        @Override
+        boolean matches(String aPackage) {
+            for (int index = aPackage.indexOf(infix); index >= 0; index = aPackage.indexOf(infix, index + 1)) {
+                if (isArbitraryParentPackage(aPackage, index) && isArbitrarySubpackage(aPackage, index + infix.length())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * E.g. {@code 'com.myapp.(*)'} or {@code 'com.myapp.(*)..'}
+     */
+    private static class CapturingSubpackage extends CompiledPackageIdentifier {
+        private final String parentPackage;
+        private final boolean withSubpackages;
+
+        CapturingSubpackage(String parentPackage, boolean withSubpackages) {
+            this.parentPackage = parentPackage;
+            this.withSubpackages = withSubpackages;
+        }
+
+        @Override
+        boolean matches(String aPackage) {
+            return endOfCapturedGroup(aPackage) >= 0;
+        }
+
+        @Override
+        Optional<Result> match(String aPackage) {
+            int end = endOfCapturedGroup(aPackage);
+            return end >= 0
+                    ? Optional.of(new Result(ImmutableList.of(aPackage, aPackage.substring(parentPackage.length(), end))))
+                    : Optional.empty();
+        }
+
+        private int endOfCapturedGroup(String aPackage) {
+            if (!aPackage.startsWith(parentPackage)) {
+                return -1;
+            }
+            int end = parentPackage.length();
+            while (end < aPackage.length() && isWordCharacter(aPackage.charAt(end))) {
+                end++;
+            }
+            if (end == parentPackage.length()) {
+                return -1;
+            }
+            boolean restMatches = withSubpackages ? isArbitrarySubpackage(aPackage, end) : end == aPackage.length();
+            return restMatches ? end : -1;
+        }
+    }
+
+    private static class RegexPackageIdentifier extends CompiledPackageIdentifier {
+        // packages repeat heavily (e.g. for all classes of the same package), but we do not want to keep
+        // an unbounded number of results of arbitrary matchers in memory
+        private static final int MAX_CACHED_RESULTS = 1000;
+
+        private final Pattern packagePattern;
+        private final Map<String, Optional<Result>> cachedResults = new ConcurrentHashMap<>();
+
+        RegexPackageIdentifier(Pattern packagePattern) {
+            this.packagePattern = packagePattern;
+        }
+
+        @Override
+        boolean matches(String aPackage) {
+            return match(aPackage).isPresent();
+        }
+
+        @Override
+        Optional<Result> match(String aPackage) {
+            Optional<Result> result = cachedResults.get(aPackage);
+            if (result == null) {
+                Matcher matcher = packagePattern.matcher(aPackage);
+                result = matcher.matches() ? Optional.of(Result.of(matcher)) : Optional.empty();
+                if (cachedResults.size() < MAX_CACHED_RESULTS) {
+                    cachedResults.put(aPackage, result);
+                }
+            }
+            return result;
+        }
+    }
+
     @PublicAPI(usage = ACCESS)
     public static final class Result {
-        private final Matcher matcher;
+        // group 0 is the whole match, like for a regex Matcher
+        private final List<String> groups;
 
-        private Result(Matcher matcher) {
-            this.matcher = matcher;
+        private Result(List<String> groups) {
+            this.groups = groups;
+        }
+
+        private static Result of(Matcher matcher) {
+            List<String> groups = new ArrayList<>(matcher.groupCount() + 1);
+            for (int i = 0; i <= matcher.groupCount(); i++) {
+                groups.add(matcher.group(i));
+            }
+            return new Result(groups);
         }
 
         @PublicAPI(usage = ACCESS)
         public int getNumberOfGroups() {
-            return matcher.groupCount();
+            return groups.size() - 1;
         }
 
         @PublicAPI(usage = ACCESS)
         public String getGroup(int number) {
-            return matcher.group(number);
+            return groups.get(number);
         }
     }
 
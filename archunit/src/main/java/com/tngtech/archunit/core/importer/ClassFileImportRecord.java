@@ -315,6 +315,37 @@ class ClassFileImportRecord {
         classes.put(javaClass.getName(), javaClass);
     }
 
+    /**
+     * Adds everything recorded by {@code other} to this record. This is meant to combine records of class files that
+     * have been parsed independently, before any synthetic origins have been resolved.
+     */
+    void addAll(ClassFileImportRecord other) {
+        classes.putAll(other.classes);
+        other.superclassNamesByOwner.forEach(this::setSuperclass);
+        interfaceNamesByOwner.putAll(other.interfaceNamesByOwner);
+        typeParametersBuilderByOwner.putAll(other.typeParametersBuilderByOwner);
+        genericSuperclassBuilderByOwner.putAll(other.genericSuperclassBuilderByOwner);
+        genericInterfaceBuildersByOwner.putAll(other.genericInterfaceBuildersByOwner);
+        fieldBuildersByOwner.putAll(other.fieldBuildersByOwner);
+        methodBuildersByOwner.putAll(other.methodBuildersByOwner);
+        constructorBuildersByOwner.putAll(other.constructorBuildersByOwner);
+        other.staticInitializerBuildersByOwner.forEach(this::setStaticInitializer);
+        annotationsByOwner.putAll(other.annotationsByOwner);
+        annotationDefaultValuesByOwner.putAll(other.annotationDefaultValuesByOwner);
+        enclosingDeclarationsByOwner.addAll(other.enclosingDeclarationsByOwner);
+
+        rawFieldAccessRecords.addAll(other.rawFieldAccessRecords);
+        rawMethodCallRecords.addAll(other.rawMethodCallRecords);
+        rawConstructorCallRecords.addAll(other.rawConstructorCallRecords);
+        rawMethodReferenceRecords.addAll(other.rawMethodReferenceRecords);
+        rawConstructorReferenceRecords.addAll(other.rawConstructorReferenceRecords);
+        rawReferencedClassObjects.addAll(other.rawReferencedClassObjects);
+        rawInstanceofChecks.addAll(other.rawInstanceofChecks);
+        rawTryCatchBlocks.addAll(other.rawTryCatchBlocks);
+        syntheticLambdaAccessRecorder.addAll(other.syntheticLambdaAccessRecorder);
+        syntheticPrivateAccessRecorder.addAll(other.syntheticPrivateAccessRecorder);
+    }
+
     Map<String, JavaClass> getClasses() {
         return classes;
     }
@@ -391,6 +422,11 @@ class ClassFileImportRecord {
             innerClassNameToEnclosingCodeUnit.put(innerName, codeUnit);
         }
 
+        void addAll(EnclosingDeclarationsByInnerClasses other) {
+            other.innerClassNameToEnclosingClassName.forEach(this::registerEnclosingClass);
+            other.innerClassNameToEnclosingCodeUnit.forEach(this::registerEnclosingCodeUnit);
+        }
+
         Optional<String> getEnclosingClassName(String ownerName) {
             return Optional.ofNullable(innerClassNameToEnclosingClassName.get(ownerName));
         }
@@ -417,6 +453,10 @@ class ClassFileImportRecord {
             rawSyntheticMethodInvocationRecordsByTarget.put(getMemberKey(record.getTarget()), record);
         }
 
+        void addAll(SyntheticAccessRecorder other) {
+            rawSyntheticMethodInvocationRecordsByTarget.putAll(other.rawSyntheticMethodInvocationRecordsByTarget);
+        }
+
         <ACCESS extends HasRawCodeUnitOrigin> Set<ACCESS> fixSyntheticAccess(
                 ACCESS access,
                 Function<ACCESS, ? extends HasRawCodeUnitOrigin.Builder<ACCESS>> copyAccess
@@ -40,6 +40,7 @@ import org.slf4j.LoggerFactory;
 
 import static com.google.common.collect.Iterables.getOnlyElement;
 import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
+import static com.tngtech.archunit.core.importer.ImportStatistics.Phase.LOCATION_SCANNING;
 import static java.util.Arrays.stream;
 import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.toSet;
@@ -83,6 +84,7 @@ public final class ClassFileImporter {
     private static final Logger LOG = LoggerFactory.getLogger(ClassFileImporter.class);
 
     private final ImportOptions importOptions;
+    private final ImmutableList<ImportListener> importListeners;
 
     @PublicAPI(usage = ACCESS)
     public ClassFileImporter() {
@@ -95,7 +97,12 @@ public final class ClassFileImporter {
     }
 
     private ClassFileImporter(ImportOptions importOptions) {
+        this(importOptions, ImmutableList.of());
+    }
+
+    private ClassFileImporter(ImportOptions importOptions, ImmutableList<ImportListener> importListeners) {
         this.importOptions = importOptions;
+        this.importListeners = importListeners;
     }
 
     /**
@@ -107,7 +114,7 @@ public final class ClassFileImporter {
      */
     @PublicAPI(usage = ACCESS)
     public ClassFileImporter withImportOption(ImportOption option) {
-        return new ClassFileImporter(importOptions.with(option));
+        return new ClassFileImporter(importOptions.with(option), importListeners);
     }
 
     /**
@@ -115,7 +122,20 @@ public final class ClassFileImporter {
      */
     @PublicAPI(usage = ACCESS)
     public ClassFileImporter withImportOptions(Collection<ImportOption> options) {
-        return new ClassFileImporter(importOptions.with(options));
+        return new ClassFileImporter(importOptions.with(options), importListeners);
+    }
+
+    /**
+     * Registers an {@link ImportListener} that will be notified with the {@link ImportStatistics} of every import
+     * of the returned {@link ClassFileImporter}. Note that this object will not be modified,
+     * but instead a copy with adjusted behavior will be returned.
+     *
+     * @param listener Will be notified about every finished import
+     * @return A {@link ClassFileImporter} which notifies the given {@link ImportListener}
+     */
+    @PublicAPI(usage = ACCESS)
+    public ClassFileImporter withImportListener(ImportListener listener) {
+        return new ClassFileImporter(importOptions, ImmutableList.<ImportListener>builder().addAll(importListeners).add(listener).build());
     }
 
     /**
@@ -318,16 +338,19 @@ public final class ClassFileImporter {
      */
     @PublicAPI(usage = ACCESS)
     public JavaClasses importLocations(Collection<Location> locations) {
+        ImportStatistics.Recorder statistics = ImportStatistics.Recorder.create(importListeners);
         List<ClassFileSource> sources = new ArrayList<>();
-        for (Location location : locations) {
-            tryAdd(sources, location);
-        }
-        return new ClassFileProcessor().process(unify(sources));
+        statistics.time(LOCATION_SCANNING, () -> {
+            for (Location location : locations) {
+                tryAdd(sources, location, statistics);
+            }
+        });
+        return new ClassFileProcessor().process(unify(sources), statistics);
     }
 
-    private void tryAdd(List<ClassFileSource> sources, Location location) {
+    private void tryAdd(List<ClassFileSource> sources, Location location, ImportStatistics.Recorder statistics) {
         try {
-            sources.add(location.asClassFileSource(importOptions));
+            sources.add(statistics.attributeTo(location, location.asClassFileSource(importOptions)));
         } catch (Exception e) {
             LOG.warn(String.format("Couldn't derive %s from %s",
                     ClassFileSource.class.getSimpleName(), location), e);
@@ -15,18 +15,30 @@
  */
 package com.tngtech.archunit.core.importer;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+import com.google.common.io.CountingInputStream;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 import com.tngtech.archunit.ArchConfiguration;
 import com.tngtech.archunit.core.domain.JavaClass;
 import com.tngtech.archunit.core.domain.JavaClassDescriptor;
 import com.tngtech.archunit.core.domain.JavaClasses;
 import com.tngtech.archunit.core.domain.JavaFieldAccess.AccessType;
+import com.tngtech.archunit.core.importer.ClassFileSource.InputStreamSupplier;
+import com.tngtech.archunit.core.importer.ClassFileSource.InputStreamSupplierClassFileLocation;
 import com.tngtech.archunit.core.importer.DomainBuilders.JavaAnnotationBuilder;
 import com.tngtech.archunit.core.importer.DomainBuilders.JavaClassTypeParametersBuilder;
 import com.tngtech.archunit.core.importer.DomainBuilders.JavaConstructorBuilder;
@@ -45,6 +57,7 @@ import org.objectweb.asm.Label;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import static com.google.common.util.concurrent.Futures.getUnchecked;
 import static com.tngtech.archunit.core.domain.JavaConstructor.CONSTRUCTOR_NAME;
 import static java.util.stream.Collectors.toSet;
 import static org.objectweb.asm.Opcodes.ASM9;
@@ -55,24 +68,117 @@ class ClassFileProcessor {
     static final int ASM_API_VERSION = ASM9;
 
     private final boolean md5InClassSourcesEnabled = ArchConfiguration.get().md5InClassSourcesEnabled();
+    private final boolean parallelImportEnabled = ArchConfiguration.get().parallelImportEnabled();
     private final ClassResolver.Factory classResolverFactory = new ClassResolver.Factory();
+    private final ImportCache importCache;
+
+    ClassFileProcessor() {
+        this(ImportCache.fromConfiguration());
+    }
+
+    ClassFileProcessor(ImportCache importCache) {
+        this.importCache = importCache;
+    }
 
     JavaClasses process(ClassFileSource source) {
+        return process(source, ImportStatistics.Recorder.create(Collections.emptyList()));
+    }
+
+    /**
+     * @param statistics Records the statistics of this import, which might already contain the scanning of the imported locations
+     */
+    JavaClasses process(ClassFileSource source, ImportStatistics.Recorder statistics) {
         ClassFileImportRecord importRecord = new ClassFileImportRecord();
         DependencyResolutionProcess dependencyResolutionProcess = new DependencyResolutionProcess();
-        RecordAccessHandler accessHandler = new RecordAccessHandler(importRecord, dependencyResolutionProcess);
         ClassDetailsRecorder classDetailsRecorder = new ClassDetailsRecorder(importRecord, dependencyResolutionProcess);
-        for (ClassFileLocation location : source) {
-            try (InputStream s = location.openStream()) {
-                JavaClassProcessor javaClassProcessor =
-                        new JavaClassProcessor(new SourceDescriptor(location.getUri(), md5InClassSourcesEnabled), classDetailsRecorder, accessHandler);
-                new ClassReader(s).accept(javaClassProcessor, 0);
-                javaClassProcessor.createJavaClass().ifPresent(importRecord::add);
+        SymbolTable symbols = new SymbolTable();
+        if (parallelImportEnabled) {
+            processInParallel(source, importRecord, dependencyResolutionProcess, symbols, statistics);
+        } else {
+            RecordAccessHandler accessHandler = new RecordAccessHandler(importRecord, dependencyResolutionProcess, symbols);
+            for (ClassFileLocation location : statistics.timeScanningOf(source)) {
+                process(location, importRecord, classDetailsRecorder, accessHandler, symbols, statistics);
+            }
+        }
+        ClassResolver classResolver = statistics.recording(getClassResolver(classDetailsRecorder, symbols, statistics));
+        JavaClasses classes = new ClassGraphCreator(importRecord, dependencyResolutionProcess, classResolver, statistics).complete();
+        importCache.flush();
+        statistics.finish();
+        return classes;
+    }
+
+    private void process(ClassFileLocation location, ClassFileImportRecord importRecord,
+            ClassDetailsRecorder classDetailsRecorder, RecordAccessHandler accessHandler, SymbolTable symbols, ImportStatistics.Recorder statistics) {
+        long start = statistics.nanoTime();
+        try (CountingInputStream s = new CountingInputStream(importCache.openStream(location))) {
+            JavaClassProcessor javaClassProcessor = new JavaClassProcessor(
+                    new SourceDescriptor(location.getUri(), md5InClassSourcesEnabled), classDetailsRecorder, accessHandler, symbols);
+            ClassReader classReader = new ClassReader(s);
+            long read = statistics.nanoTime();
+            classReader.accept(javaClassProcessor, 0);
+            javaClassProcessor.createJavaClass().ifPresent(importRecord::add);
+            statistics.onClassFileParsed(location, s.getCount(), read - start, statistics.nanoTime() - read);
+        } catch (Exception e) {
+            LOG.warn(String.format("Couldn't import class from %s", location.getUri()), e);
+        }
+    }
+
+    /**
+     * Parses every class file into its own {@link PartialImport} on a pool of worker threads. The partial imports are then
+     * added to the import record in the iteration order of the source, thus the result is the same as if all locations had
+     * been processed sequentially (e.g. if the same class is contained in several locations the first one still wins).
+     */
+    private void processInParallel(ClassFileSource source, ClassFileImportRecord importRecord,
+            DependencyResolutionProcess dependencyResolutionProcess, SymbolTable symbols, ImportStatistics.Recorder statistics) {
+        ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(),
+                new ThreadFactoryBuilder().setNameFormat("archunit-import-%d").setDaemon(true).build());
+        try {
+            List<Future<PartialImport>> partialImports = new ArrayList<>();
+            for (ClassFileLocation location : statistics.timeScanningOf(source)) {
+                partialImports.add(executor.submit(() -> importPartially(location, dependencyResolutionProcess.createPartialProcess(), symbols, statistics)));
+            }
+            for (Future<PartialImport> partialImport : partialImports) {
+                getUnchecked(partialImport).addTo(importRecord, dependencyResolutionProcess);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private PartialImport importPartially(ClassFileLocation location, DependencyResolutionProcess partialDependencyResolutionProcess,
+            SymbolTable symbols, ImportStatistics.Recorder statistics) {
+        ClassFileImportRecord partialImportRecord = new ClassFileImportRecord();
+        process(location, partialImportRecord,
+                new ClassDetailsRecorder(partialImportRecord, partialDependencyResolutionProcess),
+                new RecordAccessHandler(partialImportRecord, partialDependencyResolutionProcess, symbols),
+                symbols, statistics);
+        return new PartialImport(location.getUri(), partialImportRecord, partialDependencyResolutionProcess);
+    }
+
+    private static class PartialImport {
+        private final URI uri;
+        private final ClassFileImportRecord importRecord;
+        private final DependencyResolutionProcess dependencyResolutionProcess;
+
+        PartialImport(URI uri, ClassFileImportRecord importRecord, DependencyResolutionProcess dependencyResolutionProcess) {
+            this.uri = uri;
+            this.importRecord = importRecord;
+            this.dependencyResolutionProcess = dependencyResolutionProcess;
+        }
+
+        void addTo(ClassFileImportRecord targetImportRecord, DependencyResolutionProcess targetDependencyResolutionProcess) {
+            // a sequential import would have skipped this class file completely if the class had already been imported before
+            if (importRecord.getClasses().keySet().stream().anyMatch(targetImportRecord.getClasses()::containsKey)) {
+                return;
+            }
+
+            try {
+                targetImportRecord.addAll(importRecord);
+                targetDependencyResolutionProcess.registerTypesOf(dependencyResolutionProcess);
             } catch (Exception e) {
-                LOG.warn(String.format("Couldn't import class from %s", location.getUri()), e);
+                LOG.warn(String.format("Couldn't import class from %s", uri), e);
             }
         }
-        return new ClassGraphCreator(importRecord, dependencyResolutionProcess, getClassResolver(classDetailsRecorder)).complete();
     }
 
     private static class ClassDetailsRecorder implements DeclarationHandler {
@@ -205,13 +311,15 @@ class ClassFileProcessor {
 
         private final ClassFileImportRecord importRecord;
         private final DependencyResolutionProcess dependencyResolutionProcess;
+        private final SymbolTable symbols;
         private CodeUnit codeUnit;
         private int lineNumber;
         private final TryCatchRecorder tryCatchRecorder = new TryCatchRecorder(this);
 
-        private RecordAccessHandler(ClassFileImportRecord importRecord, DependencyResolutionProcess dependencyResolutionProcess) {
+        private RecordAccessHandler(ClassFileImportRecord importRecord, DependencyResolutionProcess dependencyResolutionProcess, SymbolTable symbols) {
             this.importRecord = importRecord;
             this.dependencyResolutionProcess = dependencyResolutionProcess;
+            this.symbols = symbols;
         }
 
         @Override
@@ -234,7 +342,7 @@ class ClassFileProcessor {
         public void handleFieldInstruction(int opcode, String owner, String name, String desc) {
             AccessType accessType = AccessType.forOpCode(opcode);
             LOG.trace("Found {} access to field {}.{}:{} in line {}", accessType, owner, name, desc, lineNumber);
-            TargetInfo target = new TargetInfo(owner, name, desc);
+            TargetInfo target = symbols.targetInfo(owner, name, desc);
             RawAccessRecord.ForField accessRecord = filled(new RawAccessRecord.ForField.Builder(), target)
                     .withAccessType(accessType)
                     .build();
@@ -246,7 +354,7 @@ class ClassFileProcessor {
         @Override
         public void handleMethodInstruction(String owner, String name, String desc) {
             LOG.trace("Found call of method {}.{}:{} in line {}", owner, name, desc, lineNumber);
-            TargetInfo target = new TargetInfo(owner, name, desc);
+            TargetInfo target = symbols.targetInfo(owner, name, desc);
             RawAccessRecord accessRecord = filled(new RawAccessRecord.Builder(), target).build();
             if (CONSTRUCTOR_NAME.equals(name)) {
                 importRecord.registerConstructorCall(accessRecord);
@@ -260,7 +368,7 @@ class ClassFileProcessor {
         @Override
         public void handleMethodReferenceInstruction(String owner, String name, String desc) {
             LOG.trace("Found method reference {}.{}:{} in line {}", owner, name, desc, lineNumber);
-            TargetInfo target = new TargetInfo(owner, name, desc);
+            TargetInfo target = symbols.targetInfo(owner, name, desc);
             RawAccessRecord accessRecord = filled(new RawAccessRecord.Builder(), target).build();
             if (CONSTRUCTOR_NAME.equals(name)) {
                 importRecord.registerConstructorReference(accessRecord);
@@ -273,7 +381,7 @@ class ClassFileProcessor {
 
         @Override
         public void handleLambdaInstruction(String owner, String name, String desc) {
-            TargetInfo target = new TargetInfo(owner, name, desc);
+            TargetInfo target = symbols.targetInfo(owner, name, desc);
             importRecord.registerLambdaInvocation(filled(new RawAccessRecord.Builder(), target).build());
         }
 
@@ -328,26 +436,45 @@ class ClassFileProcessor {
         }
     }
 
-    private ClassResolver getClassResolver(ClassDetailsRecorder classDetailsRecorder) {
+    private ClassResolver getClassResolver(ClassDetailsRecorder classDetailsRecorder, SymbolTable symbols, ImportStatistics.Recorder statistics) {
         ClassResolver classResolver = classResolverFactory.create();
-        classResolver.setClassUriImporter(new UriImporterOfProcessor(classDetailsRecorder, md5InClassSourcesEnabled));
+        classResolver.setClassUriImporter(new UriImporterOfProcessor(classDetailsRecorder, importCache, md5InClassSourcesEnabled, symbols, statistics));
         return classResolver;
     }
 
     private static class UriImporterOfProcessor implements ClassUriImporter {
         private final DeclarationHandler declarationHandler;
+        private final ImportCache importCache;
         private final boolean md5InClassSourcesEnabled;
+        private final SymbolTable symbols;
+        private final ImportStatistics.Recorder statistics;
 
-        UriImporterOfProcessor(DeclarationHandler declarationHandler, boolean md5InClassSourcesEnabled) {
+        UriImporterOfProcessor(DeclarationHandler declarationHandler, ImportCache importCache, boolean md5InClassSourcesEnabled,
+                SymbolTable symbols, ImportStatistics.Recorder statistics) {
             this.declarationHandler = declarationHandler;
+            this.importCache = importCache;
             this.md5InClassSourcesEnabled = md5InClassSourcesEnabled;
+            this.symbols = symbols;
+            this.statistics = statistics;
         }
 
         @Override
         public Optional<JavaClass> tryImport(URI uri) {
-            try (InputStream inputStream = uri.toURL().openStream()) {
-                JavaClassProcessor classProcessor = new JavaClassProcessor(new SourceDescriptor(uri, md5InClassSourcesEnabled), declarationHandler);
+            return tryImport(uri, new InputStreamSupplier() {
+                @Override
+                InputStream getInputStream() throws IOException {
+                    return uri.toURL().openStream();
+                }
+            });
+        }
+
+        @Override
+        public Optional<JavaClass> tryImport(URI uri, Supplier<InputStream> classFile) {
+            ClassFileLocation location = new InputStreamSupplierClassFileLocation(uri, classFile);
+            try (CountingInputStream inputStream = new CountingInputStream(importCache.openStream(location))) {
+                JavaClassProcessor classProcessor = new JavaClassProcessor(new SourceDescriptor(uri, md5InClassSourcesEnabled), declarationHandler, symbols);
                 new ClassReader(inputStream).accept(classProcessor, 0);
+                statistics.onClassFileRead(inputStream.getCount());
                 return classProcessor.createJavaClass();
             } catch (Exception e) {
                 LOG.warn(String.format("Error during import from %s, falling back to simple import", uri), e);
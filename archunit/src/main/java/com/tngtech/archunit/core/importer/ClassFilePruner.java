@@ -0,0 +1,261 @@
+/*
+ * Copyright 2014-2023 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.importer;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.objectweb.asm.AnnotationVisitor;
+import org.objectweb.asm.Attribute;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Handle;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.ModuleVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.RecordComponentVisitor;
+import org.objectweb.asm.Type;
+import org.objectweb.asm.TypePath;
+
+import static com.tngtech.archunit.core.importer.ClassFileProcessor.ASM_API_VERSION;
+
+/**
+ * Strips a class file down to the parts that are relevant for {@link JavaClassProcessor}, i.e. it removes all
+ * instructions that do not access other classes or members (like arithmetic, jump or local variable instructions)
+ * as well as attributes that are never imported (like stack map frames, local variables or record components).<br>
+ * The resulting class file is not meant to be loaded by a JVM, but processing it with {@link JavaClassProcessor}
+ * yields the same result as processing the original class file.
+ * In particular all labels are preserved and kept at distinct offsets, since {@link TryCatchRecorder}
+ * depends on the exact sequence of labels within a method.
+ */
+class ClassFilePruner {
+    private ClassFilePruner() {
+    }
+
+    static byte[] prune(byte[] classFile) {
+        ClassWriter classWriter = new ClassWriter(0);
+        new ClassReader(classFile).accept(new PruningClassVisitor(classWriter), 0);
+        return classWriter.toByteArray();
+    }
+
+    private static class PruningClassVisitor extends ClassVisitor {
+        PruningClassVisitor(ClassVisitor delegate) {
+            super(ASM_API_VERSION, delegate);
+        }
+
+        @Override
+        public ModuleVisitor visitModule(String name, int access, String version) {
+            return null;
+        }
+
+        @Override
+        public RecordComponentVisitor visitRecordComponent(String name, String descriptor, String signature) {
+            return null;
+        }
+
+        @Override
+        public AnnotationVisitor visitTypeAnnotation(int typeRef, TypePath typePath, String descriptor, boolean visible) {
+            return null;
+        }
+
+        @Override
+        public void visitAttribute(Attribute attribute) {
+        }
+
+        @Override
+        public MethodVisitor visitMethod(int access, String name, String descriptor, String signature, String[] exceptions) {
+            return new PruningMethodVisitor(super.visitMethod(access, name, descriptor, signature, exceptions));
+        }
+    }
+
+    private static class PruningMethodVisitor extends MethodVisitor {
+        private static final String LABEL_REFERENCE_NAME = "label";
+        private static final String LABEL_REFERENCE_DESCRIPTOR = "I";
+
+        private final List<Label> labels = new ArrayList<>();
+        private final Set<Label> referencedLabels = new HashSet<>();
+        private boolean hasCode = false;
+        private boolean hasInstructions = false;
+        private boolean labelWithoutInstruction = false;
+
+        PruningMethodVisitor(MethodVisitor delegate) {
+            super(ASM_API_VERSION, delegate);
+        }
+
+        @Override
+        public void visitCode() {
+            hasCode = true;
+            super.visitCode();
+        }
+
+        @Override
+        public void visitLabel(Label label) {
+            // if we removed all instructions between two labels, they would end up at the same offset and be merged into one label
+            if (labelWithoutInstruction) {
+                writeNop();
+            }
+            super.visitLabel(label);
+            labels.add(label);
+            labelWithoutInstruction = true;
+        }
+
+        @Override
+        public void visitLineNumber(int line, Label start) {
+            referencedLabels.add(start);
+            super.visitLineNumber(line, start);
+        }
+
+        @Override
+        public void visitTryCatchBlock(Label start, Label end, Label handler, String type) {
+            referencedLabels.add(start);
+            referencedLabels.add(end);
+            referencedLabels.add(handler);
+            super.visitTryCatchBlock(start, end, handler, type);
+        }
+
+        @Override
+        public void visitTypeInsn(int opcode, String type) {
+            if (opcode == Opcodes.INSTANCEOF) {
+                onInstruction();
+                super.visitTypeInsn(opcode, type);
+            }
+        }
+
+        @Override
+        public void visitLdcInsn(Object value) {
+            if (value instanceof Type) {
+                onInstruction();
+                super.visitLdcInsn(value);
+            }
+        }
+
+        @Override
+        public void visitFieldInsn(int opcode, String owner, String name, String descriptor) {
+            onInstruction();
+            super.visitFieldInsn(opcode, owner, name, descriptor);
+        }
+
+        @Override
+        public void visitMethodInsn(int opcode, String owner, String name, String descriptor, boolean isInterface) {
+            onInstruction();
+            super.visitMethodInsn(opcode, owner, name, descriptor, isInterface);
+        }
+
+        @Override
+        public void visitInvokeDynamicInsn(String name, String descriptor, Handle bootstrapMethodHandle, Object... bootstrapMethodArguments) {
+            onInstruction();
+            super.visitInvokeDynamicInsn(name, descriptor, bootstrapMethodHandle, bootstrapMethodArguments);
+        }
+
+        @Override
+        public void visitMaxs(int maxStack, int maxLocals) {
+            if (hasCode && (labelWithoutInstruction || !hasInstructions)) {
+                // line numbers of labels at the very end of the code would be dropped when reading the class file
+                writeNop();
+            }
+            // labels are only read from a class file if they are referenced, e.g. by a jump instruction or the local variable table.
+            // Since we remove those, we reference all remaining labels by an empty local variable scope to preserve them.
+            for (Label label : labels) {
+                if (!referencedLabels.contains(label)) {
+                    super.visitLocalVariable(LABEL_REFERENCE_NAME, LABEL_REFERENCE_DESCRIPTOR, null, label, label, 0);
+                }
+            }
+            super.visitMaxs(maxStack, maxLocals);
+        }
+
+        private void writeNop() {
+            super.visitInsn(Opcodes.NOP);
+            onInstruction();
+        }
+
+        private void onInstruction() {
+            hasInstructions = true;
+            labelWithoutInstruction = false;
+        }
+
+        @Override
+        public void visitParameter(String name, int access) {
+        }
+
+        @Override
+        public void visitFrame(int type, int numLocal, Object[] local, int numStack, Object[] stack) {
+        }
+
+        @Override
+        public void visitInsn(int opcode) {
+        }
+
+        @Override
+        public void visitIntInsn(int opcode, int operand) {
+        }
+
+        @Override
+        public void visitVarInsn(int opcode, int varIndex) {
+        }
+
+        @Override
+        public void visitIincInsn(int varIndex, int increment) {
+        }
+
+        @Override
+        public void visitJumpInsn(int opcode, Label label) {
+        }
+
+        @Override
+        public void visitTableSwitchInsn(int min, int max, Label dflt, Label... labels) {
+        }
+
+        @Override
+        public void visitLookupSwitchInsn(Label dflt, int[] keys, Label[] labels) {
+        }
+
+        @Override
+        public void visitMultiANewArrayInsn(String descriptor, int numDimensions) {
+        }
+
+        @Override
+        public void visitLocalVariable(String name, String descriptor, String signature, Label start, Label end, int index) {
+        }
+
+        @Override
+        public AnnotationVisitor visitInsnAnnotation(int typeRef, TypePath typePath, String descriptor, boolean visible) {
+            return null;
+        }
+
+        @Override
+        public AnnotationVisitor visitTypeAnnotation(int typeRef, TypePath typePath, String descriptor, boolean visible) {
+            return null;
+        }
+
+        @Override
+        public AnnotationVisitor visitTryCatchAnnotation(int typeRef, TypePath typePath, String descriptor, boolean visible) {
+            return null;
+        }
+
+        @Override
+        public AnnotationVisitor visitLocalVariableAnnotation(int typeRef, TypePath typePath, Label[] start, Label[] end, int[] index, String descriptor, boolean visible) {
+            return null;
+        }
+
+        @Override
+        public void visitAttribute(Attribute attribute) {
+        }
+    }
+}
@@ -79,6 +79,8 @@ import static com.tngtech.archunit.core.domain.DomainObjectCreationContext.creat
 import static com.tngtech.archunit.core.domain.DomainObjectCreationContext.createReferencedClassObject;
 import static com.tngtech.archunit.core.importer.DomainBuilders.BuilderWithBuildParameter.BuildFinisher.build;
 import static com.tngtech.archunit.core.importer.DomainBuilders.buildAnnotations;
+import static com.tngtech.archunit.core.importer.ImportStatistics.Phase.CLASS_GRAPH_COMPLETION;
+import static com.tngtech.archunit.core.importer.ImportStatistics.Phase.DEPENDENCY_RESOLUTION;
 import static com.tngtech.archunit.core.importer.JavaClassDescriptorImporter.isLambdaMethodName;
 import static com.tngtech.archunit.core.importer.JavaClassDescriptorImporter.isSyntheticAccessMethodName;
 
@@ -87,6 +89,7 @@ class ClassGraphCreator implements ImportContext {
 
     private final ClassFileImportRecord importRecord;
     private final DependencyResolutionProcess dependencyResolutionProcess;
+    private final ImportStatistics.Recorder statistics;
 
     private final SetMultimap<JavaCodeUnit, FieldAccessRecord> processedFieldAccessRecords = HashMultimap.create();
     private final SetMultimap<JavaCodeUnit, AccessRecord<MethodCallTarget>> processedMethodCallRecords = HashMultimap.create();
@@ -97,17 +100,21 @@ class ClassGraphCreator implements ImportContext {
     private final SetMultimap<JavaCodeUnit, InstanceofCheck> processedInstanceofChecks = HashMultimap.create();
     private final SetMultimap<JavaCodeUnit, TryCatchBlockBuilder> processedTryCatchBlocks = HashMultimap.create();
 
-    ClassGraphCreator(ClassFileImportRecord importRecord, DependencyResolutionProcess dependencyResolutionProcess, ClassResolver classResolver) {
+    ClassGraphCreator(ClassFileImportRecord importRecord, DependencyResolutionProcess dependencyResolutionProcess, ClassResolver classResolver,
+            ImportStatistics.Recorder statistics) {
         this.importRecord = importRecord;
         this.dependencyResolutionProcess = dependencyResolutionProcess;
+        this.statistics = statistics;
         classes = new ImportedClasses(importRecord.getClasses(), classResolver, this::getMethodReturnType);
     }
 
     JavaClasses complete() {
-        dependencyResolutionProcess.resolve(classes);
-        completeClasses();
-        completeCodeUnitDependencies();
-        return createJavaClasses(classes.getDirectlyImported(), classes.getAllWithOuterClassesSortedBeforeInnerClasses(), this);
+        statistics.time(DEPENDENCY_RESOLUTION, () -> dependencyResolutionProcess.resolve(classes, statistics));
+        return statistics.timed(CLASS_GRAPH_COMPLETION, () -> {
+            completeClasses();
+            completeCodeUnitDependencies();
+            return createJavaClasses(classes.getDirectlyImported(), classes.getAllWithOuterClassesSortedBeforeInnerClasses(), this);
+        });
     }
 
     private void completeClasses() {
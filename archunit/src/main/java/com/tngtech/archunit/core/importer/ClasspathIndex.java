@@ -0,0 +1,107 @@
+/*
+ * Copyright 2014-2023 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.importer;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
+import com.tngtech.archunit.Internal;
+import com.tngtech.archunit.base.ArchUnitException.LocationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static com.google.common.base.Strings.nullToEmpty;
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static java.util.Comparator.comparing;
+
+/**
+ * Maps the resource names of all class files within the classpath (e.g. {@code com/example/Foo.class})
+ * to the {@link Location} containing them, so the class file of any type can be found without searching the classpath.
+ * The entries of each {@link Location} are read via the same cache as all other imports.
+ * <br><br>
+ * Like a {@link ClassLoader} would, the index prefers class files of the JDK and otherwise the first class file
+ * in classpath order, if the same resource name is contained in several locations.
+ */
+@Internal
+public final class ClasspathIndex {
+    private static final Logger LOG = LoggerFactory.getLogger(ClasspathIndex.class);
+
+    private static final String JDK_MODULE_SCHEME = "jrt";
+    private static final String CLASS_FILE_SUFFIX = ".class";
+    private static final String META_INF_PREFIX = "META-INF/";
+    private static final List<String> CLASSPATH_PROPERTY_NAMES = ImmutableList.of("sun.boot.class.path", "java.class.path", "jdk.module.path");
+
+    private static final Cache<List<String>, ClasspathIndex> INDEX_CACHE = CacheBuilder.newBuilder().maximumSize(1).softValues().build();
+
+    private final List<Location> locations;
+    private final Map<String, Integer> locationIndexByResourceName = new HashMap<>();
+
+    private ClasspathIndex(Set<Location> classpath) {
+        locations = new ArrayList<>(classpath);
+        // stable sort -> keeps the classpath order apart from moving the JDK modules to the front
+        locations.sort(comparing(location -> !JDK_MODULE_SCHEME.equals(location.uri.getScheme())));
+        for (int i = 0; i < locations.size(); i++) {
+            addEntriesOf(i);
+        }
+    }
+
+    private void addEntriesOf(int locationIndex) {
+        Location location = locations.get(locationIndex);
+        try {
+            location.streamEntries()
+                    .map(NormalizedResourceName::toString)
+                    .filter(resourceName -> resourceName.endsWith(CLASS_FILE_SUFFIX) && !resourceName.startsWith(META_INF_PREFIX))
+                    .forEach(resourceName -> locationIndexByResourceName.putIfAbsent(resourceName, locationIndex));
+        } catch (LocationException e) {
+            LOG.debug("Could not read entries of {}, skipping...", location, e);
+        }
+    }
+
+    /**
+     * @param classFileResourceName The resource name of a class file, e.g. {@code com/example/Foo.class}
+     * @return The {@link URI} of the class file, if it is contained in the classpath
+     */
+    public Optional<URI> findClassFile(String classFileResourceName) {
+        Integer locationIndex = locationIndexByResourceName.get(classFileResourceName);
+        return locationIndex != null
+                ? Optional.of(locations.get(locationIndex).append(classFileResourceName).asURI())
+                : Optional.empty();
+    }
+
+    /**
+     * @return An index of all class files within {@link Locations#inClassPath()}. As long as the classpath
+     *         (i.e. the respective system properties) does not change, the index will only be created once.
+     */
+    public static ClasspathIndex ofClassPath() {
+        List<String> classpathProperties = CLASSPATH_PROPERTY_NAMES.stream()
+                .map(propertyName -> nullToEmpty(System.getProperty(propertyName)))
+                .collect(toImmutableList());
+        try {
+            return INDEX_CACHE.get(classpathProperties, () -> new ClasspathIndex(Locations.inClassPath()));
+        } catch (ExecutionException e) {
+            throw new LocationException(e);
+        }
+    }
+}
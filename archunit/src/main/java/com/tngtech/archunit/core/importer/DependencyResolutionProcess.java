@@ -32,42 +32,68 @@ class DependencyResolutionProcess {
     private static final Logger log = LoggerFactory.getLogger(DependencyResolutionProcess.class);
 
     static final String DEPENDENCY_RESOLUTION_PROCESS_PROPERTY_PREFIX = "import.dependencyResolutionProcess";
-    private final Properties resolutionProcessProperties = ArchConfiguration.get().getSubProperties(DEPENDENCY_RESOLUTION_PROCESS_PROPERTY_PREFIX);
+    private final Properties resolutionProcessProperties;
 
     static final String MAX_ITERATIONS_FOR_MEMBER_TYPES_PROPERTY_NAME = "maxIterationsForMemberTypes";
     static final int MAX_ITERATIONS_FOR_MEMBER_TYPES_DEFAULT_VALUE = 1;
-    private final int maxRunsForMemberTypes = getConfiguredIterations(
-            MAX_ITERATIONS_FOR_MEMBER_TYPES_PROPERTY_NAME, MAX_ITERATIONS_FOR_MEMBER_TYPES_DEFAULT_VALUE);
+    private final int maxRunsForMemberTypes;
 
     static final String MAX_ITERATIONS_FOR_ACCESSES_TO_TYPES_PROPERTY_NAME = "maxIterationsForAccessesToTypes";
     static final int MAX_ITERATIONS_FOR_ACCESSES_TO_TYPES_DEFAULT_VALUE = 1;
-    private final int maxRunsForAccessesToTypes = getConfiguredIterations(
-            MAX_ITERATIONS_FOR_ACCESSES_TO_TYPES_PROPERTY_NAME, MAX_ITERATIONS_FOR_ACCESSES_TO_TYPES_DEFAULT_VALUE);
+    private final int maxRunsForAccessesToTypes;
 
     static final String MAX_ITERATIONS_FOR_SUPERTYPES_PROPERTY_NAME = "maxIterationsForSupertypes";
     static final int MAX_ITERATIONS_FOR_SUPERTYPES_DEFAULT_VALUE = -1;
-    private final int maxRunsForSupertypes = getConfiguredIterations(
-            MAX_ITERATIONS_FOR_SUPERTYPES_PROPERTY_NAME, MAX_ITERATIONS_FOR_SUPERTYPES_DEFAULT_VALUE);
+    private final int maxRunsForSupertypes;
 
     static final String MAX_ITERATIONS_FOR_ENCLOSING_TYPES_PROPERTY_NAME = "maxIterationsForEnclosingTypes";
     static final int MAX_ITERATIONS_FOR_ENCLOSING_TYPES_DEFAULT_VALUE = -1;
-    private final int maxRunsForEnclosingTypes = getConfiguredIterations(
-            MAX_ITERATIONS_FOR_ENCLOSING_TYPES_PROPERTY_NAME, MAX_ITERATIONS_FOR_ENCLOSING_TYPES_DEFAULT_VALUE);
+    private final int maxRunsForEnclosingTypes;
 
     static final String MAX_ITERATIONS_FOR_ANNOTATION_TYPES_PROPERTY_NAME = "maxIterationsForAnnotationTypes";
     static final int MAX_ITERATIONS_FOR_ANNOTATION_TYPES_DEFAULT_VALUE = -1;
-    private final int maxRunsForAnnotationTypes = getConfiguredIterations(
-            MAX_ITERATIONS_FOR_ANNOTATION_TYPES_PROPERTY_NAME, MAX_ITERATIONS_FOR_ANNOTATION_TYPES_DEFAULT_VALUE);
+    private final int maxRunsForAnnotationTypes;
 
     static final String MAX_ITERATIONS_FOR_GENERIC_SIGNATURE_TYPES_PROPERTY_NAME = "maxIterationsForGenericSignatureTypes";
     static final int MAX_ITERATIONS_FOR_GENERIC_SIGNATURE_TYPES_DEFAULT_VALUE = -1;
-    private final int maxRunsForGenericSignatureTypes = getConfiguredIterations(
-            MAX_ITERATIONS_FOR_GENERIC_SIGNATURE_TYPES_PROPERTY_NAME, MAX_ITERATIONS_FOR_GENERIC_SIGNATURE_TYPES_DEFAULT_VALUE);
+    private final int maxRunsForGenericSignatureTypes;
 
     private Set<String> currentTypeNames = new HashSet<>();
     private int runNumber = 1;
     private boolean shouldContinue;
 
+    DependencyResolutionProcess() {
+        this(ArchConfiguration.get().getSubProperties(DEPENDENCY_RESOLUTION_PROCESS_PROPERTY_PREFIX));
+    }
+
+    private DependencyResolutionProcess(Properties resolutionProcessProperties) {
+        this.resolutionProcessProperties = resolutionProcessProperties;
+        maxRunsForMemberTypes = getConfiguredIterations(
+                MAX_ITERATIONS_FOR_MEMBER_TYPES_PROPERTY_NAME, MAX_ITERATIONS_FOR_MEMBER_TYPES_DEFAULT_VALUE);
+        maxRunsForAccessesToTypes = getConfiguredIterations(
+                MAX_ITERATIONS_FOR_ACCESSES_TO_TYPES_PROPERTY_NAME, MAX_ITERATIONS_FOR_ACCESSES_TO_TYPES_DEFAULT_VALUE);
+        maxRunsForSupertypes = getConfiguredIterations(
+                MAX_ITERATIONS_FOR_SUPERTYPES_PROPERTY_NAME, MAX_ITERATIONS_FOR_SUPERTYPES_DEFAULT_VALUE);
+        maxRunsForEnclosingTypes = getConfiguredIterations(
+                MAX_ITERATIONS_FOR_ENCLOSING_TYPES_PROPERTY_NAME, MAX_ITERATIONS_FOR_ENCLOSING_TYPES_DEFAULT_VALUE);
+        maxRunsForAnnotationTypes = getConfiguredIterations(
+                MAX_ITERATIONS_FOR_ANNOTATION_TYPES_PROPERTY_NAME, MAX_ITERATIONS_FOR_ANNOTATION_TYPES_DEFAULT_VALUE);
+        maxRunsForGenericSignatureTypes = getConfiguredIterations(
+                MAX_ITERATIONS_FOR_GENERIC_SIGNATURE_TYPES_PROPERTY_NAME, MAX_ITERATIONS_FOR_GENERIC_SIGNATURE_TYPES_DEFAULT_VALUE);
+    }
+
+    /**
+     * @return A new process with the same configuration, that can be used to register the types of a single class file
+     *         independently of this process. Its registered types can later be added via {@link #registerTypesOf(DependencyResolutionProcess)}.
+     */
+    DependencyResolutionProcess createPartialProcess() {
+        return new DependencyResolutionProcess(resolutionProcessProperties);
+    }
+
+    void registerTypesOf(DependencyResolutionProcess partialProcess) {
+        currentTypeNames.addAll(partialProcess.currentTypeNames);
+    }
+
     void registerMemberType(String typeName) {
         if (runNumberHasNotExceeded(maxRunsForMemberTypes)) {
             currentTypeNames.add(typeName);
@@ -116,10 +142,11 @@ class DependencyResolutionProcess {
         }
     }
 
-    void resolve(ImportedClasses classes) {
+    void resolve(ImportedClasses classes, ImportStatistics.Recorder statistics) {
         logConfiguration();
         do {
             executeRun(classes);
+            statistics.onDependencyResolutionIterationFinished();
         } while (shouldContinue);
     }
 
@@ -141,11 +168,8 @@ class DependencyResolutionProcess {
         runNumber++;
         Set<String> typeNamesToResolve = this.currentTypeNames;
         currentTypeNames = new HashSet<>();
-        shouldContinue = false;
-        for (String typeName : typeNamesToResolve) {
-            ImportedClassState classState = classes.ensurePresent(typeName);
-            shouldContinue = shouldContinue || (classState == HAD_TO_BE_IMPORTED);
-        }
+        ImportedClassState classState = classes.ensureAllPresent(typeNamesToResolve);
+        shouldContinue = classState == HAD_TO_BE_IMPORTED;
     }
 
     private boolean runNumberHasNotExceeded(int maxRuns) {
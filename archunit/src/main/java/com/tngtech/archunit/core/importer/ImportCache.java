@@ -0,0 +1,406 @@
+/*
+ * Copyright 2014-2023 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.importer;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.CRC32;
+
+import com.google.common.hash.Hashing;
+import com.google.common.io.ByteStreams;
+import com.tngtech.archunit.ArchConfiguration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * A persistent cache of class files, that allows subsequent imports (e.g. from other JVMs) to skip reading and
+ * fully parsing class files that have not changed. For every imported class file the cache stores the result of
+ * {@link ClassFilePruner#prune(byte[])}, i.e. only the parts of the class file that are relevant for the import.
+ * <br><br>
+ * A cached class file is considered valid, if the size and last modification time of its file (or the archive containing it)
+ * are unchanged. Class files of the Java runtime image are considered valid as long as the runtime version is unchanged.
+ * Optionally the cache can additionally verify a checksum of the content of each class file.
+ * <br><br>
+ * All class files of the same package are stored together within one cache file. Cache files are replaced atomically
+ * and merged with the class files written by other JVMs in the meantime, so several JVMs can safely use the same cache
+ * directory concurrently.
+ */
+abstract class ImportCache {
+    static final String IMPORT_CACHE_PROPERTY_PREFIX = "import.cache";
+    static final String DIRECTORY_PROPERTY_NAME = "directory";
+    static final String VERIFY_CONTENT_HASH_PROPERTY_NAME = "verifyContentHash";
+
+    private static final Logger log = LoggerFactory.getLogger(ImportCache.class);
+
+    abstract InputStream openStream(ClassFileLocation location);
+
+    abstract void flush();
+
+    /**
+     * @return the class file at the given location, stripped down by {@link ClassFilePruner} if possible
+     */
+    byte[] readPruned(ClassFileLocation location) {
+        byte[] classFile = readAll(openStream(location));
+        try {
+            return ClassFilePruner.prune(classFile);
+        } catch (Exception e) {
+            return classFile;
+        }
+    }
+
+    static ImportCache fromConfiguration() {
+        Properties properties = ArchConfiguration.get().getSubProperties(IMPORT_CACHE_PROPERTY_PREFIX);
+        String directory = properties.getProperty(DIRECTORY_PROPERTY_NAME);
+        return directory != null
+                ? new Persistent(Paths.get(directory), Boolean.parseBoolean(properties.getProperty(VERIFY_CONTENT_HASH_PROPERTY_NAME)))
+                : new Disabled();
+    }
+
+    private static byte[] readAll(InputStream classFile) {
+        try (InputStream in = classFile) {
+            return ByteStreams.toByteArray(in);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static class Disabled extends ImportCache {
+        @Override
+        InputStream openStream(ClassFileLocation location) {
+            return location.openStream();
+        }
+
+        @Override
+        void flush() {
+        }
+    }
+
+    private static class Persistent extends ImportCache {
+        private final Path directory;
+        private final boolean verifyContentHash;
+        private final Map<String, Segment> segmentsByKey = new ConcurrentHashMap<>();
+        private final Map<String, Optional<Fingerprint>> fingerprintsByFile = new ConcurrentHashMap<>();
+        private final AtomicInteger hits = new AtomicInteger();
+        private final AtomicInteger misses = new AtomicInteger();
+
+        Persistent(Path directory, boolean verifyContentHash) {
+            this.directory = directory;
+            this.verifyContentHash = verifyContentHash;
+        }
+
+        @Override
+        InputStream openStream(ClassFileLocation location) {
+            String uri = location.getUri().toString();
+            Optional<Fingerprint> fingerprint = fingerprintOf(uri);
+            if (!fingerprint.isPresent() && !verifyContentHash) {
+                return location.openStream();
+            }
+
+            byte[] classFile = verifyContentHash ? readAll(location) : null;
+            Fingerprint expectedFingerprint = verifyContentHash
+                    ? fingerprint.orElse(Fingerprint.UNKNOWN).withContentHash(contentHashOf(classFile))
+                    : fingerprint.get();
+
+            Segment segment = segmentsByKey.computeIfAbsent(segmentKeyOf(uri), this::loadSegment);
+            Optional<byte[]> cached = segment.get(uri, expectedFingerprint);
+            if (cached.isPresent()) {
+                hits.incrementAndGet();
+                return new ByteArrayInputStream(cached.get());
+            }
+
+            misses.incrementAndGet();
+            if (classFile == null) {
+                classFile = readAll(location);
+            }
+            byte[] prunedClassFile;
+            try {
+                prunedClassFile = ClassFilePruner.prune(classFile);
+            } catch (Exception e) {
+                log.debug("Could not prune class file {}, not caching it", uri, e);
+                return new ByteArrayInputStream(classFile);
+            }
+            segment.put(uri, expectedFingerprint, prunedClassFile);
+            return new ByteArrayInputStream(prunedClassFile);
+        }
+
+        private Optional<Fingerprint> fingerprintOf(String uri) {
+            if (uri.startsWith("jrt:")) {
+                return Optional.of(Fingerprint.OF_RUNTIME_IMAGE);
+            }
+            String fileUri = uri.startsWith("jar:") && uri.contains("!/") ? uri.substring("jar:".length(), uri.indexOf("!/")) : uri;
+            if (!fileUri.startsWith("file:")) {
+                return Optional.empty();
+            }
+            return fingerprintsByFile.computeIfAbsent(fileUri, Persistent::fingerprintOfFile);
+        }
+
+        private static Optional<Fingerprint> fingerprintOfFile(String fileUri) {
+            try {
+                Path file = Paths.get(URI.create(fileUri));
+                return Optional.of(new Fingerprint(Files.size(file), Files.getLastModifiedTime(file).toMillis(), 0));
+            } catch (Exception e) {
+                return Optional.empty();
+            }
+        }
+
+        private static long contentHashOf(byte[] classFile) {
+            CRC32 crc32 = new CRC32();
+            crc32.update(classFile);
+            return crc32.getValue();
+        }
+
+        private static byte[] readAll(ClassFileLocation location) {
+            return ImportCache.readAll(location.openStream());
+        }
+
+        @Override
+        byte[] readPruned(ClassFileLocation location) {
+            // class files returned by this cache are already pruned
+            return ImportCache.readAll(openStream(location));
+        }
+
+        private static String segmentKeyOf(String uri) {
+            return uri.substring(0, uri.lastIndexOf('/') + 1);
+        }
+
+        private Segment loadSegment(String key) {
+            Path file = directory.resolve(Hashing.sha256().hashString(key, UTF_8) + ".cache");
+            Segment segment = new Segment(key, file);
+            if (Files.exists(file)) {
+                try {
+                    segment.read();
+                } catch (Exception e) {
+                    log.debug("Ignoring unreadable import cache file {}", file, e);
+                }
+            }
+            return segment;
+        }
+
+        @Override
+        void flush() {
+            log.debug("Import cache {}: {} hits, {} misses", directory, hits.get(), misses.get());
+            if (misses.get() == 0) {
+                return;
+            }
+
+            try {
+                Files.createDirectories(directory);
+                for (Segment segment : segmentsByKey.values()) {
+                    segment.writeIfChanged();
+                }
+            } catch (IOException e) {
+                log.warn(String.format("Could not write import cache to %s", directory), e);
+            }
+        }
+    }
+
+    private static class Segment {
+        private static final int MAGIC_NUMBER = 0x41524355;
+        private static final int FORMAT_VERSION = 1;
+        private static final String LOCK_FILE_SUFFIX = ".lock";
+
+        private final String key;
+        private final Path file;
+        private final Path lockFile;
+        private final Map<String, CachedClassFile> classFilesByUri = new HashMap<>();
+        private final Set<String> changedUris = new HashSet<>();
+
+        Segment(String key, Path file) {
+            this.key = key;
+            this.file = file;
+            this.lockFile = file.resolveSibling(file.getFileName() + LOCK_FILE_SUFFIX);
+        }
+
+        synchronized Optional<byte[]> get(String uri, Fingerprint expectedFingerprint) {
+            CachedClassFile cached = classFilesByUri.get(uri);
+            return cached != null && cached.fingerprint.equals(expectedFingerprint)
+                    ? Optional.of(cached.bytes)
+                    : Optional.empty();
+        }
+
+        synchronized void put(String uri, Fingerprint fingerprint, byte[] bytes) {
+            classFilesByUri.put(uri, new CachedClassFile(fingerprint, bytes));
+            changedUris.add(uri);
+        }
+
+        synchronized void read() throws IOException {
+            classFilesByUri.putAll(readEntries());
+        }
+
+        private Map<String, CachedClassFile> readEntries() throws IOException {
+            Map<String, CachedClassFile> result = new HashMap<>();
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+                if (in.readInt() != MAGIC_NUMBER || in.readInt() != FORMAT_VERSION || !in.readUTF().equals(key)) {
+                    return result;
+                }
+                int numberOfEntries = in.readInt();
+                for (int i = 0; i < numberOfEntries; i++) {
+                    String uri = in.readUTF();
+                    Fingerprint fingerprint = new Fingerprint(in.readLong(), in.readLong(), in.readLong());
+                    byte[] bytes = new byte[in.readInt()];
+                    in.readFully(bytes);
+                    result.put(uri, new CachedClassFile(fingerprint, bytes));
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Writes all class files of this segment, merged with the class files other JVMs have written in the meantime.
+         * Class files put by this JVM win over the ones of the file, all other class files of the file win over
+         * the ones read before by this JVM. The file is only accessed while holding a lock on the respective lock file,
+         * so concurrent JVMs do not overwrite each other's class files.
+         */
+        synchronized void writeIfChanged() throws IOException {
+            if (changedUris.isEmpty()) {
+                return;
+            }
+
+            try (FileChannel lockChannel = FileChannel.open(lockFile, CREATE, WRITE)) {
+                FileLock lock = lockChannel.lock();
+                try {
+                    mergeWithFile();
+                    write();
+                } finally {
+                    lock.release();
+                }
+            }
+            changedUris.clear();
+        }
+
+        private void mergeWithFile() {
+            if (!Files.exists(file)) {
+                return;
+            }
+            try {
+                Map<String, CachedClassFile> merged = readEntries();
+                for (String uri : changedUris) {
+                    merged.put(uri, classFilesByUri.get(uri));
+                }
+                classFilesByUri.putAll(merged);
+            } catch (Exception e) {
+                log.debug("Overwriting unreadable import cache file {}", file, e);
+            }
+        }
+
+        private void write() throws IOException {
+            Path tempFile = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+            try {
+                try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+                    out.writeInt(MAGIC_NUMBER);
+                    out.writeInt(FORMAT_VERSION);
+                    out.writeUTF(key);
+                    out.writeInt(classFilesByUri.size());
+                    for (Map.Entry<String, CachedClassFile> entry : classFilesByUri.entrySet()) {
+                        out.writeUTF(entry.getKey());
+                        out.writeLong(entry.getValue().fingerprint.size);
+                        out.writeLong(entry.getValue().fingerprint.lastModified);
+                        out.writeLong(entry.getValue().fingerprint.contentHash);
+                        out.writeInt(entry.getValue().bytes.length);
+                        out.write(entry.getValue().bytes);
+                    }
+                }
+                moveReplacing(tempFile, file);
+            } finally {
+                Files.deleteIfExists(tempFile);
+            }
+        }
+
+        private static void moveReplacing(Path source, Path target) throws IOException {
+            try {
+                Files.move(source, target, REPLACE_EXISTING, ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(source, target, REPLACE_EXISTING);
+            }
+        }
+    }
+
+    private static class CachedClassFile {
+        private final Fingerprint fingerprint;
+        private final byte[] bytes;
+
+        CachedClassFile(Fingerprint fingerprint, byte[] bytes) {
+            this.fingerprint = fingerprint;
+            this.bytes = bytes;
+        }
+    }
+
+    private static class Fingerprint {
+        private static final Fingerprint UNKNOWN = new Fingerprint(-1, -1, 0);
+        private static final Fingerprint OF_RUNTIME_IMAGE = new Fingerprint(-1,
+                Objects.hash(System.getProperty("java.home"), System.getProperty("java.runtime.version")), 0);
+
+        private final long size;
+        private final long lastModified;
+        private final long contentHash;
+
+        Fingerprint(long size, long lastModified, long contentHash) {
+            this.size = size;
+            this.lastModified = lastModified;
+            this.contentHash = contentHash;
+        }
+
+        Fingerprint withContentHash(long contentHash) {
+            return new Fingerprint(size, lastModified, contentHash);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(size, lastModified, contentHash);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || getClass() != obj.getClass()) {
+                return false;
+            }
+            Fingerprint other = (Fingerprint) obj;
+            return size == other.size
+                    && lastModified == other.lastModified
+                    && contentHash == other.contentHash;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2014-2023 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.importer;
+
+import com.tngtech.archunit.PublicAPI;
+
+import static com.tngtech.archunit.PublicAPI.Usage.INHERITANCE;
+
+/**
+ * Will be notified about every import of a {@link ClassFileImporter} it has been registered with
+ * (compare {@link ClassFileImporter#withImportListener(ImportListener)}).
+ * This allows to analyze where the time of a slow import is spent, e.g. by exporting the {@link ImportStatistics}
+ * to some metrics system.<br><br>
+ * Independently of any registered {@link ImportListener}, a summary of every import is logged on level {@code DEBUG}
+ * via the logger {@code com.tngtech.archunit.core.importer.ImportStatistics}. If neither an {@link ImportListener} is registered
+ * nor this logger is enabled on level {@code DEBUG}, no statistics are recorded at all.
+ */
+@PublicAPI(usage = INHERITANCE)
+public interface ImportListener {
+    /**
+     * Called once after the import has finished, on the thread that called the {@link ClassFileImporter}.
+     *
+     * @param statistics Information about the duration of the different phases of the finished import
+     */
+    void onImportFinished(ImportStatistics statistics);
+}
@@ -0,0 +1,440 @@
+/*
+ * Copyright 2014-2023 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.importer;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Iterators;
+import com.tngtech.archunit.PublicAPI;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.importer.resolvers.ClassResolver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
+/**
+ * Information about a finished import of a {@link ClassFileImporter}, i.e. how much time was spent in which {@link Phase}
+ * of the import, how many class files have been read and the class files of which {@link Location locations}
+ * took the longest.<br><br>
+ * Statistics are only recorded if an {@link ImportListener} is registered or the summary of the import is logged
+ * (compare {@link ImportListener}), otherwise the import does not spend any time on measuring.
+ *
+ * @see ImportListener
+ */
+@PublicAPI(usage = ACCESS)
+public final class ImportStatistics {
+    private static final int NUMBER_OF_SLOWEST_LOCATIONS = 10;
+
+    private final Duration totalDuration;
+    private final Map<Phase, Duration> phaseDurations;
+    private final int numberOfParsedClassFiles;
+    private final long bytesRead;
+    private final List<Integer> numberOfResolvedClassesPerIteration;
+    private final Map<Location, Duration> slowestLocations;
+
+    private ImportStatistics(Recorder recorder) {
+        totalDuration = Duration.ofNanos(System.nanoTime() - recorder.startNanos);
+        ImmutableMap.Builder<Phase, Duration> phaseDurations = ImmutableMap.builder();
+        recorder.phaseNanos.forEach((phase, nanos) -> phaseDurations.put(phase, Duration.ofNanos(nanos.sum())));
+        this.phaseDurations = phaseDurations.build();
+        numberOfParsedClassFiles = recorder.parsedClassFiles.get();
+        bytesRead = recorder.bytesRead.sum();
+        numberOfResolvedClassesPerIteration = ImmutableList.copyOf(recorder.resolvedClassesPerIteration);
+        slowestLocations = recorder.getSlowestLocations();
+    }
+
+    /**
+     * @return The wall-clock time the whole import took
+     */
+    @PublicAPI(usage = ACCESS)
+    public Duration getTotalDuration() {
+        return totalDuration;
+    }
+
+    /**
+     * Note that for a parallel import (compare {@link com.tngtech.archunit.ArchConfiguration#parallelImportEnabled()})
+     * the durations of {@link Phase#CLASS_FILE_READING} and {@link Phase#CLASS_FILE_PARSING} are summed up over all threads,
+     * i.e. they can exceed the {@link #getTotalDuration() total duration}.
+     *
+     * @param phase A phase of the import
+     * @return The time spent within the given phase
+     */
+    @PublicAPI(usage = ACCESS)
+    public Duration getDuration(Phase phase) {
+        return phaseDurations.get(phase);
+    }
+
+    /**
+     * @return The number of class files parsed from the imported locations
+     *         (i.e. not counting classes resolved by the {@link ClassResolver})
+     */
+    @PublicAPI(usage = ACCESS)
+    public int getNumberOfParsedClassFiles() {
+        return numberOfParsedClassFiles;
+    }
+
+    /**
+     * @return The number of bytes read from all class files, including class files read to resolve missing classes
+     */
+    @PublicAPI(usage = ACCESS)
+    public long getBytesRead() {
+        return bytesRead;
+    }
+
+    /**
+     * @return For each iteration of the dependency resolution (compare the user guide about
+     *         {@code import.dependencyResolutionProcess}), the number of classes
+     *         that have been resolved by the {@link ClassResolver} (by default from the classpath)
+     */
+    @PublicAPI(usage = ACCESS)
+    public List<Integer> getNumberOfResolvedClassesPerIteration() {
+        return numberOfResolvedClassesPerIteration;
+    }
+
+    /**
+     * @return The imported {@link Location locations} whose class files took the longest to read and parse in total,
+     *         together with the respective duration, ordered by descending duration
+     */
+    @PublicAPI(usage = ACCESS)
+    public Map<Location, Duration> getSlowestLocations() {
+        return slowestLocations;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder(String.format("Imported %d class files (%d KB read) in %d ms",
+                numberOfParsedClassFiles, bytesRead / 1024, totalDuration.toMillis()));
+        for (Phase phase : Phase.values()) {
+            result.append(String.format("%n  %s: %d ms", phase.description, phaseDurations.get(phase).toMillis()));
+        }
+        result.append(String.format("%n  classes resolved per dependency resolution iteration: %s", numberOfResolvedClassesPerIteration));
+        result.append(String.format("%n  slowest locations:"));
+        slowestLocations.forEach((location, duration) ->
+                result.append(String.format("%n    %s (%.3f ms)", location.asURI(), duration.toNanos() / 1_000_000.0)));
+        return result.toString();
+    }
+
+    /**
+     * A phase of the import. The phases {@link #LOCATION_SCANNING}, {@link #CLASS_FILE_READING} and {@link #CLASS_FILE_PARSING}
+     * alternate for every class file, {@link #CLASSPATH_RESOLUTION} is part of {@link #DEPENDENCY_RESOLUTION} and
+     * {@link #CLASS_GRAPH_COMPLETION}.
+     */
+    @PublicAPI(usage = ACCESS)
+    public enum Phase {
+        /**
+         * Searching the imported {@link Location locations} for class files (e.g. traversing directories or JAR entries)
+         * and filtering them by the configured {@link ImportOption ImportOptions}
+         */
+        @PublicAPI(usage = ACCESS)
+        LOCATION_SCANNING("location scanning"),
+        /**
+         * Reading the bytes of the class files from the imported {@link Location locations}
+         */
+        @PublicAPI(usage = ACCESS)
+        CLASS_FILE_READING("class file reading"),
+        /**
+         * Parsing the bytecode of the class files from the imported {@link Location locations}
+         */
+        @PublicAPI(usage = ACCESS)
+        CLASS_FILE_PARSING("class file parsing"),
+        /**
+         * Resolving missing classes the imported classes depend on, according to the configured {@code import.dependencyResolutionProcess}
+         */
+        @PublicAPI(usage = ACCESS)
+        DEPENDENCY_RESOLUTION("dependency resolution"),
+        /**
+         * Resolving missing classes via the {@link ClassResolver} (by default from the classpath)
+         */
+        @PublicAPI(usage = ACCESS)
+        CLASSPATH_RESOLUTION("classpath resolution"),
+        /**
+         * Creating the final graph of {@link JavaClass JavaClasses}, i.e. connecting all classes, members and accesses
+         */
+        @PublicAPI(usage = ACCESS)
+        CLASS_GRAPH_COMPLETION("class graph completion");
+
+        private final String description;
+
+        Phase(String description) {
+            this.description = description;
+        }
+    }
+
+    /**
+     * Records the statistics of a single import and notifies the {@link ImportListener ImportListeners} once the import has finished.
+     * If nobody is interested in the statistics, {@link #create(Collection)} returns a recorder that does not record anything.
+     */
+    static class Recorder {
+        private static final Recorder DISABLED = new Disabled();
+
+        private final List<ImportListener> importListeners;
+        private final long startNanos = System.nanoTime();
+        private final Map<Phase, LongAdder> phaseNanos = new EnumMap<>(Phase.class);
+        private final AtomicInteger parsedClassFiles = new AtomicInteger();
+        private final LongAdder bytesRead = new LongAdder();
+        private final AtomicInteger resolvedClasses = new AtomicInteger();
+        private final List<Integer> resolvedClassesPerIteration = new ArrayList<>();
+        private int resolvedClassesBeforeIteration = 0;
+        private final Map<Location, LongAdder> locationNanos = new ConcurrentHashMap<>();
+
+        private Recorder(List<ImportListener> importListeners) {
+            this.importListeners = importListeners;
+            for (Phase phase : Phase.values()) {
+                phaseNanos.put(phase, new LongAdder());
+            }
+        }
+
+        static Recorder create(Collection<ImportListener> importListeners) {
+            if (importListeners.isEmpty() && !LoggingListener.isEnabled()) {
+                return DISABLED;
+            }
+            return new Recorder(ImmutableList.<ImportListener>builder()
+                    .add(new LoggingListener())
+                    .addAll(importListeners)
+                    .build());
+        }
+
+        <T> T timed(Phase phase, Supplier<T> action) {
+            long start = System.nanoTime();
+            try {
+                return action.get();
+            } finally {
+                add(phase, System.nanoTime() - start);
+            }
+        }
+
+        void time(Phase phase, Runnable action) {
+            timed(phase, () -> {
+                action.run();
+                return null;
+            });
+        }
+
+        void add(Phase phase, long nanos) {
+            phaseNanos.get(phase).add(nanos);
+        }
+
+        /**
+         * @return The current value of {@link System#nanoTime()}, or 0 if this recorder does not record anything
+         */
+        long nanoTime() {
+            return System.nanoTime();
+        }
+
+        /**
+         * @return The given source, but the durations of all its class files will be summed up for the given imported location
+         */
+        ClassFileSource attributeTo(Location location, ClassFileSource source) {
+            return () -> Iterators.transform(source.iterator(), classFileLocation -> new AttributedClassFileLocation(classFileLocation, location));
+        }
+
+        Iterable<ClassFileLocation> timeScanningOf(ClassFileSource source) {
+            return () -> {
+                Iterator<ClassFileLocation> delegate = timed(Phase.LOCATION_SCANNING, source::iterator);
+                return new Iterator<ClassFileLocation>() {
+                    @Override
+                    public boolean hasNext() {
+                        return timed(Phase.LOCATION_SCANNING, delegate::hasNext);
+                    }
+
+                    @Override
+                    public ClassFileLocation next() {
+                        return timed(Phase.LOCATION_SCANNING, delegate::next);
+                    }
+                };
+            };
+        }
+
+        void onClassFileParsed(ClassFileLocation location, long bytes, long readingNanos, long parsingNanos) {
+            parsedClassFiles.incrementAndGet();
+            onClassFileRead(bytes);
+            add(Phase.CLASS_FILE_READING, readingNanos);
+            add(Phase.CLASS_FILE_PARSING, parsingNanos);
+            locationNanos.computeIfAbsent(importedLocationOf(location), __ -> new LongAdder()).add(readingNanos + parsingNanos);
+        }
+
+        private static Location importedLocationOf(ClassFileLocation location) {
+            return location instanceof AttributedClassFileLocation
+                    ? ((AttributedClassFileLocation) location).importedLocation
+                    : Location.of(location.getUri());
+        }
+
+        void onClassFileRead(long bytes) {
+            bytesRead.add(bytes);
+        }
+
+        ClassResolver recording(ClassResolver classResolver) {
+            return new ClassResolver() {
+                @Override
+                public void setClassUriImporter(ClassUriImporter classUriImporter) {
+                    classResolver.setClassUriImporter(classUriImporter);
+                }
+
+                @Override
+                public Optional<JavaClass> tryResolve(String typeName) {
+                    Optional<JavaClass> result = timed(Phase.CLASSPATH_RESOLUTION, () -> classResolver.tryResolve(typeName));
+                    if (result.isPresent()) {
+                        resolvedClasses.incrementAndGet();
+                    }
+                    return result;
+                }
+
+                @Override
+                public Map<String, JavaClass> tryResolveAll(Set<String> typeNames) {
+                    Map<String, JavaClass> result = timed(Phase.CLASSPATH_RESOLUTION, () -> classResolver.tryResolveAll(typeNames));
+                    resolvedClasses.addAndGet(result.size());
+                    return result;
+                }
+            };
+        }
+
+        void onDependencyResolutionIterationFinished() {
+            int resolvedClassesAfterIteration = resolvedClasses.get();
+            resolvedClassesPerIteration.add(resolvedClassesAfterIteration - resolvedClassesBeforeIteration);
+            resolvedClassesBeforeIteration = resolvedClassesAfterIteration;
+        }
+
+        private Map<Location, Duration> getSlowestLocations() {
+            ImmutableMap.Builder<Location, Duration> result = ImmutableMap.builder();
+            locationNanos.entrySet().stream()
+                    .map(entry -> new LocationDuration(entry.getKey(), entry.getValue().sum()))
+                    .sorted(Comparator.comparingLong((LocationDuration it) -> it.nanos).reversed())
+                    .limit(NUMBER_OF_SLOWEST_LOCATIONS)
+                    .forEach(it -> result.put(it.location, Duration.ofNanos(it.nanos)));
+            return result.build();
+        }
+
+        void finish() {
+            ImportStatistics statistics = new ImportStatistics(this);
+            for (ImportListener importListener : importListeners) {
+                importListener.onImportFinished(statistics);
+            }
+        }
+
+        private static class Disabled extends Recorder {
+            Disabled() {
+                super(ImmutableList.of());
+            }
+
+            @Override
+            <T> T timed(Phase phase, Supplier<T> action) {
+                return action.get();
+            }
+
+            @Override
+            void add(Phase phase, long nanos) {
+            }
+
+            @Override
+            long nanoTime() {
+                return 0;
+            }
+
+            @Override
+            ClassFileSource attributeTo(Location location, ClassFileSource source) {
+                return source;
+            }
+
+            @Override
+            Iterable<ClassFileLocation> timeScanningOf(ClassFileSource source) {
+                return source;
+            }
+
+            @Override
+            void onClassFileParsed(ClassFileLocation location, long bytes, long readingNanos, long parsingNanos) {
+            }
+
+            @Override
+            void onClassFileRead(long bytes) {
+            }
+
+            @Override
+            ClassResolver recording(ClassResolver classResolver) {
+                return classResolver;
+            }
+
+            @Override
+            void onDependencyResolutionIterationFinished() {
+            }
+
+            @Override
+            void finish() {
+            }
+        }
+    }
+
+    private static class AttributedClassFileLocation implements ClassFileLocation {
+        private final ClassFileLocation delegate;
+        private final Location importedLocation;
+
+        AttributedClassFileLocation(ClassFileLocation delegate, Location importedLocation) {
+            this.delegate = delegate;
+            this.importedLocation = importedLocation;
+        }
+
+        @Override
+        public InputStream openStream() {
+            return delegate.openStream();
+        }
+
+        @Override
+        public URI getUri() {
+            return delegate.getUri();
+        }
+    }
+
+    private static class LocationDuration {
+        private final Location location;
+        private final long nanos;
+
+        LocationDuration(Location location, long nanos) {
+            this.location = location;
+            this.nanos = nanos;
+        }
+    }
+
+    static class LoggingListener implements ImportListener {
+        private static final Logger LOG = LoggerFactory.getLogger(ImportStatistics.class);
+
+        static boolean isEnabled() {
+            return LOG.isDebugEnabled();
+        }
+
+        @Override
+        public void onImportFinished(ImportStatistics statistics) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug(statistics.toString());
+            }
+        }
+    }
+}
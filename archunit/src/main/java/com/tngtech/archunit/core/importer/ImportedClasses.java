@@ -17,8 +17,10 @@ package com.tngtech.archunit.core.importer;
 
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
@@ -35,6 +37,7 @@ import static com.tngtech.archunit.core.domain.JavaModifier.FINAL;
 import static com.tngtech.archunit.core.domain.JavaModifier.PUBLIC;
 import static com.tngtech.archunit.core.importer.ImportedClasses.ImportedClassState.HAD_TO_BE_IMPORTED;
 import static com.tngtech.archunit.core.importer.ImportedClasses.ImportedClassState.WAS_ALREADY_PRESENT;
+import static java.util.stream.Collectors.toCollection;
 
 class ImportedClasses {
     private static final ImmutableSet<JavaModifier> PRIMITIVE_AND_ARRAY_TYPE_MODIFIERS =
@@ -70,9 +73,36 @@ class ImportedClasses {
         return HAD_TO_BE_IMPORTED;
     }
 
+    /**
+     * Like {@link #ensurePresent(String)}, but resolves all missing types together via {@link ClassResolver#tryResolveAll(Set)}.
+     *
+     * @return {@link ImportedClassState#HAD_TO_BE_IMPORTED HAD_TO_BE_IMPORTED}, if any of the types had to be imported
+     */
+    ImportedClassState ensureAllPresent(Collection<String> typeNames) {
+        Set<String> missingTypeNames = typeNames.stream()
+                .filter(typeName -> !allClasses.containsKey(typeName))
+                .collect(toCollection(LinkedHashSet::new));
+        if (missingTypeNames.isEmpty()) {
+            return WAS_ALREADY_PRESENT;
+        }
+
+        Map<String, JavaClass> resolved = resolver.tryResolveAll(missingTypeNames);
+        allClasses.putAll(resolved);
+        for (String typeName : missingTypeNames) {
+            // component types of arrays might have been added in the meantime
+            if (!allClasses.containsKey(typeName)) {
+                add(typeName, stubClassOf(typeName));
+            }
+        }
+        return HAD_TO_BE_IMPORTED;
+    }
+
     private JavaClass resolve(String typeName) {
         Optional<JavaClass> resolved = resolver.tryResolve(typeName);
-        JavaClass javaClass = resolved.isPresent() ? resolved.get() : stubClassOf(typeName);
+        return add(typeName, resolved.isPresent() ? resolved.get() : stubClassOf(typeName));
+    }
+
+    private JavaClass add(String typeName, JavaClass javaClass) {
         if (javaClass.isArray()) {
             ensureAllComponentTypesPresent(javaClass);
         }
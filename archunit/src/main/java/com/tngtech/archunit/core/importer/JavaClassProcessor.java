@@ -82,17 +82,19 @@ class JavaClassProcessor extends ClassVisitor {
     private final SourceDescriptor sourceDescriptor;
     private final DeclarationHandler declarationHandler;
     private final AccessHandler accessHandler;
+    private final SymbolTable symbols;
     private String className;
 
-    JavaClassProcessor(SourceDescriptor sourceDescriptor, DeclarationHandler declarationHandler) {
-        this(sourceDescriptor, declarationHandler, NO_OP);
+    JavaClassProcessor(SourceDescriptor sourceDescriptor, DeclarationHandler declarationHandler, SymbolTable symbols) {
+        this(sourceDescriptor, declarationHandler, NO_OP, symbols);
     }
 
-    JavaClassProcessor(SourceDescriptor sourceDescriptor, DeclarationHandler declarationHandler, AccessHandler accessHandler) {
+    JavaClassProcessor(SourceDescriptor sourceDescriptor, DeclarationHandler declarationHandler, AccessHandler accessHandler, SymbolTable symbols) {
         super(ASM_API_VERSION);
         this.sourceDescriptor = sourceDescriptor;
         this.declarationHandler = declarationHandler;
         this.accessHandler = accessHandler;
+        this.symbols = symbols;
     }
 
     Optional<JavaClass> createJavaClass() {
@@ -102,7 +104,7 @@ class JavaClassProcessor extends ClassVisitor {
     @Override
     public void visit(int version, int access, String name, String signature, String superName, String[] interfaces) {
         LOG.debug("Processing class '{}'", name);
-        JavaClassDescriptor descriptor = JavaClassDescriptorImporter.createFromAsmObjectTypeName(name);
+        JavaClassDescriptor descriptor = symbols.descriptorOfAsmObjectTypeName(name);
         if (alreadyImported(descriptor)) {
             return;
         }
@@ -199,8 +201,8 @@ class JavaClassProcessor extends ClassVisitor {
         declarationHandler.registerEnclosingClass(className, createTypeName(owner));
 
         if (name != null && desc != null) {
-            JavaClassDescriptor ownerType = JavaClassDescriptorImporter.createFromAsmObjectTypeName(owner);
-            CodeUnit codeUnit = new CodeUnit(name, desc, ownerType.getFullyQualifiedClassName());
+            JavaClassDescriptor ownerType = symbols.descriptorOfAsmObjectTypeName(owner);
+            CodeUnit codeUnit = symbols.codeUnit(name, desc, ownerType.getFullyQualifiedClassName());
             declarationHandler.registerEnclosingCodeUnit(className, codeUnit);
         }
     }
@@ -214,7 +216,7 @@ class JavaClassProcessor extends ClassVisitor {
     }
 
     private String createTypeName(String name) {
-        return name.replace("/", ".");
+        return symbols.descriptorOfAsmObjectTypeName(name).getFullyQualifiedClassName();
     }
 
     @Override
@@ -226,10 +228,10 @@ class JavaClassProcessor extends ClassVisitor {
         JavaClassDescriptor rawType = JavaClassDescriptorImporter.importAsmTypeFromDescriptor(desc);
         Optional<JavaTypeCreationProcess<JavaField>> genericType = JavaFieldTypeSignatureImporter.parseAsmFieldTypeSignature(signature, declarationHandler);
         DomainBuilders.JavaFieldBuilder fieldBuilder = new DomainBuilders.JavaFieldBuilder()
-                .withName(name)
+                .withName(symbols.intern(name))
                 .withType(genericType, rawType)
                 .withModifiers(JavaModifier.getModifiersForField(access))
-                .withDescriptor(desc);
+                .withDescriptor(symbols.intern(desc));
         declarationHandler.onDeclaredField(fieldBuilder, rawType.getFullyQualifiedClassName());
         return new FieldProcessor(fieldBuilder, declarationHandler);
     }
@@ -241,7 +243,7 @@ class JavaClassProcessor extends ClassVisitor {
         }
 
         LOG.trace("Analyzing method {}.{}:{}", className, name, desc);
-        CodeUnit codeUnit = new CodeUnit(name, desc, className);
+        CodeUnit codeUnit = symbols.codeUnit(name, desc, className);
         accessHandler.setContext(codeUnit);
 
         JavaClassDescriptor rawReturnType = JavaClassDescriptorImporter.importAsmMethodReturnType(desc);
@@ -249,12 +251,12 @@ class JavaClassProcessor extends ClassVisitor {
         JavaCodeUnitSignature codeUnitSignature = JavaCodeUnitSignatureImporter.parseAsmMethodSignature(signature, declarationHandler);
         List<JavaClassDescriptor> throwsDeclarations = typesFrom(exceptions);
         codeUnitBuilder
-                .withName(name)
+                .withName(codeUnit.getName())
                 .withModifiers(JavaModifier.getModifiersForMethod(access))
                 .withTypeParameters(codeUnitSignature.getTypeParameterBuilders())
                 .withParameterTypes(codeUnitSignature.getParameterTypes(), codeUnit.getRawParameterTypes())
                 .withReturnType(codeUnitSignature.getReturnType(), rawReturnType)
-                .withDescriptor(desc)
+                .withDescriptor(codeUnit.getDescriptor())
                 .withThrowsClause(throwsDeclarations);
         declarationHandler.onDeclaredThrowsClause(fullyQualifiedClassNamesOf(throwsDeclarations));
 
@@ -271,7 +273,7 @@ class JavaClassProcessor extends ClassVisitor {
 
     private List<JavaClassDescriptor> typesFrom(String[] throwsDeclarations) {
         return throwsDeclarations != null
-                ? stream(throwsDeclarations).map(JavaClassDescriptorImporter::createFromAsmObjectTypeName).collect(toList())
+                ? stream(throwsDeclarations).map(symbols::descriptorOfAsmObjectTypeName).collect(toList())
                 : Collections.emptyList();
     }
 
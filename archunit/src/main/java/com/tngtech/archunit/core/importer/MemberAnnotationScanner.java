@@ -0,0 +1,175 @@
+/*
+ * Copyright 2014-2023 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.importer;
+
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.tngtech.archunit.Internal;
+import org.objectweb.asm.AnnotationVisitor;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.FieldVisitor;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static com.tngtech.archunit.core.importer.ClassFileProcessor.ASM_API_VERSION;
+import static java.util.Collections.emptyList;
+import static java.util.stream.Collectors.toList;
+import static org.objectweb.asm.ClassReader.SKIP_CODE;
+import static org.objectweb.asm.ClassReader.SKIP_DEBUG;
+import static org.objectweb.asm.ClassReader.SKIP_FRAMES;
+
+/**
+ * Finds all classes at some {@link Location locations} that declare or inherit a field or method annotated with
+ * a certain annotation, without importing these classes. Of each class file only the names of the class and its supertypes
+ * and the annotations of fields and methods are read, all code is skipped. Thus, this is a lot cheaper than a full import
+ * via {@link ClassFileImporter}, if only few of the classes are actually of interest (e.g. to discover test classes).
+ * <br><br>
+ * Like for an import that does not resolve any missing classes, members are only inherited from supertypes
+ * that are contained in the scanned locations themselves.
+ */
+@Internal
+public final class MemberAnnotationScanner {
+    private static final Logger LOG = LoggerFactory.getLogger(MemberAnnotationScanner.class);
+
+    private final String annotationDescriptor;
+
+    public MemberAnnotationScanner(Class<? extends Annotation> annotationType) {
+        annotationDescriptor = Type.getDescriptor(annotationType);
+    }
+
+    /**
+     * @return the fully qualified names of all classes at the given locations that declare or inherit a field or method
+     * annotated with the annotation of this scanner
+     */
+    public List<String> findClassesWithAnnotatedMembers(Collection<Location> locations) {
+        Map<String, ScannedClass> classesByName = new LinkedHashMap<>();
+        for (Location location : locations) {
+            for (ClassFileLocation classFileLocation : tryGetClassFileSource(location)) {
+                scan(classFileLocation, classesByName);
+            }
+        }
+
+        Map<String, Boolean> hasAnnotatedMembersByName = new HashMap<>();
+        return classesByName.keySet().stream()
+                .filter(className -> hasAnnotatedMembers(className, classesByName, hasAnnotatedMembersByName))
+                .map(className -> className.replace('/', '.'))
+                .collect(toList());
+    }
+
+    private Iterable<ClassFileLocation> tryGetClassFileSource(Location location) {
+        try {
+            return location.asClassFileSource(new ImportOptions());
+        } catch (Exception e) {
+            LOG.warn(String.format("Couldn't derive %s from %s", ClassFileSource.class.getSimpleName(), location), e);
+            return emptyList();
+        }
+    }
+
+    private void scan(ClassFileLocation location, Map<String, ScannedClass> classesByName) {
+        try (InputStream in = location.openStream()) {
+            ScanningClassVisitor visitor = new ScanningClassVisitor(annotationDescriptor);
+            new ClassReader(in).accept(visitor, SKIP_CODE | SKIP_DEBUG | SKIP_FRAMES);
+            // like for an import the first class file found for a class name wins
+            classesByName.putIfAbsent(visitor.scannedClass.internalName, visitor.scannedClass);
+        } catch (Exception e) {
+            LOG.warn(String.format("Couldn't scan class from %s", location.getUri()), e);
+        }
+    }
+
+    private static boolean hasAnnotatedMembers(String internalName, Map<String, ScannedClass> classesByName, Map<String, Boolean> hasAnnotatedMembersByName) {
+        Boolean cachedResult = hasAnnotatedMembersByName.get(internalName);
+        if (cachedResult != null) {
+            return cachedResult;
+        }
+
+        ScannedClass scannedClass = classesByName.get(internalName);
+        boolean result = scannedClass != null && (scannedClass.declaresAnnotatedMembers
+                || scannedClass.supertypes.stream().anyMatch(supertype -> hasAnnotatedMembers(supertype, classesByName, hasAnnotatedMembersByName)));
+        hasAnnotatedMembersByName.put(internalName, result);
+        return result;
+    }
+
+    private static class ScannedClass {
+        private final String internalName;
+        private final List<String> supertypes = new ArrayList<>();
+        private boolean declaresAnnotatedMembers = false;
+
+        ScannedClass(String internalName) {
+            this.internalName = internalName;
+        }
+    }
+
+    private static class ScanningClassVisitor extends ClassVisitor {
+        private final String annotationDescriptor;
+        private ScannedClass scannedClass;
+
+        ScanningClassVisitor(String annotationDescriptor) {
+            super(ASM_API_VERSION);
+            this.annotationDescriptor = annotationDescriptor;
+        }
+
+        @Override
+        public void visit(int version, int access, String name, String signature, String superName, String[] interfaces) {
+            scannedClass = new ScannedClass(name);
+            if (superName != null) {
+                scannedClass.supertypes.add(superName);
+            }
+            if (interfaces != null) {
+                for (String anInterface : interfaces) {
+                    scannedClass.supertypes.add(anInterface);
+                }
+            }
+        }
+
+        @Override
+        public FieldVisitor visitField(int access, String name, String descriptor, String signature, Object value) {
+            return scannedClass.declaresAnnotatedMembers ? null : new FieldVisitor(ASM_API_VERSION) {
+                @Override
+                public AnnotationVisitor visitAnnotation(String descriptor, boolean visible) {
+                    recordAnnotation(descriptor);
+                    return null;
+                }
+            };
+        }
+
+        @Override
+        public MethodVisitor visitMethod(int access, String name, String descriptor, String signature, String[] exceptions) {
+            return scannedClass.declaresAnnotatedMembers ? null : new MethodVisitor(ASM_API_VERSION) {
+                @Override
+                public AnnotationVisitor visitAnnotation(String descriptor, boolean visible) {
+                    recordAnnotation(descriptor);
+                    return null;
+                }
+            };
+        }
+
+        private void recordAnnotation(String descriptor) {
+            if (descriptor.equals(annotationDescriptor)) {
+                scannedClass.declaresAnnotatedMembers = true;
+            }
+        }
+    }
+}
@@ -176,11 +176,11 @@ class RawAccessRecord implements RawCodeUnitDependency<RawAccessRecord.TargetInf
 
         private final int hashCode;
 
-        TargetInfo(String owner, String name, String desc) {
-            this.owner = JavaClassDescriptorImporter.createFromAsmObjectTypeName(owner);
+        TargetInfo(JavaClassDescriptor owner, String name, String desc) {
+            this.owner = owner;
             this.name = name;
             this.desc = desc;
-            hashCode = Objects.hash(owner, name, desc);
+            hashCode = Objects.hash(owner.getFullyQualifiedClassName(), name, desc);
         }
 
         @Override
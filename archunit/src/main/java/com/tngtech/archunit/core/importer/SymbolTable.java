@@ -0,0 +1,63 @@
+/*
+ * Copyright 2014-2023 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.importer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import com.tngtech.archunit.core.domain.JavaClassDescriptor;
+import com.tngtech.archunit.core.importer.RawAccessRecord.CodeUnit;
+import com.tngtech.archunit.core.importer.RawAccessRecord.TargetInfo;
+
+/**
+ * Interns the symbols encountered while parsing the class files of one import. ASM creates new {@link String Strings}
+ * for the names and descriptors of every class file, even though most of them are the same across many class files
+ * (e.g. every call of {@code Object.<init>()} has the same owner, name and descriptor). Thus, we keep only one
+ * canonical instance of every name, descriptor, {@link TargetInfo} and {@link CodeUnit}, no matter how often it is
+ * referenced by the imported classes.
+ * <br><br>
+ * A symbol table is shared by all threads of an import, thus all methods are thread-safe.
+ */
+class SymbolTable {
+    private final Interner<String> strings = Interners.newStrongInterner();
+    private final Map<String, JavaClassDescriptor> descriptorsByAsmObjectTypeName = new ConcurrentHashMap<>();
+    private final Interner<TargetInfo> targets = Interners.newStrongInterner();
+    private final Interner<CodeUnit> codeUnits = Interners.newStrongInterner();
+
+    String intern(String string) {
+        return string != null ? strings.intern(string) : null;
+    }
+
+    /**
+     * @see JavaClassDescriptorImporter#createFromAsmObjectTypeName(String)
+     */
+    JavaClassDescriptor descriptorOfAsmObjectTypeName(String objectTypeName) {
+        JavaClassDescriptor descriptor = descriptorsByAsmObjectTypeName.get(objectTypeName);
+        return descriptor != null
+                ? descriptor
+                : descriptorsByAsmObjectTypeName.computeIfAbsent(intern(objectTypeName), JavaClassDescriptorImporter::createFromAsmObjectTypeName);
+    }
+
+    TargetInfo targetInfo(String owner, String name, String desc) {
+        return targets.intern(new TargetInfo(descriptorOfAsmObjectTypeName(owner), intern(name), intern(desc)));
+    }
+
+    CodeUnit codeUnit(String name, String descriptor, String declaringClassName) {
+        return codeUnits.intern(new CodeUnit(intern(name), intern(descriptor), intern(declaringClassName)));
+    }
+}
@@ -15,11 +15,16 @@
  */
 package com.tngtech.archunit.core.importer.resolvers;
 
+import java.io.InputStream;
 import java.lang.reflect.Constructor;
 import java.net.URI;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import com.tngtech.archunit.ArchConfiguration;
 import com.tngtech.archunit.Internal;
@@ -30,6 +35,7 @@ import com.tngtech.archunit.base.MayResolveTypesViaReflection;
 import com.tngtech.archunit.core.domain.JavaClass;
 import com.tngtech.archunit.core.importer.ClassFileImporter;
 
+import static com.tngtech.archunit.PublicAPI.State.EXPERIMENTAL;
 import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
 import static com.tngtech.archunit.PublicAPI.Usage.INHERITANCE;
 
@@ -64,6 +70,25 @@ public interface ClassResolver {
      */
     Optional<JavaClass> tryResolve(String typeName);
 
+    /**
+     * ArchUnit will call this method, to resolve all missing {@link JavaClass JavaClasses} of one dependency resolution
+     * iteration at once. Implementations can override this method to resolve many types more efficiently than
+     * one by one, e.g. by reading each archive containing some of the types only once.
+     * By default, every type is resolved via {@link #tryResolve(String)}.
+     *
+     * @param typeNames The type names to resolve as {@link JavaClass JavaClasses}
+     * @return The successfully imported {@link JavaClass JavaClasses} by type name. Type names that could not be resolved
+     * are not contained.
+     */
+    @PublicAPI(usage = INHERITANCE, state = EXPERIMENTAL)
+    default Map<String, JavaClass> tryResolveAll(Set<String> typeNames) {
+        Map<String, JavaClass> result = new HashMap<>();
+        for (String typeName : typeNames) {
+            tryResolve(typeName).ifPresent(javaClass -> result.put(typeName, javaClass));
+        }
+        return result;
+    }
+
     /**
      * Provides a way to import a JavaClass from a given {@link URI}.
      *
@@ -85,6 +110,21 @@ public interface ClassResolver {
          */
         @PublicAPI(usage = ACCESS)
         Optional<JavaClass> tryImport(URI uri);
+
+        /**
+         * Like {@link #tryImport(URI)}, but reads the class file from the stream supplied by {@code classFile}
+         * instead of opening the {@link URI} (e.g. to read many class files from an already opened archive).
+         * The stream might not be requested at all (e.g. if the class file is cached) and will be closed after the import.
+         *
+         * @param uri The {@link URI} of the class file to import
+         * @param classFile Supplies the content of the class file
+         * @return Optional.of(importedClass), if the {@link JavaClass} could be successfully imported,
+         * otherwise Optional.absent()
+         */
+        @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+        default Optional<JavaClass> tryImport(URI uri, Supplier<InputStream> classFile) {
+            return tryImport(uri);
+        }
     }
 
     @Internal
@@ -15,14 +15,26 @@
  */
 package com.tngtech.archunit.core.importer.resolvers;
 
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.jar.JarFile;
+import java.util.zip.ZipEntry;
 
 import com.tngtech.archunit.base.ArchUnitException;
 import com.tngtech.archunit.base.MayResolveTypesViaReflection;
 import com.tngtech.archunit.core.domain.JavaClass;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.tngtech.archunit.base.ClassLoaders.getCurrentClassLoader;
@@ -31,11 +43,28 @@ import static com.tngtech.archunit.base.ClassLoaders.getCurrentClassLoader;
  * A {@link ClassResolver} that tries to locate missing dependencies on the classpath.
  * I.e. uses {@link Class#getResource(String)} to find the {@link URI} of the classfile for the missing
  * type, then uses the supplied {@link ClassResolver.ClassUriImporter} to import the type.
+ * If several types are resolved at once (compare {@link #tryResolveAll(Set)}), every JAR file containing
+ * some of these types is only opened once to read all the respective class files.
  */
 @MayResolveTypesViaReflection(reason = "This is a dedicated option to resolve further dependencies from the classpath")
 public final class ClassResolverFromClasspath implements ClassResolver {
+    private static final Logger LOG = LoggerFactory.getLogger(ClassResolverFromClasspath.class);
+    private static final String JAR_ENTRY_SEPARATOR = "!/";
+
+    private final Function<String, Optional<URI>> classFileUriFinder;
     private ClassUriImporter classUriImporter;
 
+    public ClassResolverFromClasspath() {
+        this(ClassResolverFromClasspath::tryGetUriFromClassLoader);
+    }
+
+    /**
+     * @param classFileUriFinder finds the {@link URI} of a class file given its resource name (e.g. {@code com/example/Foo.class})
+     */
+    ClassResolverFromClasspath(Function<String, Optional<URI>> classFileUriFinder) {
+        this.classFileUriFinder = classFileUriFinder;
+    }
+
     @Override
     public void setClassUriImporter(ClassUriImporter classUriImporter) {
         this.classUriImporter = checkNotNull(classUriImporter,
@@ -44,15 +73,87 @@ public final class ClassResolverFromClasspath implements ClassResolver {
 
     @Override
     public Optional<JavaClass> tryResolve(String typeName) {
-        String typeFile = typeName.replace(".", "/") + ".class";
-
-        Optional<URI> uri = tryGetUriOf(typeFile);
+        Optional<URI> uri = classFileUriFinder.apply(toTypeFile(typeName));
 
         return uri.isPresent() ? classUriImporter.tryImport(uri.get()) : Optional.empty();
     }
 
-    private Optional<URI> tryGetUriOf(String typeFile) {
-        URL resource = getCurrentClassLoader(getClass()).getResource(typeFile);
+    @Override
+    public Map<String, JavaClass> tryResolveAll(Set<String> typeNames) {
+        Map<String, JavaClass> result = new HashMap<>();
+        Map<File, Map<String, URI>> classFileUrisByJarFile = new LinkedHashMap<>();
+        for (String typeName : typeNames) {
+            Optional<URI> uri = classFileUriFinder.apply(toTypeFile(typeName));
+            if (!uri.isPresent()) {
+                continue;
+            }
+
+            Optional<File> jarFile = tryGetLocalJarFile(uri.get());
+            if (jarFile.isPresent()) {
+                classFileUrisByJarFile.computeIfAbsent(jarFile.get(), __ -> new LinkedHashMap<>()).put(typeName, uri.get());
+            } else {
+                classUriImporter.tryImport(uri.get()).ifPresent(javaClass -> result.put(typeName, javaClass));
+            }
+        }
+        classFileUrisByJarFile.forEach((jarFile, classFileUris) -> result.putAll(importFrom(jarFile, classFileUris)));
+        return result;
+    }
+
+    private Map<String, JavaClass> importFrom(File jarFile, Map<String, URI> classFileUrisByTypeName) {
+        Map<String, JavaClass> result = new HashMap<>();
+        try (JarFile jar = new JarFile(jarFile)) {
+            classFileUrisByTypeName.forEach((typeName, uri) -> {
+                ZipEntry entry = jar.getEntry(getEntryName(uri));
+                Optional<JavaClass> javaClass = entry != null
+                        ? classUriImporter.tryImport(uri, () -> openStream(jar, entry))
+                        : classUriImporter.tryImport(uri);
+                javaClass.ifPresent(it -> result.put(typeName, it));
+            });
+        } catch (IOException e) {
+            LOG.debug("Could not open JAR file {}, falling back to importing class files one by one", jarFile, e);
+            classFileUrisByTypeName.forEach((typeName, uri) ->
+                    classUriImporter.tryImport(uri).ifPresent(javaClass -> result.put(typeName, javaClass)));
+        }
+        return result;
+    }
+
+    private static InputStream openStream(JarFile jar, ZipEntry entry) {
+        try {
+            return jar.getInputStream(entry);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * @return the local JAR file, if the {@link URI} points to an entry of a JAR file within the local file system
+     *         (i.e. not to an entry of a nested JAR file)
+     */
+    private static Optional<File> tryGetLocalJarFile(URI uri) {
+        String uriString = uri.toString();
+        int separatorIndex = uriString.indexOf(JAR_ENTRY_SEPARATOR);
+        if (!"jar".equals(uri.getScheme()) || separatorIndex < 0 || uriString.indexOf(JAR_ENTRY_SEPARATOR, separatorIndex + 1) >= 0) {
+            return Optional.empty();
+        }
+        try {
+            URI jarFileUri = new URI(uriString.substring("jar:".length(), separatorIndex));
+            return "file".equals(jarFileUri.getScheme()) ? Optional.of(new File(jarFileUri)) : Optional.empty();
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static String getEntryName(URI jarEntryUri) {
+        String schemeSpecificPart = jarEntryUri.getSchemeSpecificPart();
+        return schemeSpecificPart.substring(schemeSpecificPart.indexOf(JAR_ENTRY_SEPARATOR) + JAR_ENTRY_SEPARATOR.length());
+    }
+
+    private static String toTypeFile(String typeName) {
+        return typeName.replace(".", "/") + ".class";
+    }
+
+    static Optional<URI> tryGetUriFromClassLoader(String typeFile) {
+        URL resource = getCurrentClassLoader(ClassResolverFromClasspath.class).getResource(typeFile);
         if (resource == null) {
             return Optional.empty();
         }
@@ -63,7 +164,7 @@ public final class ClassResolverFromClasspath implements ClassResolver {
         }
     }
 
-    private URI toUri(URL resource) throws URISyntaxException {
+    private static URI toUri(URL resource) throws URISyntaxException {
         try {
             return resource.toURI();
         } catch (URISyntaxException e) {
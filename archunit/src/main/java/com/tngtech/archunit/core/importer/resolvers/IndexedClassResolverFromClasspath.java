@@ -0,0 +1,79 @@
+/*
+ * Copyright 2014-2023 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.importer.resolvers;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import com.tngtech.archunit.PublicAPI;
+import com.tngtech.archunit.base.MayResolveTypesViaReflection;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.importer.ClasspathIndex;
+import com.tngtech.archunit.core.importer.Locations;
+
+import static com.tngtech.archunit.PublicAPI.State.EXPERIMENTAL;
+import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
+
+/**
+ * A {@link ClassResolver} that resolves missing dependencies from the classpath like {@link ClassResolverFromClasspath}.
+ * However, instead of asking the {@link ClassLoader} for the class file of every single missing type
+ * (which has to search through all entries of the classpath), the class files of the whole classpath
+ * (compare {@link Locations#inClassPath()}) are indexed once, and the class file of any type is then simply looked up.
+ * The index is reused by further imports, as long as the classpath does not change.
+ * <br><br>
+ * Types that are not contained in the index (e.g. because they can only be loaded by a custom {@link ClassLoader})
+ * are still looked up via the {@link ClassLoader}.
+ * <br><br>
+ * This resolver pays off for imports that need to resolve many classes from a big classpath. It can be configured via
+ * <pre><code>
+ * classResolver=com.tngtech.archunit.core.importer.resolvers.IndexedClassResolverFromClasspath
+ * </code></pre>
+ * in {@code archunit.properties}.
+ */
+@MayResolveTypesViaReflection(reason = "This is a dedicated option to resolve further dependencies from the classpath")
+@PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+public final class IndexedClassResolverFromClasspath implements ClassResolver {
+    private final ClassResolverFromClasspath classResolverFromClasspath;
+
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public IndexedClassResolverFromClasspath() {
+        ClasspathIndex index = ClasspathIndex.ofClassPath();
+        classResolverFromClasspath = new ClassResolverFromClasspath(typeFile -> {
+            Optional<URI> uri = index.findClassFile(typeFile);
+            return uri.isPresent() ? uri : ClassResolverFromClasspath.tryGetUriFromClassLoader(typeFile);
+        });
+    }
+
+    @Override
+    @PublicAPI(usage = ACCESS)
+    public void setClassUriImporter(ClassUriImporter classUriImporter) {
+        classResolverFromClasspath.setClassUriImporter(classUriImporter);
+    }
+
+    @Override
+    @PublicAPI(usage = ACCESS)
+    public Optional<JavaClass> tryResolve(String typeName) {
+        return classResolverFromClasspath.tryResolve(typeName);
+    }
+
+    @Override
+    @PublicAPI(usage = ACCESS)
+    public Map<String, JavaClass> tryResolveAll(Set<String> typeNames) {
+        return classResolverFromClasspath.tryResolveAll(typeNames);
+    }
+}
@@ -16,6 +16,7 @@
 package com.tngtech.archunit.core.importer.resolvers;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -24,6 +25,7 @@ import com.tngtech.archunit.PublicAPI;
 import com.tngtech.archunit.core.domain.JavaClass;
 
 import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
+import static java.util.stream.Collectors.toSet;
 
 /**
  * Only resolves classes from classpath that are beneath the configured {@link #packageRoots}. E.g. useful,
@@ -51,11 +53,21 @@ public final class SelectedClassResolverFromClasspath implements ClassResolver {
     @Override
     @PublicAPI(usage = ACCESS)
     public Optional<JavaClass> tryResolve(String typeName) {
+        return isSelected(typeName) ? classResolverFromClasspath.tryResolve(typeName) : Optional.empty();
+    }
+
+    @Override
+    @PublicAPI(usage = ACCESS)
+    public Map<String, JavaClass> tryResolveAll(Set<String> typeNames) {
+        return classResolverFromClasspath.tryResolveAll(typeNames.stream().filter(this::isSelected).collect(toSet()));
+    }
+
+    private boolean isSelected(String typeName) {
         for (String root : packageRoots) {
             if (typeName.startsWith(root)) {
-                return classResolverFromClasspath.tryResolve(typeName);
+                return true;
             }
         }
-        return Optional.empty();
+        return false;
     }
 }
@@ -15,6 +15,8 @@
  */
 package com.tngtech.archunit.lang;
 
+import java.util.Objects;
+
 import com.tngtech.archunit.PublicAPI;
 import com.tngtech.archunit.base.DescribedIterable;
 import com.tngtech.archunit.base.DescribedPredicate;
@@ -31,9 +33,16 @@ import static java.util.stream.StreamSupport.stream;
 @PublicAPI(usage = INHERITANCE)
 public abstract class AbstractClassesTransformer<T> implements ClassesTransformer<T> {
     private final String description;
+    private final Object selection;
 
     protected AbstractClassesTransformer(String description) {
         this.description = description;
+        this.selection = this;
+    }
+
+    private AbstractClassesTransformer(String description, Object selection) {
+        this.description = description;
+        this.selection = selection;
     }
 
     @Override
@@ -45,7 +54,7 @@ public abstract class AbstractClassesTransformer<T> implements ClassesTransforme
 
     @Override
     public final ClassesTransformer<T> that(DescribedPredicate<? super T> predicate) {
-        return new AbstractClassesTransformer<T>(description + " that " + predicate.getDescription()) {
+        return new AbstractClassesTransformer<T>(description + " that " + predicate.getDescription(), new FilteredSelection(selection, predicate)) {
             @Override
             public Iterable<T> doTransform(JavaClasses collection) {
                 Iterable<T> transformed = AbstractClassesTransformer.this.doTransform(collection);
@@ -61,7 +70,7 @@ public abstract class AbstractClassesTransformer<T> implements ClassesTransforme
 
     @Override
     public final ClassesTransformer<T> as(String description) {
-        return new AbstractClassesTransformer<T>(description) {
+        return new AbstractClassesTransformer<T>(description, selection) {
             @Override
             public Iterable<T> doTransform(JavaClasses collection) {
                 return AbstractClassesTransformer.this.doTransform(collection);
@@ -69,8 +78,46 @@ public abstract class AbstractClassesTransformer<T> implements ClassesTransforme
         };
     }
 
+    /**
+     * @return an object that is equal for all transformers that select the same objects, i.e. that are derived from the same
+     *         transformer instance by {@link #that(DescribedPredicate) filtering} with the same predicate instances,
+     *         no matter how they are {@link #as(String) described}. Predicates are compared by identity, since equal
+     *         descriptions do not imply equal predicates (e.g. annotations with the same simple name).
+     */
+    Object getSelection() {
+        return selection;
+    }
+
     @Override
     public String toString() {
         return ClassesTransformer.class.getSimpleName() + "{" + getDescription() + "}";
     }
+
+    private static class FilteredSelection {
+        private final Object source;
+        private final DescribedPredicate<?> predicate;
+
+        FilteredSelection(Object source, DescribedPredicate<?> predicate) {
+            this.source = source;
+            this.predicate = predicate;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(source, System.identityHashCode(predicate));
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || getClass() != obj.getClass()) {
+                return false;
+            }
+            FilteredSelection other = (FilteredSelection) obj;
+            return Objects.equals(this.source, other.source)
+                    && this.predicate == other.predicate;
+        }
+    }
 }
@@ -24,6 +24,7 @@ import com.tngtech.archunit.core.domain.JavaClass;
 import com.tngtech.archunit.core.domain.properties.HasSourceCodeLocation;
 import com.tngtech.archunit.lang.conditions.ArchConditions;
 
+import static com.tngtech.archunit.PublicAPI.State.EXPERIMENTAL;
 import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
 import static com.tngtech.archunit.PublicAPI.Usage.INHERITANCE;
 import static com.tngtech.archunit.lang.ConditionEvent.createMessage;
@@ -57,6 +58,50 @@ public abstract class ArchCondition<T> {
     public void finish(ConditionEvents events) {
     }
 
+    /**
+     * Declares whether {@link #check(Object, ConditionEvents)} may be called concurrently for different objects
+     * (compare {@link com.tngtech.archunit.ArchConfiguration#parallelRuleEvaluationEnabled()}). In this case every thread will pass
+     * its own {@link ConditionEvents} to {@link #check(Object, ConditionEvents)}, but {@link #init(Collection)} and
+     * {@link #finish(ConditionEvents)} will still be called only once.<br>
+     * Conditions that do not modify any state while checking single items (i.e. where each single {@link #check(Object, ConditionEvents)}
+     * stands for itself) and are thread-safe can override this method and return {@code true}.
+     *
+     * @return {@code true}, if this condition can check several objects concurrently, by default {@code false}
+     */
+    @PublicAPI(usage = INHERITANCE, state = EXPERIMENTAL)
+    public boolean supportsParallelEvaluation() {
+        return false;
+    }
+
+    /**
+     * Declares whether {@link #check(Object, ConditionEvents)} only reports {@link ConditionEvent events} about the checked object,
+     * i.e. it neither modifies any state nor depends on which other objects have been checked before
+     * (state prepared once by {@link #init(Collection)} is fine).<br>
+     * ArchUnit can then check the objects of several rules interleaved (compare {@link ArchRuleEvaluation})
+     * and skip checks whose result cannot change the outcome anymore (e.g. within {@link #or(ArchCondition)}).
+     *
+     * @return {@code true}, if each {@link #check(Object, ConditionEvents)} stands for itself, by default {@code false}
+     */
+    @PublicAPI(usage = INHERITANCE, state = EXPERIMENTAL)
+    public boolean isStateless() {
+        return false;
+    }
+
+    /**
+     * A rough estimate how expensive it is to {@link #check(Object, ConditionEvents) check} a single object.
+     * Conditions joined by {@link #or(ArchCondition)} or {@link #and(ArchCondition)} check cheaper conditions first, since the remaining
+     * conditions do not need to be checked at all, once one condition is satisfied or violated respectively
+     * (as long as all conditions are {@link #isStateless() stateless}).<br>
+     * Conditions that only look at the object itself (e.g. its name or modifiers) should return {@link Cost#LOW},
+     * conditions that need to traverse the dependencies of the object should return {@link Cost#HIGH}.
+     *
+     * @return The estimated cost of checking a single object, by default {@link Cost#MEDIUM}
+     */
+    @PublicAPI(usage = INHERITANCE, state = EXPERIMENTAL)
+    public Cost getCost() {
+        return Cost.MEDIUM;
+    }
+
     public ArchCondition<T> and(ArchCondition<? super T> condition) {
         return ArchConditions.and(this, condition.forSubtype());
     }
@@ -98,6 +143,21 @@ public abstract class ArchCondition<T> {
             public void finish(ConditionEvents events) {
                 ArchCondition.this.finish(events);
             }
+
+            @Override
+            public boolean supportsParallelEvaluation() {
+                return ArchCondition.this.supportsParallelEvaluation();
+            }
+
+            @Override
+            public boolean isStateless() {
+                return ArchCondition.this.isStateless();
+            }
+
+            @Override
+            public Cost getCost() {
+                return ArchCondition.this.getCost();
+            }
         };
     }
 
@@ -200,11 +260,24 @@ public abstract class ArchCondition<T> {
             return (ConditionByPredicate<U>) this;
         }
 
+        @Override
+        public boolean supportsParallelEvaluation() {
+            return true;
+        }
+
+        @Override
+        public boolean isStateless() {
+            return true;
+        }
+
         @Override
         public void check(T object, ConditionEvents events) {
             boolean satisfied = predicate.test(object);
-            String message = createMessage(object, eventDescriber.describe(predicate.getDescription(), satisfied));
-            events.add(new SimpleConditionEvent(object, satisfied, message));
+            if (satisfied && !events.requiresSatisfiedEvents()) {
+                return;
+            }
+            events.add(SimpleConditionEvent.of(object, satisfied,
+                    () -> createMessage(object, eventDescriber.describe(predicate.getDescription(), satisfied))));
         }
 
         /**
@@ -227,4 +300,14 @@ public abstract class ArchCondition<T> {
             String describe(String predicateDescription, boolean satisfied);
         }
     }
+
+    /**
+     * @see #getCost()
+     */
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public enum Cost {
+        LOW,
+        MEDIUM,
+        HIGH
+    }
 }
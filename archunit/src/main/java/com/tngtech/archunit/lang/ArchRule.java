@@ -16,9 +16,14 @@
 package com.tngtech.archunit.lang;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.tngtech.archunit.ArchConfiguration;
 import com.tngtech.archunit.Internal;
 import com.tngtech.archunit.PublicAPI;
 import com.tngtech.archunit.base.DescribedIterable;
@@ -34,6 +39,7 @@ import com.tngtech.archunit.lang.syntax.elements.GivenClasses;
 
 import static com.google.common.collect.Iterables.isEmpty;
 import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
+import static java.util.stream.Collectors.toList;
 
 /**
  * Represents a rule about a specified set of objects of interest (e.g. {@link JavaClass}).
@@ -81,8 +87,21 @@ public interface ArchRule extends CanBeEvaluated, CanOverrideDescription<ArchRul
 
         @PublicAPI(usage = ACCESS)
         public static void check(ArchRule rule, JavaClasses classes) {
-            EvaluationResult result = rule.evaluate(classes);
-            extensions.dispatch(new SimpleEvaluatedRule(rule, classes, result));
+            check(rule, classes, rule::evaluate);
+        }
+
+        static void check(ArchRule rule, JavaClasses classes, Function<JavaClasses, EvaluationResult> evaluation) {
+            Optional<EvaluationProfile.Recorder> profileRecorder = extensions.isProfileRequired()
+                    ? Optional.of(EvaluationProfile.Recorder.start())
+                    : Optional.empty();
+            EvaluationResult result;
+            Optional<EvaluationProfile> profile;
+            try {
+                result = evaluation.apply(classes);
+            } finally {
+                profile = profileRecorder.map(EvaluationProfile.Recorder::stop);
+            }
+            extensions.dispatch(new SimpleEvaluatedRule(rule, classes, result, profile));
             assertNoViolation(result);
         }
 
@@ -99,11 +118,13 @@ public interface ArchRule extends CanBeEvaluated, CanOverrideDescription<ArchRul
             private final ArchRule rule;
             private final JavaClasses importedClasses;
             private final EvaluationResult evaluationResult;
+            private final Optional<EvaluationProfile> profile;
 
-            SimpleEvaluatedRule(ArchRule rule, JavaClasses importedClasses, EvaluationResult evaluationResult) {
+            SimpleEvaluatedRule(ArchRule rule, JavaClasses importedClasses, EvaluationResult evaluationResult, Optional<EvaluationProfile> profile) {
                 this.rule = rule;
                 this.importedClasses = importedClasses;
                 this.evaluationResult = evaluationResult;
+                this.profile = profile;
             }
 
             @Override
@@ -120,6 +141,11 @@ public interface ArchRule extends CanBeEvaluated, CanOverrideDescription<ArchRul
             public EvaluationResult getResult() {
                 return evaluationResult;
             }
+
+            @Override
+            public Optional<EvaluationProfile> getProfile() {
+                return profile;
+            }
         }
     }
 
@@ -137,8 +163,9 @@ public interface ArchRule extends CanBeEvaluated, CanOverrideDescription<ArchRul
             return rule.getDescription() + ", because " + reason;
         }
 
-        private static class SimpleArchRule<T> implements ArchRule {
+        static class SimpleArchRule<T> implements ArchRule {
             private static final String FAIL_ON_EMPTY_SHOULD_PROPERTY_NAME = "archRule.failOnEmptyShould";
+            private static final int PARALLEL_CHUNKS_PER_THREAD = 4;
 
             private final Priority priority;
             private final ClassesTransformer<T> classesTransformer;
@@ -177,16 +204,48 @@ public interface ArchRule extends CanBeEvaluated, CanOverrideDescription<ArchRul
 
             @Override
             public EvaluationResult evaluate(JavaClasses classes) {
-                Collection<T> allObjects = toCollection(classesTransformer.transform(classes));
-                verifyNoEmptyShouldIfEnabled(allObjects);
+                Evaluation evaluation = startEvaluation(transform(classes));
+                evaluation.checkAll();
+                return evaluation.finish();
+            }
 
+            ClassesTransformer<T> getClassesTransformer() {
+                return classesTransformer;
+            }
+
+            ArchCondition<T> getCondition() {
+                return condition;
+            }
+
+            /**
+             * @return {@code true}, if the objects of this rule can be checked one by one interleaved with other rules
+             *         instead of all at once (rules that would be checked in parallel keep being checked all at once)
+             */
+            boolean canBeCheckedObjectByObject() {
+                return condition.isStateless() && !isParallelEvaluationEnabled();
+            }
+
+            private boolean isParallelEvaluationEnabled() {
+                return ArchConfiguration.get().parallelRuleEvaluationEnabled() && condition.supportsParallelEvaluation();
+            }
+
+            Collection<T> transform(JavaClasses classes) {
+                return toCollection(classesTransformer.transform(classes));
+            }
+
+            Evaluation startEvaluation(Collection<T> allObjects) {
+                verifyNoEmptyShouldIfEnabled(allObjects);
+                Optional<EvaluationProfile.Recorder> profile = EvaluationProfile.Recorder.current();
+                long start = System.nanoTime();
                 condition.init(allObjects);
-                ConditionEvents events = ConditionEvents.Factory.create();
-                for (T object : allObjects) {
+                profile.ifPresent(it -> it.onInit(System.nanoTime() - start));
+                return new Evaluation(allObjects, profile);
+            }
+
+            private void check(Iterable<T> objects, ConditionEvents events) {
+                for (T object : objects) {
                     condition.check(object, events);
                 }
-                condition.finish(events);
-                return new EvaluationResult(this, events, priority);
             }
 
             @SuppressWarnings("unchecked")
@@ -209,6 +268,94 @@ public interface ArchRule extends CanBeEvaluated, CanOverrideDescription<ArchRul
                 }
             }
 
+            /**
+             * The evaluation of this rule against a fixed collection of objects, where the objects can either be checked all at once
+             * or one by one (e.g. interleaved with the evaluation of other rules).
+             */
+            class Evaluation {
+                private final Collection<T> allObjects;
+                private final Optional<EvaluationProfile.Recorder> profile;
+                // violations are passed on right away instead of being collected, if the rule is evaluated by a StreamingEvaluation
+                private final Optional<ConditionEvents> streamedEvents = StreamingEvaluation.ViolationStream.current()
+                        .map(StreamingEvaluation.ViolationStream::events);
+                private final ConditionEvents events = streamedEvents.orElseGet(ConditionEvents.Factory::create);
+                // the events passed to the condition, which are additionally counted if the evaluation is profiled
+                private final ConditionEvents reportedEvents;
+
+                private Evaluation(Collection<T> allObjects, Optional<EvaluationProfile.Recorder> profile) {
+                    this.allObjects = allObjects;
+                    this.profile = profile;
+                    this.reportedEvents = countedIfProfiled(events);
+                }
+
+                private ConditionEvents countedIfProfiled(ConditionEvents events) {
+                    return profile.map(it -> it.counting(events)).orElse(events);
+                }
+
+                Collection<T> getAllObjects() {
+                    return allObjects;
+                }
+
+                void checkAll() {
+                    long start = System.nanoTime();
+                    if (isParallelEvaluationEnabled()) {
+                        checkInParallel();
+                    } else {
+                        SimpleArchRule.this.check(allObjects, reportedEvents);
+                    }
+                    profile.ifPresent(it -> it.onChecked(allObjects.size(), System.nanoTime() - start));
+                }
+
+                /**
+                 * Checks consecutive chunks of all objects within the common {@link ForkJoinPool}, each chunk with its own {@link ConditionEvents}.
+                 * The events of all chunks are then added in the original order of the objects,
+                 * thus the result is the same as if all objects had been checked sequentially.
+                 * If the violations are streamed, all chunks pass their violations on to the stream right away instead.
+                 */
+                private void checkInParallel() {
+                    int numberOfChunks = ForkJoinPool.getCommonPoolParallelism() * PARALLEL_CHUNKS_PER_THREAD;
+                    int chunkSize = Math.max(1, (allObjects.size() + numberOfChunks - 1) / numberOfChunks);
+                    List<List<T>> chunks = Lists.partition(ImmutableList.copyOf(allObjects), chunkSize);
+                    if (streamedEvents.isPresent()) {
+                        chunks.parallelStream().forEach(chunk -> SimpleArchRule.this.check(chunk, reportedEvents));
+                        return;
+                    }
+
+                    List<ConditionEvents> eventsOfChunks = chunks.parallelStream()
+                            .map(chunk -> {
+                                ConditionEvents chunkEvents = ConditionEvents.Factory.create();
+                                SimpleArchRule.this.check(chunk, countedIfProfiled(chunkEvents));
+                                return chunkEvents;
+                            })
+                            .collect(toList());
+
+                    for (ConditionEvents chunkEvents : eventsOfChunks) {
+                        chunkEvents.getViolating().forEach(events::add);
+                        // keep the information of the first chunk reporting any, instead of letting later chunks overwrite it
+                        if (!events.getInformationAboutNumberOfViolations().isPresent()) {
+                            chunkEvents.getInformationAboutNumberOfViolations().ifPresent(events::setInformationAboutNumberOfViolations);
+                        }
+                    }
+                }
+
+                void check(T object) {
+                    if (!profile.isPresent()) {
+                        condition.check(object, reportedEvents);
+                        return;
+                    }
+                    long start = System.nanoTime();
+                    condition.check(object, reportedEvents);
+                    profile.get().onChecked(1, System.nanoTime() - start);
+                }
+
+                EvaluationResult finish() {
+                    long start = System.nanoTime();
+                    condition.finish(reportedEvents);
+                    profile.ifPresent(it -> it.onFinish(System.nanoTime() - start));
+                    return new EvaluationResult(SimpleArchRule.this, events, priority);
+                }
+            }
+
             @Override
             public String getDescription() {
                 return overriddenDescription.orElseGet(() -> classesTransformer.getDescription() + " should " + condition.getDescription());
@@ -221,6 +368,15 @@ public interface ArchRule extends CanBeEvaluated, CanOverrideDescription<ArchRul
         }
     }
 
+    /**
+     * An {@link ArchRule} that behaves exactly like some other {@link ArchRule}, e.g. a rule of the fluent syntax,
+     * which creates the actual rule as soon as it is evaluated.
+     */
+    @Internal
+    interface DelegatingRule {
+        ArchRule getDelegate();
+    }
+
     @Internal
     interface Transformation {
         ArchRule apply(ArchRule rule);
@@ -0,0 +1,218 @@
+/*
+ * Copyright 2014-2023 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.lang;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.tngtech.archunit.PublicAPI;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.domain.JavaMember;
+import com.tngtech.archunit.lang.ArchRule.Factory.SimpleArchRule;
+
+import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
+import static java.util.Collections.newSetFromMap;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Evaluates many {@link ArchRule ArchRules} against the same {@link JavaClasses} together.
+ * <br><br>
+ * Instead of checking one rule after another against all classes, the classes are traversed only once,
+ * and every class is checked by all rules before moving on to the next class. Thus, the information of each class
+ * (like its dependencies) is only touched in one go by all rules. Furthermore, rules that select their objects
+ * by the same {@link ClassesTransformer} instance, or by transformers derived from it via
+ * {@link ClassesTransformer#that(com.tngtech.archunit.base.DescribedPredicate) the same predicate instance},
+ * will only transform the classes once.
+ * <br><br>
+ * Rules can only be checked class by class together with other rules, if their {@link ArchCondition} is able to
+ * check objects independently of each other (compare {@link ArchCondition#isStateless()}).
+ * All other rules, as well as rules that are checked in parallel
+ * (compare {@link com.tngtech.archunit.ArchConfiguration#parallelRuleEvaluationEnabled()}),
+ * are evaluated one after another as usual.
+ * <br><br>
+ * The {@link EvaluationResult EvaluationResults} are exactly the same as if each rule had been evaluated
+ * by {@link ArchRule#evaluate(JavaClasses)}.
+ */
+@PublicAPI(usage = ACCESS)
+public final class ArchRuleEvaluation {
+    private ArchRuleEvaluation() {
+    }
+
+    /**
+     * @param rules The rules to evaluate
+     * @param classes The classes to evaluate the rules against
+     * @return One {@link EvaluationResult} per rule, in the order of the passed rules
+     */
+    @PublicAPI(usage = ACCESS)
+    public static List<EvaluationResult> evaluateAll(Collection<? extends ArchRule> rules, JavaClasses classes) {
+        Map<JavaClass, Integer> classIndexes = new HashMap<>();
+        for (JavaClass javaClass : classes) {
+            classIndexes.put(javaClass, classIndexes.size());
+        }
+
+        Map<Object, Collection<?>> transformedObjects = new HashMap<>();
+        Set<ArchCondition<?>> interleavedConditions = newSetFromMap(new IdentityHashMap<>());
+        List<RuleEvaluation> evaluations = rules.stream()
+                .map(ArchRuleEvaluation::unwrap)
+                .map(rule -> rule instanceof SimpleArchRule<?>
+                        ? startEvaluation((SimpleArchRule<?>) rule, classes, transformedObjects, classIndexes, interleavedConditions)
+                        : new IndividualRuleEvaluation(rule, classes))
+                .collect(toList());
+
+        for (int classIndex = 0; classIndex < classIndexes.size(); classIndex++) {
+            for (RuleEvaluation evaluation : evaluations) {
+                evaluation.checkObjectsOf(classIndex);
+            }
+        }
+        return evaluations.stream().map(RuleEvaluation::finish).collect(toList());
+    }
+
+    private static ArchRule unwrap(ArchRule rule) {
+        return rule instanceof ArchRule.DelegatingRule ? unwrap(((ArchRule.DelegatingRule) rule).getDelegate()) : rule;
+    }
+
+    @SuppressWarnings("unchecked") // the objects have been created by the transformer of the rule
+    private static <T> RuleEvaluation startEvaluation(SimpleArchRule<T> rule, JavaClasses classes,
+            Map<Object, Collection<?>> transformedObjects, Map<JavaClass, Integer> classIndexes,
+            Set<ArchCondition<?>> interleavedConditions) {
+
+        Collection<T> allObjects = (Collection<T>) transformedObjects.computeIfAbsent(selectionOf(rule.getClassesTransformer()), __ -> rule.transform(classes));
+        // the same condition instance must not be initialized for several rules at the same time
+        if (!rule.canBeCheckedObjectByObject() || interleavedConditions.contains(rule.getCondition())) {
+            return new SeparateRuleEvaluation<>(rule, allObjects);
+        }
+
+        int[] ownerClassIndexes = ownerClassIndexesInOrder(allObjects, classIndexes);
+        if (ownerClassIndexes == null) {
+            return new SeparateRuleEvaluation<>(rule, allObjects);
+        }
+        interleavedConditions.add(rule.getCondition());
+        return new InterleavedRuleEvaluation<>(rule.startEvaluation(allObjects), ownerClassIndexes);
+    }
+
+    private static Object selectionOf(ClassesTransformer<?> transformer) {
+        return transformer instanceof AbstractClassesTransformer<?>
+                ? ((AbstractClassesTransformer<?>) transformer).getSelection()
+                : transformer;
+    }
+
+    /**
+     * @return the index of the owning class for each object, if all objects are owned by one of the imported classes
+     * and the objects are ordered like their owners (thus checking the objects class by class will keep the original order),
+     * {@code null} otherwise
+     */
+    private static int[] ownerClassIndexesInOrder(Collection<?> objects, Map<JavaClass, Integer> classIndexes) {
+        int[] result = new int[objects.size()];
+        int i = 0;
+        int previousIndex = 0;
+        for (Object object : objects) {
+            Integer index = classIndexes.get(ownerOf(object));
+            if (index == null || index < previousIndex) {
+                return null;
+            }
+            result[i++] = previousIndex = index;
+        }
+        return result;
+    }
+
+    private static JavaClass ownerOf(Object object) {
+        if (object instanceof JavaClass) {
+            return (JavaClass) object;
+        }
+        if (object instanceof JavaMember) {
+            return ((JavaMember) object).getOwner();
+        }
+        return null;
+    }
+
+    private abstract static class RuleEvaluation {
+        abstract void checkObjectsOf(int classIndex);
+
+        abstract EvaluationResult finish();
+    }
+
+    private static class InterleavedRuleEvaluation<T> extends RuleEvaluation {
+        private final SimpleArchRule<T>.Evaluation evaluation;
+        private final int[] ownerClassIndexes;
+        private final Iterator<T> remainingObjects;
+        private int nextObject = 0;
+
+        InterleavedRuleEvaluation(SimpleArchRule<T>.Evaluation evaluation, int[] ownerClassIndexes) {
+            this.evaluation = evaluation;
+            this.ownerClassIndexes = ownerClassIndexes;
+            this.remainingObjects = evaluation.getAllObjects().iterator();
+        }
+
+        @Override
+        void checkObjectsOf(int classIndex) {
+            while (nextObject < ownerClassIndexes.length && ownerClassIndexes[nextObject] == classIndex) {
+                evaluation.check(remainingObjects.next());
+                nextObject++;
+            }
+        }
+
+        @Override
+        EvaluationResult finish() {
+            return evaluation.finish();
+        }
+    }
+
+    private static class SeparateRuleEvaluation<T> extends RuleEvaluation {
+        private final SimpleArchRule<T> rule;
+        private final Collection<T> allObjects;
+
+        SeparateRuleEvaluation(SimpleArchRule<T> rule, Collection<T> allObjects) {
+            this.rule = rule;
+            this.allObjects = allObjects;
+        }
+
+        @Override
+        void checkObjectsOf(int classIndex) {
+        }
+
+        @Override
+        EvaluationResult finish() {
+            SimpleArchRule<T>.Evaluation evaluation = rule.startEvaluation(allObjects);
+            evaluation.checkAll();
+            return evaluation.finish();
+        }
+    }
+
+    private static class IndividualRuleEvaluation extends RuleEvaluation {
+        private final ArchRule rule;
+        private final JavaClasses classes;
+
+        IndividualRuleEvaluation(ArchRule rule, JavaClasses classes) {
+            this.rule = rule;
+            this.classes = classes;
+        }
+
+        @Override
+        void checkObjectsOf(int classIndex) {
+        }
+
+        @Override
+        EvaluationResult finish() {
+            return rule.evaluate(classes);
+        }
+    }
+}
@@ -20,6 +20,7 @@ import java.util.Optional;
 
 import com.tngtech.archunit.PublicAPI;
 
+import static com.tngtech.archunit.PublicAPI.State.EXPERIMENTAL;
 import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
 import static com.tngtech.archunit.PublicAPI.Usage.INHERITANCE;
 
@@ -57,6 +58,20 @@ public interface ConditionEvents {
      */
     boolean containViolation();
 
+    /**
+     * Conditions can use this to skip creating satisfied {@link ConditionEvent events} (and in particular their messages),
+     * if these would be dropped anyway. E.g. the events of a rule evaluation only keep violations, while
+     * {@link com.tngtech.archunit.lang.conditions.ArchConditions#never(ArchCondition) never(condition)} needs
+     * the satisfied events of the condition to invert them to violations.
+     *
+     * @return {@code true}, if satisfied {@link ConditionEvent events} added to these events are relevant,
+     *         {@code false}, if only violations are relevant
+     */
+    @PublicAPI(usage = INHERITANCE, state = EXPERIMENTAL)
+    default boolean requiresSatisfiedEvents() {
+        return true;
+    }
+
     @PublicAPI(usage = ACCESS)
     final class Factory {
         private Factory() {
@@ -0,0 +1,220 @@
+/*
+ * Copyright 2014-2023 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.lang;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.tngtech.archunit.PublicAPI;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.lang.extension.EvaluatedRule;
+
+import static com.tngtech.archunit.PublicAPI.State.EXPERIMENTAL;
+import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
+
+/**
+ * Describes how much time the evaluation of an {@link ArchRule} took and how much work was done,
+ * i.e. how many objects have been checked and how many events have been reported by the {@link ArchCondition}.
+ * If a rule consists of several rules (e.g. {@link CompositeArchRule}), the numbers of all parts are summed up.
+ * <br><br>
+ * Profiles are recorded whenever a rule is checked via {@link ArchRule#check(JavaClasses)}
+ * and can be obtained via {@link EvaluatedRule#getProfile()}.
+ */
+@PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+public final class EvaluationProfile {
+    private final Duration wallTime;
+    private final Duration initDuration;
+    private final Duration checkDuration;
+    private final Duration finishDuration;
+    private final long numberOfCheckedObjects;
+    private final long numberOfEvents;
+    private final long numberOfViolations;
+
+    private EvaluationProfile(Duration wallTime, Recorder recorder) {
+        this.wallTime = wallTime;
+        this.initDuration = Duration.ofNanos(recorder.initNanos.sum());
+        this.checkDuration = Duration.ofNanos(recorder.checkNanos.sum());
+        this.finishDuration = Duration.ofNanos(recorder.finishNanos.sum());
+        this.numberOfCheckedObjects = recorder.checkedObjects.sum();
+        this.numberOfEvents = recorder.events.sum();
+        this.numberOfViolations = recorder.violations.sum();
+    }
+
+    /**
+     * @return The wall-clock time of the whole evaluation, including the transformation of the imported classes
+     *         into the objects to check (e.g. all methods of the classes) and the creation of the result
+     */
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public Duration getWallTime() {
+        return wallTime;
+    }
+
+    /**
+     * @return The time spent in {@link ArchCondition#init(Collection)}
+     */
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public Duration getInitDuration() {
+        return initDuration;
+    }
+
+    /**
+     * @return The time spent in {@link ArchCondition#check(Object, ConditionEvents)} for all objects
+     */
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public Duration getCheckDuration() {
+        return checkDuration;
+    }
+
+    /**
+     * @return The time spent in {@link ArchCondition#finish(ConditionEvents)}
+     */
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public Duration getFinishDuration() {
+        return finishDuration;
+    }
+
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public long getNumberOfCheckedObjects() {
+        return numberOfCheckedObjects;
+    }
+
+    /**
+     * @return The number of all {@link ConditionEvent ConditionEvents} reported by the condition, satisfied ones as well as violations.
+     *         Note that conditions may skip satisfied events that are not needed (compare {@link ConditionEvents#requiresSatisfiedEvents()})
+     */
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public long getNumberOfEvents() {
+        return numberOfEvents;
+    }
+
+    /**
+     * @return The number of violations reported by the condition. Note that this can differ from the violations
+     *         finally reported by the rule, e.g. if known violations are filtered out by a
+     *         {@link com.tngtech.archunit.library.freeze.FreezingArchRule FreezingArchRule}
+     */
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public long getNumberOfViolations() {
+        return numberOfViolations;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{"
+                + "wallTime=" + wallTime
+                + ", initDuration=" + initDuration
+                + ", checkDuration=" + checkDuration
+                + ", finishDuration=" + finishDuration
+                + ", numberOfCheckedObjects=" + numberOfCheckedObjects
+                + ", numberOfEvents=" + numberOfEvents
+                + ", numberOfViolations=" + numberOfViolations
+                + '}';
+    }
+
+    /**
+     * Records the profile of all rules evaluated on the current thread between {@link #start()} and {@link #stop()}.
+     * Parts of the evaluation may report from other threads (compare {@link ArchCondition#supportsParallelEvaluation()}),
+     * thus all counters are thread-safe.
+     */
+    static class Recorder {
+        private static final ThreadLocal<Recorder> current = new ThreadLocal<>();
+
+        private final Recorder previous;
+        private final long startNanos = System.nanoTime();
+        private final LongAdder initNanos = new LongAdder();
+        private final LongAdder checkNanos = new LongAdder();
+        private final LongAdder finishNanos = new LongAdder();
+        private final LongAdder checkedObjects = new LongAdder();
+        private final LongAdder events = new LongAdder();
+        private final LongAdder violations = new LongAdder();
+
+        private Recorder(Recorder previous) {
+            this.previous = previous;
+        }
+
+        static Recorder start() {
+            Recorder recorder = new Recorder(current.get());
+            current.set(recorder);
+            return recorder;
+        }
+
+        static Optional<Recorder> current() {
+            return Optional.ofNullable(current.get());
+        }
+
+        EvaluationProfile stop() {
+            EvaluationProfile profile = new EvaluationProfile(Duration.ofNanos(System.nanoTime() - startNanos), this);
+            if (previous != null) {
+                current.set(previous);
+            } else {
+                current.remove();
+            }
+            return profile;
+        }
+
+        void onInit(long nanos) {
+            initNanos.add(nanos);
+        }
+
+        void onChecked(long numberOfObjects, long nanos) {
+            checkedObjects.add(numberOfObjects);
+            checkNanos.add(nanos);
+        }
+
+        void onFinish(long nanos) {
+            finishNanos.add(nanos);
+        }
+
+        ConditionEvents counting(ConditionEvents delegate) {
+            return new ConditionEvents() {
+                @Override
+                public void add(ConditionEvent event) {
+                    events.increment();
+                    if (event.isViolation()) {
+                        violations.increment();
+                    }
+                    delegate.add(event);
+                }
+
+                @Override
+                public Optional<String> getInformationAboutNumberOfViolations() {
+                    return delegate.getInformationAboutNumberOfViolations();
+                }
+
+                @Override
+                public void setInformationAboutNumberOfViolations(String informationAboutNumberOfViolations) {
+                    delegate.setInformationAboutNumberOfViolations(informationAboutNumberOfViolations);
+                }
+
+                @Override
+                public Collection<ConditionEvent> getViolating() {
+                    return delegate.getViolating();
+                }
+
+                @Override
+                public boolean containViolation() {
+                    return delegate.containViolation();
+                }
+
+                @Override
+                public boolean requiresSatisfiedEvents() {
+                    return delegate.requiresSatisfiedEvents();
+                }
+            };
+        }
+    }
+}
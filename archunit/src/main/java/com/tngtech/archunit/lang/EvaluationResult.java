@@ -15,19 +15,13 @@
  */
 package com.tngtech.archunit.lang;
 
-import java.io.IOException;
-import java.net.URL;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 import java.util.function.Predicate;
-import java.util.regex.Pattern;
 
 import com.google.common.collect.ImmutableList;
-import com.google.common.collect.ImmutableSet;
 import com.tngtech.archunit.PublicAPI;
 import com.tngtech.archunit.base.HasDescription;
 import com.tngtech.archunit.core.domain.JavaClasses;
@@ -35,11 +29,8 @@ import com.tngtech.archunit.core.domain.JavaMethod;
 
 import static com.google.common.collect.ImmutableList.toImmutableList;
 import static com.google.common.collect.Ordering.natural;
-import static com.google.common.io.Resources.readLines;
 import static com.tngtech.archunit.PublicAPI.State.EXPERIMENTAL;
 import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
-import static com.tngtech.archunit.base.ClassLoaders.getCurrentClassLoader;
-import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.stream.Collectors.toCollection;
 import static java.util.stream.Collectors.toList;
 
@@ -55,8 +46,7 @@ import static java.util.stream.Collectors.toList;
  */
 @PublicAPI(usage = ACCESS)
 public final class EvaluationResult {
-    static final String ARCHUNIT_IGNORE_PATTERNS_FILE_NAME = "archunit_ignore_patterns.txt";
-    private static final String COMMENT_LINE_PREFIX = "#";
+    static final String ARCHUNIT_IGNORE_PATTERNS_FILE_NAME = IgnorePatterns.FILE_NAME;
 
     private final HasDescription rule;
     private final ArrayList<ConditionEvent> violations;
@@ -72,15 +62,15 @@ public final class EvaluationResult {
     public EvaluationResult(HasDescription rule, ConditionEvents events, Priority priority) {
         this(
                 rule,
-                new ArrayList<>(events.getViolating()),
+                events.getViolating(),
                 events.getInformationAboutNumberOfViolations(),
                 priority
         );
     }
 
-    private EvaluationResult(HasDescription rule, ArrayList<ConditionEvent> violations, Optional<String> informationAboutNumberOfViolations, Priority priority) {
+    EvaluationResult(HasDescription rule, Collection<ConditionEvent> violations, Optional<String> informationAboutNumberOfViolations, Priority priority) {
         this.rule = rule;
-        this.violations = createViolations(violations);
+        this.violations = createViolations(new ArrayList<>(violations));
         this.informationAboutNumberOfViolations = informationAboutNumberOfViolations;
         this.priority = priority;
     }
@@ -135,11 +125,11 @@ public final class EvaluationResult {
     }
 
     @SuppressWarnings("unchecked") // The cast is safe, since the component type of T[] will be type T
-    private <T> Class<T> componentTypeOf(T[] array) {
+    static <T> Class<T> componentTypeOf(T[] array) {
         return (Class<T>) array.getClass().getComponentType();
     }
 
-    private <ITEM> ConditionEvent.Handler convertToEventHandler(Class<? extends ITEM> correspondingObjectType, ViolationHandler<ITEM> violationHandler) {
+    static <ITEM> ConditionEvent.Handler convertToEventHandler(Class<? extends ITEM> correspondingObjectType, ViolationHandler<ITEM> violationHandler) {
         return (correspondingObjects, message) -> {
             if (allElementTypesMatch(correspondingObjects, correspondingObjectType)) {
                 // If all elements are assignable to ITEM, covariance of ImmutableList allows this cast
@@ -150,10 +140,14 @@ public final class EvaluationResult {
         };
     }
 
-    private boolean allElementTypesMatch(Collection<?> violatingObjects, Class<?> supportedElementType) {
+    private static boolean allElementTypesMatch(Collection<?> violatingObjects, Class<?> supportedElementType) {
         return violatingObjects.stream().allMatch(supportedElementType::isInstance);
     }
 
+    void addViolationsTo(ConditionEvents events) {
+        violations.forEach(events::add);
+    }
+
     @PublicAPI(usage = ACCESS)
     public boolean hasViolation() {
         return !violations.isEmpty();
@@ -179,44 +173,23 @@ public final class EvaluationResult {
 
     private static ArrayList<ConditionEvent> filterEvents(Collection<ConditionEvent> violations, Predicate<String> linePredicate) {
         return violations.stream()
-                .map(e -> new FilteredEvent(e, linePredicate))
-                .filter(FilteredEvent::isViolation)
+                .map(e -> filter(e, linePredicate))
+                .filter(ConditionEvent::isViolation)
                 .collect(toCollection(ArrayList::new));
     }
 
-    private static ArrayList<ConditionEvent> createViolations(ArrayList<ConditionEvent> violations) {
-        Set<Pattern> patterns = readPatternsFrom(ARCHUNIT_IGNORE_PATTERNS_FILE_NAME);
-        return patterns.isEmpty() ? violations : filterEvents(violations, notMatchedByAny(patterns));
-    }
-
-    private static Predicate<String> notMatchedByAny(Set<Pattern> patterns) {
-        return message -> {
-            String normalizedMessage = message.replaceAll("\r*\n", " ");
-            return patterns.stream().noneMatch(pattern -> pattern.matcher(normalizedMessage).matches());
-        };
-    }
-
-    private static Set<Pattern> readPatternsFrom(String fileNameInClassPath) {
-        URL ignorePatternsResource = getCurrentClassLoader(ArchRule.Assertions.class).getResource(fileNameInClassPath);
-        if (ignorePatternsResource == null) {
-            return Collections.emptySet();
-        }
-
-        try {
-            return readPatternsFrom(ignorePatternsResource);
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
+    /**
+     * @return An event only containing the description lines matching the predicate.
+     *         The event is no violation anymore, if no description line matches.
+     */
+    static ConditionEvent filter(ConditionEvent event, Predicate<String> linePredicate) {
+        return new FilteredEvent(event, linePredicate);
     }
 
-    private static Set<Pattern> readPatternsFrom(URL ignorePatternsResource) throws IOException {
-        ImmutableSet.Builder<Pattern> result = ImmutableSet.builder();
-        for (String line : readLines(ignorePatternsResource, UTF_8)) {
-            if (!line.startsWith(COMMENT_LINE_PREFIX)) {
-                result.add(Pattern.compile(line));
-            }
-        }
-        return result.build();
+    private static ArrayList<ConditionEvent> createViolations(ArrayList<ConditionEvent> violations) {
+        return IgnorePatterns.readFilter()
+                .map(filter -> filterEvents(violations, filter))
+                .orElse(violations);
     }
 
     private static class FilteredEvent implements ConditionEvent {
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2014-2023 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.lang;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
+
+import static com.google.common.io.Resources.readLines;
+import static com.tngtech.archunit.base.ClassLoaders.getCurrentClassLoader;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * The patterns of the file {@value #FILE_NAME} on the classpath. Violations with a description line
+ * matching any of these patterns will not be reported.
+ * <br><br>
+ * The file is only looked up, read and compiled once per {@link ClassLoader} and then reused.
+ */
+final class IgnorePatterns {
+    static final String FILE_NAME = "archunit_ignore_patterns.txt";
+    private static final String COMMENT_LINE_PREFIX = "#";
+    private static final Pattern LINE_BREAK = Pattern.compile("\r*\n");
+
+    // weak keys, so class loaders (e.g. of finished test runs) can still be garbage collected
+    private static final Map<ClassLoader, Optional<IgnorePatterns>> cache =
+            CacheBuilder.newBuilder().weakKeys().<ClassLoader, Optional<IgnorePatterns>>build().asMap();
+
+    private final List<Pattern> patterns;
+
+    private IgnorePatterns(List<Pattern> patterns) {
+        this.patterns = patterns;
+    }
+
+    /**
+     * @return A predicate only accepting lines not matched by any pattern of {@value #FILE_NAME},
+     *         if there are any patterns configured
+     */
+    static Optional<Predicate<String>> readFilter() {
+        return cache.computeIfAbsent(getCurrentClassLoader(ArchRule.Assertions.class), IgnorePatterns::readFrom)
+                .map(ignorePatterns -> ignorePatterns::notMatchedByAny);
+    }
+
+    /**
+     * Forgets all patterns read so far, e.g. after {@value #FILE_NAME} has been modified within the same JVM.
+     */
+    static void reset() {
+        cache.clear();
+    }
+
+    private static Optional<IgnorePatterns> readFrom(ClassLoader classLoader) {
+        URL ignorePatternsResource = classLoader.getResource(FILE_NAME);
+        if (ignorePatternsResource == null) {
+            return Optional.empty();
+        }
+        List<Pattern> patterns = readPatternsFrom(ignorePatternsResource);
+        return patterns.isEmpty() ? Optional.empty() : Optional.of(new IgnorePatterns(patterns));
+    }
+
+    private boolean notMatchedByAny(String message) {
+        String normalizedMessage = message.indexOf('\n') >= 0 ? LINE_BREAK.matcher(message).replaceAll(" ") : message;
+        for (Pattern pattern : patterns) {
+            if (pattern.matcher(normalizedMessage).matches()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static List<Pattern> readPatternsFrom(URL ignorePatternsResource) {
+        try {
+            ImmutableList.Builder<Pattern> result = ImmutableList.builder();
+            for (String line : readLines(ignorePatternsResource, UTF_8)) {
+                if (!line.startsWith(COMMENT_LINE_PREFIX)) {
+                    result.add(Pattern.compile(line));
+                }
+            }
+            return result.build();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
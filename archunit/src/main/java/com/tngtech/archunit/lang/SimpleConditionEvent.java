@@ -17,11 +17,14 @@ package com.tngtech.archunit.lang;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Supplier;
 
+import com.google.common.base.Suppliers;
 import com.tngtech.archunit.PublicAPI;
 
 import static com.google.common.base.MoreObjects.toStringHelper;
 import static com.google.common.base.Preconditions.checkArgument;
+import static com.tngtech.archunit.PublicAPI.State.EXPERIMENTAL;
 import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
 import static java.util.Collections.singletonList;
 
@@ -29,13 +32,17 @@ import static java.util.Collections.singletonList;
 public final class SimpleConditionEvent implements ConditionEvent {
     private final Object correspondingObject;
     private final boolean conditionSatisfied;
-    private final String message;
+    private final Supplier<String> message;
 
     public SimpleConditionEvent(Object correspondingObject, boolean conditionSatisfied, String message) {
+        this(correspondingObject, conditionSatisfied, Suppliers.ofInstance(message));
+    }
+
+    private SimpleConditionEvent(Object correspondingObject, boolean conditionSatisfied, Supplier<String> message) {
         this.correspondingObject = correspondingObject;
         this.conditionSatisfied = conditionSatisfied;
         this.message = message;
-        checkArgument(conditionSatisfied || !this.message.trim().isEmpty(), "Message may not be empty for violation");
+        checkArgument(conditionSatisfied || !this.message.get().trim().isEmpty(), "Message may not be empty for violation");
     }
 
     @Override
@@ -50,12 +57,12 @@ public final class SimpleConditionEvent implements ConditionEvent {
 
     @Override
     public List<String> getDescriptionLines() {
-        return singletonList(message);
+        return singletonList(message.get());
     }
 
     @Override
     public void handleWith(Handler handler) {
-        handler.handle(Collections.singleton(correspondingObject), message);
+        handler.handle(Collections.singleton(correspondingObject), message.get());
     }
 
     @Override
@@ -63,7 +70,7 @@ public final class SimpleConditionEvent implements ConditionEvent {
         return toStringHelper(this)
                 .add("correspondingObject", correspondingObject)
                 .add("conditionSatisfied", conditionSatisfied)
-                .add("message", message)
+                .add("message", message.get())
                 .toString();
     }
 
@@ -74,4 +81,19 @@ public final class SimpleConditionEvent implements ConditionEvent {
     public static ConditionEvent satisfied(Object correspondingObject, String message) {
         return new SimpleConditionEvent(correspondingObject, true, message);
     }
+
+    /**
+     * Like {@link #SimpleConditionEvent(Object, boolean, String)}, but only creates the message once it is needed.
+     * Since most events of a rule evaluation are usually satisfied and their messages are never reported,
+     * this can save a lot of expensive message formatting.
+     *
+     * @param correspondingObject The object this event refers to
+     * @param conditionSatisfied Whether the condition was satisfied for the object
+     * @param message Creates the message of this event, called at most once
+     * @return A new {@link ConditionEvent}
+     */
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public static ConditionEvent of(Object correspondingObject, boolean conditionSatisfied, Supplier<String> message) {
+        return new SimpleConditionEvent(correspondingObject, conditionSatisfied, Suppliers.memoize(message::get));
+    }
 }
@@ -0,0 +1,293 @@
+/*
+ * Copyright 2014-2023 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.lang;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import com.google.common.collect.ImmutableList;
+import com.tngtech.archunit.ArchConfiguration;
+import com.tngtech.archunit.Internal;
+import com.tngtech.archunit.PublicAPI;
+import com.tngtech.archunit.core.domain.JavaClasses;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.tngtech.archunit.PublicAPI.State.EXPERIMENTAL;
+import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
+import static java.util.Collections.reverseOrder;
+
+/**
+ * Evaluates an {@link ArchRule} without keeping all violations in memory. Instead, every violation is passed
+ * to a {@link ViolationHandler} as soon as it is reported by the {@link ArchCondition}, e.g. to write it to a file:
+ * <br><br>
+ * <pre><code>
+ * StreamingEvaluation.check(rule, classes, (Collection&lt;Object&gt; violatingObjects, String message) -> {
+ *     // write the message to a report
+ * });
+ * </code></pre>
+ * Of all violations only the number of violations and the first lines of the failure report are kept
+ * (compare {@link EvaluationResult#getFailureReport()}). I.e. the resulting failure report contains the same lines
+ * as the failure report of {@link ArchRule#evaluate(JavaClasses)} would, but cut off after the configured maximum
+ * number of lines (property {@value #MAX_FAILURE_DETAILS_PROPERTY_NAME}, default {@value #DEFAULT_MAX_FAILURE_DETAILS}).
+ * <br><br>
+ * Note that violations are passed to the {@link ViolationHandler} in the order they are reported
+ * by the {@link ArchCondition}, not sorted like the lines of the failure report. If the rule is evaluated in parallel
+ * (compare {@link com.tngtech.archunit.ArchConfiguration#parallelRuleEvaluationEnabled()}), the {@link ViolationHandler}
+ * is called from several threads, but never concurrently.
+ */
+@PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+public final class StreamingEvaluation {
+    static final String MAX_FAILURE_DETAILS_PROPERTY_NAME = "archRule.streamingEvaluation.maxFailureDetails";
+    static final int DEFAULT_MAX_FAILURE_DETAILS = 1000;
+
+    private StreamingEvaluation() {
+    }
+
+    /**
+     * Evaluates the rule and passes all violations to the supplied {@link ViolationHandler}.
+     * Violations will be filtered by the type of the {@link ViolationHandler} like for
+     * {@link EvaluationResult#handleViolations(ViolationHandler, Object[])}.
+     *
+     * @param <T> Type of the relevant objects causing violations. E.g. {@code JavaAccess<?>}
+     * @param rule The rule to evaluate
+     * @param classes The classes to evaluate the rule against
+     * @param violationHandler The violation handler that is supposed to handle all violations matching the
+     *                         respective type parameter
+     * @param __ignored_parameter_to_reify_type__ This parameter will be ignored; its only use is to make the
+     *                                            generic type reified, so we can retrieve it at runtime.
+     * @return An {@link EvaluationResult} that only contains the first lines of the failure report. Its violations can
+     *         not be handled by {@link EvaluationResult#handleViolations(ViolationHandler, Object[])} anymore,
+     *         since they have already been passed to the supplied {@link ViolationHandler}
+     */
+    @SafeVarargs
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public static <T> EvaluationResult evaluate(ArchRule rule, JavaClasses classes,
+            ViolationHandler<T> violationHandler, T... __ignored_parameter_to_reify_type__) {
+        ConditionEvent.Handler eventHandler = EvaluationResult.convertToEventHandler(
+                EvaluationResult.componentTypeOf(__ignored_parameter_to_reify_type__), violationHandler);
+        ViolationStream stream = new ViolationStream(eventHandler, getMaxFailureDetails());
+
+        ViolationStream previous = ViolationStream.current.get();
+        ViolationStream.current.set(stream);
+        try {
+            EvaluationResult result = rule.evaluate(classes);
+            return stream.toEvaluationResult(rule, result.getPriority());
+        } finally {
+            ViolationStream.setCurrent(previous);
+        }
+    }
+
+    /**
+     * Like {@link #evaluate(ArchRule, JavaClasses, ViolationHandler, Object[])}, but fails like {@link ArchRule#check(JavaClasses)}
+     * if there are any violations. The failure message only contains the first lines of the failure report.
+     */
+    @SafeVarargs
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public static <T> void check(ArchRule rule, JavaClasses classes,
+            ViolationHandler<T> violationHandler, T... __ignored_parameter_to_reify_type__) {
+        ArchRule.Assertions.check(rule, classes, toCheck -> evaluate(rule, toCheck, violationHandler, __ignored_parameter_to_reify_type__));
+    }
+
+    /**
+     * For rules that need all violations of some other rule at once, e.g. to filter known violations
+     * (compare {@link com.tngtech.archunit.library.freeze.FreezingArchRule FreezingArchRule}).
+     * The supplied evaluation will not be streamed, only the violations of its final result will be.
+     */
+    @Internal
+    public static EvaluationResult evaluateMaterialized(Supplier<EvaluationResult> evaluation) {
+        ViolationStream stream = ViolationStream.current.get();
+        if (stream == null) {
+            return evaluation.get();
+        }
+
+        ViolationStream.current.remove();
+        EvaluationResult result;
+        try {
+            result = evaluation.get();
+        } finally {
+            ViolationStream.current.set(stream);
+        }
+        result.addViolationsTo(stream.events());
+        return result;
+    }
+
+    private static int getMaxFailureDetails() {
+        String configured = ArchConfiguration.get().getPropertyOrDefault(MAX_FAILURE_DETAILS_PROPERTY_NAME, String.valueOf(DEFAULT_MAX_FAILURE_DETAILS));
+        int maxFailureDetails = Integer.parseInt(configured.trim());
+        checkArgument(maxFailureDetails > 0, "Property %s must be positive, but was %s", MAX_FAILURE_DETAILS_PROPERTY_NAME, maxFailureDetails);
+        return maxFailureDetails;
+    }
+
+    /**
+     * Receives all violations reported by rules evaluated on the current thread within
+     * {@link #evaluate(ArchRule, JavaClasses, ViolationHandler, Object[])}.
+     * Keeps only the smallest lines of the (sorted) failure report, i.e. the lines that would be listed first.
+     */
+    static class ViolationStream {
+        private static final ThreadLocal<ViolationStream> current = new ThreadLocal<>();
+
+        private final ConditionEvent.Handler handler;
+        private final int maxFailureDetails;
+        private final Optional<Predicate<String>> ignoredLinesFilter = IgnorePatterns.readFilter();
+        // the greatest of the retained lines is at the head, so it can be replaced by a smaller line
+        private final PriorityQueue<String> retainedLines = new PriorityQueue<>(reverseOrder());
+        private long numberOfLines = 0;
+        private Optional<String> informationAboutNumberOfViolations = Optional.empty();
+
+        private ViolationStream(ConditionEvent.Handler handler, int maxFailureDetails) {
+            this.handler = handler;
+            this.maxFailureDetails = maxFailureDetails;
+        }
+
+        static Optional<ViolationStream> current() {
+            return Optional.ofNullable(current.get());
+        }
+
+        private static void setCurrent(ViolationStream stream) {
+            if (stream != null) {
+                current.set(stream);
+            } else {
+                current.remove();
+            }
+        }
+
+        /**
+         * @return {@link ConditionEvents} that pass all violations on to this stream instead of collecting them.
+         *         The events can be used by several threads at the same time (compare {@link ArchCondition#supportsParallelEvaluation()}).
+         */
+        ConditionEvents events() {
+            return new ConditionEvents() {
+                private volatile boolean containsViolation = false;
+
+                @Override
+                public void add(ConditionEvent event) {
+                    if (event.isViolation() && ViolationStream.this.add(event)) {
+                        containsViolation = true;
+                    }
+                }
+
+                @Override
+                public Optional<String> getInformationAboutNumberOfViolations() {
+                    synchronized (ViolationStream.this) {
+                        return informationAboutNumberOfViolations;
+                    }
+                }
+
+                @Override
+                public void setInformationAboutNumberOfViolations(String informationAboutNumberOfViolations) {
+                    synchronized (ViolationStream.this) {
+                        ViolationStream.this.informationAboutNumberOfViolations = Optional.of(informationAboutNumberOfViolations);
+                    }
+                }
+
+                @Override
+                public Collection<ConditionEvent> getViolating() {
+                    return Collections.emptyList();
+                }
+
+                @Override
+                public boolean containViolation() {
+                    return containsViolation;
+                }
+
+                @Override
+                public boolean requiresSatisfiedEvents() {
+                    return false;
+                }
+            };
+        }
+
+        private synchronized boolean add(ConditionEvent violation) {
+            ConditionEvent event = ignoredLinesFilter.map(filter -> EvaluationResult.filter(violation, filter)).orElse(violation);
+            if (!event.isViolation()) {
+                return false;
+            }
+
+            event.handleWith(handler);
+            for (String line : event.getDescriptionLines()) {
+                retain(line);
+            }
+            return true;
+        }
+
+        private void retain(String line) {
+            numberOfLines++;
+            if (retainedLines.size() < maxFailureDetails) {
+                retainedLines.add(line);
+            } else if (line.compareTo(retainedLines.peek()) < 0) {
+                retainedLines.poll();
+                retainedLines.add(line);
+            }
+        }
+
+        synchronized EvaluationResult toEvaluationResult(ArchRule rule, Priority priority) {
+            List<String> lines = new ArrayList<>(retainedLines);
+            Collections.sort(lines);
+            List<ConditionEvent> violations = lines.isEmpty()
+                    ? Collections.emptyList()
+                    : Collections.singletonList(new RetainedViolations(lines));
+            return new EvaluationResult(rule, violations, informationAboutNumberOfViolations(lines.size()), priority);
+        }
+
+        private Optional<String> informationAboutNumberOfViolations(int numberOfRetainedLines) {
+            if (numberOfRetainedLines == numberOfLines) {
+                return informationAboutNumberOfViolations;
+            }
+            String numberOfViolations = informationAboutNumberOfViolations.orElse(numberOfLines + " times");
+            return Optional.of(String.format("%s, only the first %d lines are listed", numberOfViolations, numberOfRetainedLines));
+        }
+    }
+
+    private static class RetainedViolations implements ConditionEvent {
+        private final List<String> descriptionLines;
+        private final boolean violation;
+
+        private RetainedViolations(List<String> descriptionLines) {
+            this(descriptionLines, true);
+        }
+
+        private RetainedViolations(List<String> descriptionLines, boolean violation) {
+            this.descriptionLines = ImmutableList.copyOf(descriptionLines);
+            this.violation = violation;
+        }
+
+        @Override
+        public boolean isViolation() {
+            return violation;
+        }
+
+        @Override
+        public ConditionEvent invert() {
+            return new RetainedViolations(descriptionLines, !violation);
+        }
+
+        @Override
+        public List<String> getDescriptionLines() {
+            return descriptionLines;
+        }
+
+        @Override
+        public void handleWith(Handler handler) {
+            // the violations have already been passed to the handler of the stream
+        }
+    }
+}
@@ -30,7 +30,13 @@ class AndCondition<T> extends JoinCondition<T> {
 
     @Override
     public void check(T item, ConditionEvents events) {
-        events.add(new AndConditionEvent<>(item, evaluateConditions(item)));
+        // conditions that are not stateless (e.g. report violations in finish(..) depending on all checked objects) must see every object
+        if (events.requiresSatisfiedEvents() || !isStateless()) {
+            events.add(new AndConditionEvent<>(item, evaluateConditions(item, events.requiresSatisfiedEvents())));
+        } else {
+            // the event is already a violation if any condition is violated, thus the remaining conditions can be skipped once one is violated
+            evaluateConditionsUntilViolated(item).ifPresent(evaluatedConditions -> events.add(new AndConditionEvent<>(item, evaluatedConditions)));
+        }
     }
 
     static class AndConditionEvent<T> extends JoinConditionEvent<T> {
@@ -42,6 +42,22 @@ abstract class AnyAttributeMatchesCondition<T> extends ArchCondition<JavaClass>
 
     abstract Collection<T> relevantAttributes(JavaClass item);
 
+    @Override
+    public boolean supportsParallelEvaluation() {
+        return condition.supportsParallelEvaluation();
+    }
+
+    @Override
+    public boolean isStateless() {
+        return condition.isStateless();
+    }
+
+    // checking all attributes (e.g. all dependencies) of an object is expensive, no matter the condition for each attribute
+    @Override
+    public Cost getCost() {
+        return Cost.HIGH;
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + "{condition=" + condition + "}";
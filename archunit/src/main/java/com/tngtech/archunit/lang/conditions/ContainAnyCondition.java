@@ -44,6 +44,16 @@ class ContainAnyCondition<T> extends ArchCondition<Collection<? extends T>> {
         }
     }
 
+    @Override
+    public boolean supportsParallelEvaluation() {
+        return condition.supportsParallelEvaluation();
+    }
+
+    @Override
+    public boolean isStateless() {
+        return condition.isStateless();
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + "{condition=" + condition + "}";
@@ -24,6 +24,8 @@ import com.tngtech.archunit.lang.ConditionEvent;
 import com.tngtech.archunit.lang.ConditionEvents;
 import com.tngtech.archunit.lang.conditions.ContainAnyCondition.AnyConditionEvent;
 
+import static java.util.Collections.emptyList;
+
 class ContainsOnlyCondition<T> extends ArchCondition<Collection<? extends T>> {
     private final ArchCondition<T> condition;
 
@@ -34,6 +36,11 @@ class ContainsOnlyCondition<T> extends ArchCondition<Collection<? extends T>> {
 
     @Override
     public void check(Collection<? extends T> collection, ConditionEvents events) {
+        if (!events.requiresSatisfiedEvents()) {
+            checkOnlyForViolations(collection, events);
+            return;
+        }
+
         ViolatedAndSatisfiedConditionEvents subEvents = new ViolatedAndSatisfiedConditionEvents();
         for (T item : collection) {
             condition.check(item, subEvents);
@@ -43,6 +50,26 @@ class ContainsOnlyCondition<T> extends ArchCondition<Collection<? extends T>> {
         }
     }
 
+    private void checkOnlyForViolations(Collection<? extends T> collection, ConditionEvents events) {
+        ConditionEvents subEvents = ConditionEvents.Factory.create();
+        for (T item : collection) {
+            condition.check(item, subEvents);
+        }
+        if (subEvents.containViolation()) {
+            events.add(new OnlyConditionEvent(collection, emptyList(), subEvents.getViolating()));
+        }
+    }
+
+    @Override
+    public boolean supportsParallelEvaluation() {
+        return condition.supportsParallelEvaluation();
+    }
+
+    @Override
+    public boolean isStateless() {
+        return condition.isStateless();
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + "{condition=" + condition + "}";
@@ -29,8 +29,22 @@ class DependencyCondition extends ArchCondition<Dependency> {
         this.conditionPredicate = conditionPredicate;
     }
 
+    @Override
+    public boolean supportsParallelEvaluation() {
+        return true;
+    }
+
+    @Override
+    public boolean isStateless() {
+        return true;
+    }
+
     @Override
     public void check(Dependency item, ConditionEvents events) {
-        events.add(new SimpleConditionEvent(item, conditionPredicate.test(item), item.getDescription()));
+        boolean satisfied = conditionPredicate.test(item);
+        if (satisfied && !events.requiresSatisfiedEvents()) {
+            return;
+        }
+        events.add(new SimpleConditionEvent(item, satisfied, item.getDescription()));
     }
 }
@@ -34,9 +34,23 @@ class FieldAccessCondition extends ArchCondition<JavaFieldAccess> {
         this.fieldAccessIdentifier = fieldAccessIdentifier;
     }
 
+    @Override
+    public boolean supportsParallelEvaluation() {
+        return true;
+    }
+
+    @Override
+    public boolean isStateless() {
+        return true;
+    }
+
     @Override
     public void check(JavaFieldAccess item, ConditionEvents events) {
-        events.add(new SimpleConditionEvent(item, fieldAccessIdentifier.test(item), item.getDescription()));
+        boolean satisfied = fieldAccessIdentifier.test(item);
+        if (satisfied && !events.requiresSatisfiedEvents()) {
+            return;
+        }
+        events.add(SimpleConditionEvent.of(item, satisfied, item::getDescription));
     }
 
     static class FieldGetAccessCondition extends FieldAccessCondition {
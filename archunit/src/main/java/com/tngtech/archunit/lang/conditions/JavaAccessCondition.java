@@ -29,8 +29,22 @@ class JavaAccessCondition<T extends JavaAccess<?>> extends ArchCondition<T> {
         this.predicate = predicate;
     }
 
+    @Override
+    public boolean supportsParallelEvaluation() {
+        return true;
+    }
+
+    @Override
+    public boolean isStateless() {
+        return true;
+    }
+
     @Override
     public void check(T item, ConditionEvents events) {
-        events.add(new SimpleConditionEvent(item, predicate.test(item), item.getDescription()));
+        boolean satisfied = predicate.test(item);
+        if (satisfied && !events.requiresSatisfiedEvents()) {
+            return;
+        }
+        events.add(SimpleConditionEvent.of(item, satisfied, item::getDescription));
     }
 }
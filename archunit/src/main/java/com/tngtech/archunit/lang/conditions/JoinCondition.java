@@ -15,8 +15,10 @@
  */
 package com.tngtech.archunit.lang.conditions;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.stream.Stream;
@@ -27,15 +29,18 @@ import com.tngtech.archunit.lang.ArchCondition;
 import com.tngtech.archunit.lang.ConditionEvent;
 import com.tngtech.archunit.lang.ConditionEvents;
 
+import static java.util.Comparator.comparing;
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
 
 abstract class JoinCondition<T> extends ArchCondition<T> {
     private final Collection<ArchCondition<T>> conditions;
+    private final List<ArchCondition<T>> conditionsByCost;
 
     JoinCondition(String infix, Collection<ArchCondition<T>> conditions) {
         super(joinDescriptionsOf(infix, conditions));
         this.conditions = conditions;
+        this.conditionsByCost = conditions.stream().sorted(comparing(ArchCondition::getCost)).collect(toList());
     }
 
     private static <T> String joinDescriptionsOf(String infix, Collection<ArchCondition<T>> conditions) {
@@ -56,8 +61,62 @@ abstract class JoinCondition<T> extends ArchCondition<T> {
         }
     }
 
-    List<ConditionWithEvents<T>> evaluateConditions(T item) {
-        return conditions.stream().map(condition -> new ConditionWithEvents<>(condition, item)).collect(toList());
+    @Override
+    public boolean supportsParallelEvaluation() {
+        return conditions.stream().allMatch(ArchCondition::supportsParallelEvaluation);
+    }
+
+    @Override
+    public boolean isStateless() {
+        return conditions.stream().allMatch(ArchCondition::isStateless);
+    }
+
+    @Override
+    public Cost getCost() {
+        return conditionsByCost.get(conditionsByCost.size() - 1).getCost();
+    }
+
+    /**
+     * @param requiresSatisfiedEvents Whether the satisfied events of the conditions are needed, e.g. to invert the joined event
+     */
+    List<ConditionWithEvents<T>> evaluateConditions(T item, boolean requiresSatisfiedEvents) {
+        return conditions.stream().map(condition -> new ConditionWithEvents<>(condition, item, requiresSatisfiedEvents)).collect(toList());
+    }
+
+    /**
+     * Checks the conditions ordered by their {@link ArchCondition#getCost() cost} until the first condition is satisfied.
+     * Satisfied events of the conditions are dropped, i.e. the evaluated conditions can only be used to report violations.
+     *
+     * @return All evaluated conditions, if none of them is satisfied, {@link Optional#empty()} otherwise
+     */
+    Optional<List<ConditionWithEvents<T>>> evaluateConditionsUntilSatisfied(T item) {
+        List<ConditionWithEvents<T>> result = new ArrayList<>(conditionsByCost.size());
+        for (ArchCondition<T> condition : conditionsByCost) {
+            ConditionWithEvents<T> evaluation = new ConditionWithEvents<>(condition, item, false);
+            if (!evaluation.getEvents().containViolation()) {
+                return Optional.empty();
+            }
+            result.add(evaluation);
+        }
+        return Optional.of(result);
+    }
+
+    /**
+     * Checks the conditions ordered by their {@link ArchCondition#getCost() cost} until the first condition is violated.
+     * Satisfied events of the conditions are dropped, i.e. the evaluated conditions can only be used to report violations.
+     *
+     * @return All evaluated conditions up to the first violated one, if any condition is violated, {@link Optional#empty()} otherwise
+     */
+    Optional<List<ConditionWithEvents<T>>> evaluateConditionsUntilViolated(T item) {
+        List<ConditionWithEvents<T>> result = new ArrayList<>(conditionsByCost.size());
+        for (ArchCondition<T> condition : conditionsByCost) {
+            ConditionWithEvents<T> evaluation = new ConditionWithEvents<>(condition, item, false);
+            result.add(evaluation);
+            if (evaluation.getEvents().containViolation()) {
+                return Optional.of(result);
+            }
+        }
+        return Optional.empty();
     }
 
     @Override
@@ -69,8 +128,8 @@ abstract class JoinCondition<T> extends ArchCondition<T> {
         private final ArchCondition<T> condition;
         private final ViolatedAndSatisfiedConditionEvents events;
 
-        ConditionWithEvents(ArchCondition<T> condition, T item) {
-            this(condition, check(condition, item));
+        ConditionWithEvents(ArchCondition<T> condition, T item, boolean requiresSatisfiedEvents) {
+            this(condition, check(condition, item, new ViolatedAndSatisfiedConditionEvents(requiresSatisfiedEvents)));
         }
 
         ConditionWithEvents(ArchCondition<T> condition, ViolatedAndSatisfiedConditionEvents events) {
@@ -82,8 +141,7 @@ abstract class JoinCondition<T> extends ArchCondition<T> {
             return events;
         }
 
-        private static <T> ViolatedAndSatisfiedConditionEvents check(ArchCondition<T> condition, T item) {
-            ViolatedAndSatisfiedConditionEvents events = new ViolatedAndSatisfiedConditionEvents();
+        private static <T> ViolatedAndSatisfiedConditionEvents check(ArchCondition<T> condition, T item, ViolatedAndSatisfiedConditionEvents events) {
             condition.check(item, events);
             return events;
         }
@@ -44,6 +44,21 @@ class NeverCondition<T> extends ArchCondition<T> {
         condition.check(item, new InvertingConditionEvents(events));
     }
 
+    @Override
+    public boolean supportsParallelEvaluation() {
+        return condition.supportsParallelEvaluation();
+    }
+
+    @Override
+    public boolean isStateless() {
+        return condition.isStateless();
+    }
+
+    @Override
+    public Cost getCost() {
+        return condition.getCost();
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + "{condition=" + condition + "}";
@@ -58,5 +73,11 @@ class NeverCondition<T> extends ArchCondition<T> {
         public void add(ConditionEvent event) {
             delegate.add(event.invert());
         }
+
+        @Override
+        public boolean requiresSatisfiedEvents() {
+            // satisfied events become violations once inverted
+            return true;
+        }
     }
 }
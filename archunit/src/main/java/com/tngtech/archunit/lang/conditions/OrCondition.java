@@ -33,7 +33,13 @@ class OrCondition<T> extends JoinCondition<T> {
 
     @Override
     public void check(T item, ConditionEvents events) {
-        events.add(new OrConditionEvent<>(item, evaluateConditions(item)));
+        // conditions that are not stateless (e.g. report violations in finish(..) depending on all checked objects) must see every object
+        if (events.requiresSatisfiedEvents() || !isStateless()) {
+            events.add(new OrConditionEvent<>(item, evaluateConditions(item, events.requiresSatisfiedEvents())));
+        } else {
+            // the event is only a violation if all conditions are violated, thus the remaining conditions can be skipped once one is satisfied
+            evaluateConditionsUntilSatisfied(item).ifPresent(evaluatedConditions -> events.add(new OrConditionEvent<>(item, evaluatedConditions)));
+        }
     }
 
     static class OrConditionEvent<T> extends JoinConditionEvent<T> {
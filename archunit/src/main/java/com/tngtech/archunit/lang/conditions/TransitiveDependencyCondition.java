@@ -15,9 +15,16 @@
  */
 package com.tngtech.archunit.lang.conditions;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import com.google.common.collect.ImmutableList;
@@ -33,15 +40,17 @@ import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.collect.Iterables.getLast;
 import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
 import static com.tngtech.archunit.lang.ConditionEvent.createMessage;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptySet;
 import static java.util.stream.Collectors.joining;
-import static java.util.stream.Collectors.toSet;
+import static java.util.stream.Collectors.toCollection;
 
 @PublicAPI(usage = ACCESS)
 public final class TransitiveDependencyCondition extends ArchCondition<JavaClass> {
 
     private final DescribedPredicate<? super JavaClass> conditionPredicate;
-    private final TransitiveDependencyPath transitiveDependencyPath = new TransitiveDependencyPath();
-    private Collection<JavaClass> allClasses;
+    private Set<JavaClass> allClasses;
+    private TransitiveDependencyPaths transitiveDependencyPaths;
 
     public TransitiveDependencyCondition(DescribedPredicate<? super JavaClass> conditionPredicate) {
         super("transitively depend on classes that " + conditionPredicate.getDescription());
@@ -51,17 +60,41 @@ public final class TransitiveDependencyCondition extends ArchCondition<JavaClass
 
     @Override
     public void init(Collection<JavaClass> allObjectsToTest) {
-        this.allClasses = allObjectsToTest;
+        this.allClasses = new HashSet<>(allObjectsToTest);
+        this.transitiveDependencyPaths = new TransitiveDependencyPaths();
+        for (JavaClass javaClass : allObjectsToTest) {
+            for (JavaClass target : getDirectDependencyTargetsOutsideOfAnalyzedClasses(javaClass)) {
+                transitiveDependencyPaths.analyzeFrom(target);
+            }
+        }
+    }
+
+    @Override
+    public boolean supportsParallelEvaluation() {
+        return true;
+    }
+
+    @Override
+    public boolean isStateless() {
+        return true;
+    }
+
+    @Override
+    public Cost getCost() {
+        return Cost.HIGH;
     }
 
     @Override
     public void check(JavaClass javaClass, ConditionEvents events) {
         boolean hasTransitiveDependency = false;
         for (JavaClass target : getDirectDependencyTargetsOutsideOfAnalyzedClasses(javaClass)) {
-            List<JavaClass> dependencyPath = transitiveDependencyPath.findPathTo(target);
-            if (!dependencyPath.isEmpty()) {
-                events.add(newTransitiveDependencyPathFoundEvent(javaClass, dependencyPath));
+            if (transitiveDependencyPaths.existsFrom(target)) {
                 hasTransitiveDependency = true;
+                if (!events.requiresSatisfiedEvents()) {
+                    // one path is enough to know that the class is no violation
+                    return;
+                }
+                events.add(newTransitiveDependencyPathFoundEvent(javaClass, transitiveDependencyPaths.findFrom(target)));
             }
         }
         if (!hasTransitiveDependency) {
@@ -70,15 +103,17 @@ public final class TransitiveDependencyCondition extends ArchCondition<JavaClass
     }
 
     private static ConditionEvent newTransitiveDependencyPathFoundEvent(JavaClass javaClass, List<JavaClass> transitiveDependencyPath) {
-        String message = String.format("%sdepends on <%s>",
-                transitiveDependencyPath.size() > 1 ? "transitively " : "",
-                getLast(transitiveDependencyPath).getFullName());
+        return SimpleConditionEvent.of(javaClass, true, () -> {
+            String message = String.format("%sdepends on <%s>",
+                    transitiveDependencyPath.size() > 1 ? "transitively " : "",
+                    getLast(transitiveDependencyPath).getFullName());
 
-        if (transitiveDependencyPath.size() > 1) {
-            message += " by [" + transitiveDependencyPath.stream().map(JavaClass::getName).collect(joining("->")) + "]";
-        }
+            if (transitiveDependencyPath.size() > 1) {
+                message += " by [" + transitiveDependencyPath.stream().map(JavaClass::getName).collect(joining("->")) + "]";
+            }
 
-        return SimpleConditionEvent.satisfied(javaClass, createMessage(javaClass, message));
+            return createMessage(javaClass, message);
+        });
     }
 
     private static ConditionEvent newNoTransitiveDependencyPathFoundEvent(JavaClass javaClass) {
@@ -89,40 +124,131 @@ public final class TransitiveDependencyCondition extends ArchCondition<JavaClass
         return item.getDirectDependenciesFromSelf().stream()
                 .map(dependency -> dependency.getTargetClass().getBaseComponentType())
                 .filter(targetClass -> !allClasses.contains(targetClass))
-                .collect(toSet());
+                .collect(toCollection(LinkedHashSet::new));
     }
 
-    private class TransitiveDependencyPath {
-        /**
-         * @return some outgoing transitive dependency path to the supplied class or empty if there is none
-         */
-        List<JavaClass> findPathTo(JavaClass clazz) {
-            ImmutableList.Builder<JavaClass> transitivePath = ImmutableList.builder();
-            addDependenciesToPathFrom(clazz, transitivePath, new HashSet<>());
-            return transitivePath.build().reverse();
+    /**
+     * Determines for every class outside of the analyzed classes, whether it transitively depends on a matching class
+     * (where the path may only lead through classes outside of the analyzed classes, and ends at the first matching class).
+     * For each such class it records the next class on some path to a matching class, so every class is only analyzed once
+     * per evaluation, no matter how many analyzed classes depend on it.
+     * <br><br>
+     * Since dependencies can be cyclic, whether a class reaches a matching class is decided per strongly connected component
+     * of the dependency graph (using Tarjan's algorithm), where each component is only resolved after all components
+     * it depends on.
+     */
+    private class TransitiveDependencyPaths {
+        // classes that transitively depend on a matching class -> next class on the path (matching classes point to themselves)
+        private final Map<JavaClass, JavaClass> nextClassOnPath = new HashMap<>();
+        private final Map<JavaClass, Node> nodes = new HashMap<>();
+        private final Deque<Node> unresolvedNodes = new ArrayDeque<>();
+
+        void analyzeFrom(JavaClass start) {
+            if (nodes.containsKey(start)) {
+                return;
+            }
+
+            Deque<Node> nodesToVisit = new ArrayDeque<>();
+            nodesToVisit.push(createNode(start));
+            while (!nodesToVisit.isEmpty()) {
+                Node node = nodesToVisit.peek();
+                if (node.remainingTargets.hasNext()) {
+                    JavaClass target = node.remainingTargets.next();
+                    Node targetNode = nodes.get(target);
+                    if (targetNode == null) {
+                        nodesToVisit.push(createNode(target));
+                    } else if (targetNode.unresolved) {
+                        node.lowLink = Math.min(node.lowLink, targetNode.index);
+                    }
+                } else {
+                    nodesToVisit.pop();
+                    if (!nodesToVisit.isEmpty()) {
+                        nodesToVisit.peek().lowLink = Math.min(nodesToVisit.peek().lowLink, node.lowLink);
+                    }
+                    if (node.lowLink == node.index) {
+                        resolveComponentOf(node);
+                    }
+                }
+            }
         }
 
-        private boolean addDependenciesToPathFrom(
-                JavaClass clazz,
-                ImmutableList.Builder<JavaClass> dependencyPath,
-                Set<JavaClass> analyzedClasses
-        ) {
-            if (conditionPredicate.test(clazz)) {
-                dependencyPath.add(clazz);
-                return true;
+        private Node createNode(JavaClass javaClass) {
+            boolean matches = conditionPredicate.test(javaClass);
+            Node node = new Node(javaClass, nodes.size(), matches ? emptySet() : getDirectDependencyTargetsOutsideOfAnalyzedClasses(javaClass));
+            nodes.put(javaClass, node);
+            unresolvedNodes.push(node);
+            if (matches) {
+                nextClassOnPath.put(javaClass, javaClass);
             }
+            return node;
+        }
 
-            analyzedClasses.add(clazz);
+        private void resolveComponentOf(Node root) {
+            Set<JavaClass> component = new HashSet<>();
+            Node member;
+            do {
+                member = unresolvedNodes.pop();
+                member.unresolved = false;
+                component.add(member.javaClass);
+            } while (member != root);
+
+            Deque<JavaClass> classesOnPath = new ArrayDeque<>();
+            Map<JavaClass, List<JavaClass>> originsWithinComponent = new HashMap<>();
+            for (JavaClass origin : component) {
+                for (JavaClass target : nodes.get(origin).targets) {
+                    if (component.contains(target)) {
+                        originsWithinComponent.computeIfAbsent(target, __ -> new ArrayList<>()).add(origin);
+                    } else if (!nextClassOnPath.containsKey(origin) && nextClassOnPath.containsKey(target)) {
+                        nextClassOnPath.put(origin, target);
+                        classesOnPath.add(origin);
+                    }
+                }
+            }
 
-            for (JavaClass directDependency : getDirectDependencyTargetsOutsideOfAnalyzedClasses(clazz)) {
-                if (!analyzedClasses.contains(directDependency)
-                        && addDependenciesToPathFrom(directDependency, dependencyPath, analyzedClasses)) {
-                    dependencyPath.add(clazz);
-                    return true;
+            // all other classes of the component reach a matching class via the classes already known to do so
+            while (!classesOnPath.isEmpty()) {
+                JavaClass target = classesOnPath.poll();
+                for (JavaClass origin : originsWithinComponent.getOrDefault(target, emptyList())) {
+                    if (!nextClassOnPath.containsKey(origin)) {
+                        nextClassOnPath.put(origin, target);
+                        classesOnPath.add(origin);
+                    }
                 }
             }
+        }
+
+        boolean existsFrom(JavaClass javaClass) {
+            return nextClassOnPath.containsKey(javaClass);
+        }
+
+        /**
+         * @return some outgoing transitive dependency path from the supplied class to a matching class
+         */
+        List<JavaClass> findFrom(JavaClass javaClass) {
+            ImmutableList.Builder<JavaClass> result = ImmutableList.<JavaClass>builder().add(javaClass);
+            JavaClass current = javaClass;
+            for (JavaClass next = nextClassOnPath.get(current); !next.equals(current); next = nextClassOnPath.get(current)) {
+                result.add(next);
+                current = next;
+            }
+            return result.build();
+        }
+    }
 
-            return false;
+    private static class Node {
+        final JavaClass javaClass;
+        final int index;
+        final Set<JavaClass> targets;
+        final Iterator<JavaClass> remainingTargets;
+        int lowLink;
+        boolean unresolved = true;
+
+        Node(JavaClass javaClass, int index, Set<JavaClass> targets) {
+            this.javaClass = javaClass;
+            this.index = index;
+            this.lowLink = index;
+            this.targets = targets;
+            this.remainingTargets = targets.iterator();
         }
     }
 }
@@ -33,13 +33,26 @@ import com.tngtech.archunit.lang.ConditionEvents;
 final class ViolatedAndSatisfiedConditionEvents implements ConditionEvents {
     private final List<ConditionEvent> allowedEvents = new ArrayList<>();
     private final List<ConditionEvent> violatingEvents = new ArrayList<>();
+    private final boolean requiresSatisfiedEvents;
     private Optional<String> informationAboutNumberOfViolations = Optional.empty();
 
+    ViolatedAndSatisfiedConditionEvents() {
+        this(true);
+    }
+
+    /**
+     * @param requiresSatisfiedEvents {@code false}, if only the violations are of interest (e.g. because the
+     *                                composite event will never be inverted), thus satisfied events will be dropped
+     */
+    ViolatedAndSatisfiedConditionEvents(boolean requiresSatisfiedEvents) {
+        this.requiresSatisfiedEvents = requiresSatisfiedEvents;
+    }
+
     @Override
     public void add(ConditionEvent event) {
         if (event.isViolation()) {
             violatingEvents.add(event);
-        } else {
+        } else if (requiresSatisfiedEvents) {
             allowedEvents.add(event);
         }
     }
@@ -68,6 +81,11 @@ final class ViolatedAndSatisfiedConditionEvents implements ConditionEvents {
         return !getViolating().isEmpty();
     }
 
+    @Override
+    public boolean requiresSatisfiedEvents() {
+        return requiresSatisfiedEvents;
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + "{" +
@@ -83,4 +83,14 @@ public interface ArchUnitExtension {
      *                      classes and the result of the evaluation
      */
     void handle(EvaluatedRule evaluatedRule);
+
+    /**
+     * Rules are only profiled, if any enabled extension requires it, since profiling adds some overhead to each evaluation.
+     *
+     * @return {@code true}, if the {@link EvaluatedRule EvaluatedRules} passed to {@link #handle(EvaluatedRule)}
+     *         should contain an {@link EvaluatedRule#getProfile() EvaluationProfile}, by default {@code false}
+     */
+    default boolean requiresProfile() {
+        return false;
+    }
 }
@@ -16,22 +16,41 @@
 package com.tngtech.archunit.lang.extension;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.ServiceLoader;
 import java.util.function.Supplier;
 
+import com.google.common.base.Splitter;
+import com.google.common.collect.ImmutableList;
+import com.tngtech.archunit.ArchConfiguration;
+import com.tngtech.archunit.base.MayResolveTypesViaReflection;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import static com.tngtech.archunit.base.ReflectionUtils.newInstanceOf;
 import static com.tngtech.archunit.base.Suppliers.memoize;
+import static java.util.stream.Collectors.toList;
 
+/**
+ * Loads all {@link ArchUnitExtension ArchUnitExtensions} registered via {@link ServiceLoader}
+ * and all extensions configured by their fully qualified class names in {@code archunit.properties}, e.g.
+ * <pre><code>
+ * extensions=com.tngtech.archunit.lang.extension.SlowestRulesReport,some.pkg.MyExtension
+ * </code></pre>
+ */
 class ArchUnitExtensionLoader {
     private static final Logger LOG = LoggerFactory.getLogger(ArchUnitExtensionLoader.class);
 
+    static final String EXTENSIONS_PROPERTY_NAME = "extensions";
+
     private final Supplier<Iterable<ArchUnitExtension>> extensions = memoize(new Supplier<Iterable<ArchUnitExtension>>() {
         @Override
         public Iterable<ArchUnitExtension> get() {
-            ServiceLoader<ArchUnitExtension> extensions = ServiceLoader.load(ArchUnitExtension.class);
+            List<ArchUnitExtension> extensions = ImmutableList.<ArchUnitExtension>builder()
+                    .addAll(ServiceLoader.load(ArchUnitExtension.class))
+                    .addAll(createConfiguredExtensions())
+                    .build();
             log(extensions);
             checkIdentifiersNonNull(extensions);
             checkIdentifiersValid(extensions);
@@ -39,7 +58,25 @@ class ArchUnitExtensionLoader {
             return extensions;
         }
 
-        private void log(ServiceLoader<ArchUnitExtension> extensions) {
+        private List<ArchUnitExtension> createConfiguredExtensions() {
+            String extensionClassNames = ArchConfiguration.get().getPropertyOrDefault(EXTENSIONS_PROPERTY_NAME, "");
+            return Splitter.on(',').trimResults().omitEmptyStrings().splitToStream(extensionClassNames)
+                    .map(this::createInstance)
+                    .collect(toList());
+        }
+
+        @MayResolveTypesViaReflection(reason = "This is not part of the import process")
+        private ArchUnitExtension createInstance(String extensionClassName) {
+            try {
+                return (ArchUnitExtension) newInstanceOf(Class.forName(extensionClassName));
+            } catch (Exception e) {
+                String message = String.format("Could not instantiate %s of configured type '%s=%s'",
+                        ArchUnitExtension.class.getSimpleName(), EXTENSIONS_PROPERTY_NAME, extensionClassName);
+                throw new ExtensionLoadingException(message, e);
+            }
+        }
+
+        private void log(Iterable<ArchUnitExtension> extensions) {
             for (ArchUnitExtension extension : extensions) {
                 LOG.info("Loaded {} with id '{}'", ArchUnitExtension.class.getSimpleName(), extension.getUniqueIdentifier());
             }
@@ -53,7 +90,7 @@ class ArchUnitExtensionLoader {
             }
         }
 
-        private void checkIdentifiersValid(ServiceLoader<ArchUnitExtension> extensions) {
+        private void checkIdentifiersValid(Iterable<ArchUnitExtension> extensions) {
             for (ArchUnitExtension extension : extensions) {
                 if (extension.getUniqueIdentifier().contains(".")) {
                     throwLoadingException(extension,
@@ -45,6 +45,18 @@ public class ArchUnitExtensions {
         }
     }
 
+    /**
+     * @return {@code true}, if any enabled extension {@link ArchUnitExtension#requiresProfile() requires} the evaluation to be profiled
+     */
+    public boolean isProfileRequired() {
+        for (ArchUnitExtension extension : extensionLoader.getAll()) {
+            if (extension.requiresProfile() && isEnabled(ArchConfiguration.get().getExtensionProperties(extension.getUniqueIdentifier()))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private void dispatch(EvaluatedRule evaluatedRule, ArchUnitExtension extension) {
         ArchConfiguration configuration = ArchConfiguration.get();
         Properties extensionProperties = configuration.getExtensionProperties(extension.getUniqueIdentifier());
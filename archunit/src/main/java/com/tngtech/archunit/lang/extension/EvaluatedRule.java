@@ -15,9 +15,12 @@
  */
 package com.tngtech.archunit.lang.extension;
 
+import java.util.Optional;
+
 import com.tngtech.archunit.PublicAPI;
 import com.tngtech.archunit.core.domain.JavaClasses;
 import com.tngtech.archunit.lang.ArchRule;
+import com.tngtech.archunit.lang.EvaluationProfile;
 import com.tngtech.archunit.lang.EvaluationResult;
 
 import static com.tngtech.archunit.PublicAPI.State.EXPERIMENTAL;
@@ -38,4 +41,13 @@ public interface EvaluatedRule {
 
     @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
     EvaluationResult getResult();
+
+    /**
+     * @return Timings and counters of the evaluation of the rule, e.g. to find the rules that take the most time,
+     *         if the evaluation of the rule has been profiled
+     */
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    default Optional<EvaluationProfile> getProfile() {
+        return Optional.empty();
+    }
 }
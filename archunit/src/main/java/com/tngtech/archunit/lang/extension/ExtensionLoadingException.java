@@ -19,4 +19,8 @@ final class ExtensionLoadingException extends RuntimeException {
     ExtensionLoadingException(String message) {
         super(message);
     }
+
+    ExtensionLoadingException(String message, Throwable cause) {
+        super(message, cause);
+    }
 }
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2014-2023 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.lang.extension;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.tngtech.archunit.PublicAPI;
+import com.tngtech.archunit.lang.EvaluationProfile;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static com.tngtech.archunit.PublicAPI.State.EXPERIMENTAL;
+import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Extension, that collects the {@link EvaluationProfile EvaluationProfiles} of all rules checked within this JVM
+ * and reports the slowest rules as a table when the JVM shuts down. It is not active by default,
+ * but can be registered and enabled within {@code archunit.properties} via
+ * <pre><code>
+ * extensions=com.tngtech.archunit.lang.extension.SlowestRulesReport
+ * extension.archunit-slowest-rules.enabled=true
+ * # optional, the number of rules to report (default 20)
+ * extension.archunit-slowest-rules.limit=20
+ * # optional, the file to write the report to (by default the report is logged on level INFO)
+ * extension.archunit-slowest-rules.file=build/reports/archunit-slowest-rules.txt
+ * </code></pre>
+ * Evaluations of rules with the same description are summed up.
+ */
+@PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+public final class SlowestRulesReport implements ArchUnitExtension {
+    private static final Logger LOG = LoggerFactory.getLogger(SlowestRulesReport.class);
+
+    static final String UNIQUE_IDENTIFIER = "archunit-slowest-rules";
+    private static final String LIMIT_PROPERTY = "limit";
+    private static final int DEFAULT_LIMIT = 20;
+    private static final String FILE_PROPERTY = "file";
+
+    private final Map<String, RuleStatistics> statisticsByRule = new ConcurrentHashMap<>();
+    private final AtomicBoolean reportScheduled = new AtomicBoolean();
+    private volatile int limit = DEFAULT_LIMIT;
+    private volatile Optional<Path> reportFile = Optional.empty();
+
+    @Override
+    public String getUniqueIdentifier() {
+        return UNIQUE_IDENTIFIER;
+    }
+
+    @Override
+    public void configure(Properties properties) {
+        limit = Integer.parseInt(properties.getProperty(LIMIT_PROPERTY, String.valueOf(DEFAULT_LIMIT)));
+        reportFile = Optional.ofNullable(properties.getProperty(FILE_PROPERTY)).map(Paths::get);
+    }
+
+    @Override
+    public boolean requiresProfile() {
+        return true;
+    }
+
+    @Override
+    public void handle(EvaluatedRule evaluatedRule) {
+        Optional<EvaluationProfile> profile = evaluatedRule.getProfile();
+        if (!profile.isPresent()) {
+            return;
+        }
+        record(evaluatedRule.getRule().getDescription(), new RuleStatistics(profile.get()));
+        if (reportScheduled.compareAndSet(false, true)) {
+            Runtime.getRuntime().addShutdownHook(new Thread(this::report, "archunit-slowest-rules-report"));
+        }
+    }
+
+    void record(String ruleDescription, RuleStatistics statistics) {
+        statisticsByRule.merge(ruleDescription, statistics, RuleStatistics::plus);
+    }
+
+    void report() {
+        String report = createReport();
+        if (!reportFile.isPresent()) {
+            LOG.info(report);
+            return;
+        }
+        try {
+            Path file = reportFile.get().toAbsolutePath();
+            Files.createDirectories(file.getParent());
+            Files.write(file, report.getBytes(UTF_8));
+        } catch (IOException e) {
+            LOG.warn("Could not write report of slowest rules to " + reportFile.get(), e);
+        }
+    }
+
+    String createReport() {
+        List<Map.Entry<String, RuleStatistics>> slowestRules = statisticsByRule.entrySet().stream()
+                .sorted(Comparator.comparing((Map.Entry<String, RuleStatistics> entry) -> entry.getValue().wallTime).reversed())
+                .limit(limit)
+                .collect(toList());
+        Duration totalWallTime = statisticsByRule.values().stream().map(it -> it.wallTime).reduce(Duration.ZERO, Duration::plus);
+
+        StringBuilder report = new StringBuilder(String.format("Slowest %d of %d ArchUnit rules (%d ms in total):%n",
+                slowestRules.size(), statisticsByRule.size(), totalWallTime.toMillis()));
+        report.append(String.format("%10s %10s %10s %11s %11s %10s %10s %10s  %s%n",
+                "wall [ms]", "init [ms]", "check [ms]", "finish [ms]", "evaluations", "objects", "events", "violations", "rule"));
+        for (Map.Entry<String, RuleStatistics> rule : slowestRules) {
+            RuleStatistics statistics = rule.getValue();
+            report.append(String.format("%10d %10d %10d %11d %11d %10d %10d %10d  %s%n",
+                    statistics.wallTime.toMillis(), statistics.initDuration.toMillis(), statistics.checkDuration.toMillis(),
+                    statistics.finishDuration.toMillis(), statistics.numberOfEvaluations, statistics.numberOfCheckedObjects,
+                    statistics.numberOfEvents, statistics.numberOfViolations, rule.getKey()));
+        }
+        return report.toString();
+    }
+
+    static class RuleStatistics {
+        private final Duration wallTime;
+        private final Duration initDuration;
+        private final Duration checkDuration;
+        private final Duration finishDuration;
+        private final long numberOfEvaluations;
+        private final long numberOfCheckedObjects;
+        private final long numberOfEvents;
+        private final long numberOfViolations;
+
+        RuleStatistics(EvaluationProfile profile) {
+            this(profile.getWallTime(), profile.getInitDuration(), profile.getCheckDuration(), profile.getFinishDuration(),
+                    1, profile.getNumberOfCheckedObjects(), profile.getNumberOfEvents(), profile.getNumberOfViolations());
+        }
+
+        RuleStatistics(Duration wallTime, Duration initDuration, Duration checkDuration, Duration finishDuration,
+                long numberOfEvaluations, long numberOfCheckedObjects, long numberOfEvents, long numberOfViolations) {
+            this.wallTime = wallTime;
+            this.initDuration = initDuration;
+            this.checkDuration = checkDuration;
+            this.finishDuration = finishDuration;
+            this.numberOfEvaluations = numberOfEvaluations;
+            this.numberOfCheckedObjects = numberOfCheckedObjects;
+            this.numberOfEvents = numberOfEvents;
+            this.numberOfViolations = numberOfViolations;
+        }
+
+        RuleStatistics plus(RuleStatistics other) {
+            return new RuleStatistics(
+                    wallTime.plus(other.wallTime),
+                    initDuration.plus(other.initDuration),
+                    checkDuration.plus(other.checkDuration),
+                    finishDuration.plus(other.finishDuration),
+                    numberOfEvaluations + other.numberOfEvaluations,
+                    numberOfCheckedObjects + other.numberOfCheckedObjects,
+                    numberOfEvents + other.numberOfEvents,
+                    numberOfViolations + other.numberOfViolations);
+        }
+    }
+}
@@ -29,7 +29,7 @@ import com.tngtech.archunit.lang.Priority;
 
 import static com.google.common.base.Preconditions.checkState;
 
-class ObjectsShouldInternal<T> implements ArchRule {
+class ObjectsShouldInternal<T> implements ArchRule, ArchRule.DelegatingRule {
     private final Supplier<ArchRule> finishedRule = Suppliers.memoize(new FinishedRule());
 
     final ConditionAggregator<T> conditionAggregator;
@@ -66,6 +66,11 @@ class ObjectsShouldInternal<T> implements ArchRule {
         return (ClassesTransformer<T>) classesTransformer;
     }
 
+    @Override
+    public ArchRule getDelegate() {
+        return finishedRule.get();
+    }
+
     @Override
     public String getDescription() {
         return finishedRule.get().getDescription();
@@ -27,77 +27,89 @@ import com.tngtech.archunit.lang.AbstractClassesTransformer;
 import com.tngtech.archunit.lang.ClassesTransformer;
 
 class Transformers {
-    static ClassesTransformer<JavaClass> classes() {
-        return new AbstractClassesTransformer<JavaClass>("classes") {
-            @Override
-            public Iterable<JavaClass> doTransform(JavaClasses collection) {
-                return collection;
+    private static final ClassesTransformer<JavaClass> CLASSES = new AbstractClassesTransformer<JavaClass>("classes") {
+        @Override
+        public Iterable<JavaClass> doTransform(JavaClasses collection) {
+            return collection;
+        }
+    };
+
+    private static final ClassesTransformer<JavaMember> MEMBERS = new AbstractClassesTransformer<JavaMember>("members") {
+        @Override
+        public Iterable<JavaMember> doTransform(JavaClasses collection) {
+            ImmutableSet.Builder<JavaMember> result = ImmutableSet.builder();
+            for (JavaClass javaClass : collection) {
+                result.addAll(javaClass.getMembers());
             }
-        };
+            return result.build();
+        }
+    };
+
+    private static final ClassesTransformer<JavaField> FIELDS = new AbstractClassesTransformer<JavaField>("fields") {
+        @Override
+        public Iterable<JavaField> doTransform(JavaClasses collection) {
+            ImmutableSet.Builder<JavaField> result = ImmutableSet.builder();
+            for (JavaClass javaClass : collection) {
+                result.addAll(javaClass.getFields());
+            }
+            return result.build();
+        }
+    };
+
+    private static final ClassesTransformer<JavaCodeUnit> CODE_UNITS = new AbstractClassesTransformer<JavaCodeUnit>("code units") {
+        @Override
+        public Iterable<JavaCodeUnit> doTransform(JavaClasses collection) {
+            ImmutableSet.Builder<JavaCodeUnit> result = ImmutableSet.builder();
+            for (JavaClass javaClass : collection) {
+                result.addAll(javaClass.getCodeUnits());
+            }
+            return result.build();
+        }
+    };
+
+    private static final ClassesTransformer<JavaConstructor> CONSTRUCTORS = new AbstractClassesTransformer<JavaConstructor>("constructors") {
+        @Override
+        public Iterable<JavaConstructor> doTransform(JavaClasses collection) {
+            ImmutableSet.Builder<JavaConstructor> result = ImmutableSet.builder();
+            for (JavaClass javaClass : collection) {
+                result.addAll(javaClass.getConstructors());
+            }
+            return result.build();
+        }
+    };
+
+    private static final ClassesTransformer<JavaMethod> METHODS = new AbstractClassesTransformer<JavaMethod>("methods") {
+        @Override
+        public Iterable<JavaMethod> doTransform(JavaClasses collection) {
+            ImmutableSet.Builder<JavaMethod> result = ImmutableSet.builder();
+            for (JavaClass javaClass : collection) {
+                result.addAll(javaClass.getMethods());
+            }
+            return result.build();
+        }
+    };
+
+    static ClassesTransformer<JavaClass> classes() {
+        return CLASSES;
     }
 
     static ClassesTransformer<JavaMember> members() {
-        return new AbstractClassesTransformer<JavaMember>("members") {
-            @Override
-            public Iterable<JavaMember> doTransform(JavaClasses collection) {
-                ImmutableSet.Builder<JavaMember> result = ImmutableSet.builder();
-                for (JavaClass javaClass : collection) {
-                    result.addAll(javaClass.getMembers());
-                }
-                return result.build();
-            }
-        };
+        return MEMBERS;
     }
 
     static ClassesTransformer<JavaField> fields() {
-        return new AbstractClassesTransformer<JavaField>("fields") {
-            @Override
-            public Iterable<JavaField> doTransform(JavaClasses collection) {
-                ImmutableSet.Builder<JavaField> result = ImmutableSet.builder();
-                for (JavaClass javaClass : collection) {
-                    result.addAll(javaClass.getFields());
-                }
-                return result.build();
-            }
-        };
+        return FIELDS;
     }
 
     static ClassesTransformer<JavaCodeUnit> codeUnits() {
-        return new AbstractClassesTransformer<JavaCodeUnit>("code units") {
-            @Override
-            public Iterable<JavaCodeUnit> doTransform(JavaClasses collection) {
-                ImmutableSet.Builder<JavaCodeUnit> result = ImmutableSet.builder();
-                for (JavaClass javaClass : collection) {
-                    result.addAll(javaClass.getCodeUnits());
-                }
-                return result.build();
-            }
-        };
+        return CODE_UNITS;
     }
 
     static ClassesTransformer<JavaConstructor> constructors() {
-        return new AbstractClassesTransformer<JavaConstructor>("constructors") {
-            @Override
-            public Iterable<JavaConstructor> doTransform(JavaClasses collection) {
-                ImmutableSet.Builder<JavaConstructor> result = ImmutableSet.builder();
-                for (JavaClass javaClass : collection) {
-                    result.addAll(javaClass.getConstructors());
-                }
-                return result.build();
-            }
-        };
+        return CONSTRUCTORS;
     }
 
     static ClassesTransformer<JavaMethod> methods() {
-        return new AbstractClassesTransformer<JavaMethod>("methods") {
-            @Override
-            public Iterable<JavaMethod> doTransform(JavaClasses collection) {
-                ImmutableSet.Builder<JavaMethod> result = ImmutableSet.builder();
-                for (JavaClass javaClass : collection) {
-                    result.addAll(javaClass.getMethods());
-                }
-                return result.build();
-            }
-        };
+        return METHODS;
     }
 }
@@ -451,6 +451,16 @@ public final class Architectures {
                 private ArchCondition<JavaClass> beContainedInLayers(LayerDefinitions layerDefinitions) {
                     DescribedPredicate<JavaClass> classContainedInLayers = layerDefinitions.containsPredicateForAll();
                     return new ArchCondition<JavaClass>("be contained in architecture") {
+                        @Override
+                        public boolean supportsParallelEvaluation() {
+                            return true;
+                        }
+
+                        @Override
+                        public boolean isStateless() {
+                            return true;
+                        }
+
                         @Override
                         public void check(JavaClass javaClass, ConditionEvents events) {
                             if (!ignorePredicate.test(javaClass) && !classContainedInLayers.test(javaClass)) {
@@ -122,6 +122,16 @@ public final class DependencyRules {
             super("depend on upper packages");
         }
 
+        @Override
+        public boolean supportsParallelEvaluation() {
+            return true;
+        }
+
+        @Override
+        public boolean isStateless() {
+            return true;
+        }
+
         @Override
         public void check(JavaClass clazz, ConditionEvents events) {
             for (Dependency dependency : clazz.getDirectDependenciesFromSelf()) {
@@ -456,6 +456,16 @@ public final class GeneralCodingRules {
         return new ArchCondition<JavaClass>("reside in the same package as their test classes") {
             Map<String, List<JavaClass>> testClassesBySimpleClassName = new HashMap<>();
 
+            @Override
+            public boolean supportsParallelEvaluation() {
+                return true;
+            }
+
+            @Override
+            public boolean isStateless() {
+                return true;
+            }
+
             @Override
             public void init(Collection<JavaClass> allClasses) {
                 testClassesBySimpleClassName = allClasses.stream()
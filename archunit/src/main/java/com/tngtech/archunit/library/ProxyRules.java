@@ -164,11 +164,21 @@ public final class ProxyRules {
     @PublicAPI(usage = ACCESS)
     public static ArchCondition<JavaClass> directly_call_other_methods_declared_in_the_same_class_that(DescribedPredicate<? super MethodCallTarget> predicate) {
         return new ArchCondition<JavaClass>("directly call other methods declared in the same class that " + predicate.getDescription()) {
+            @Override
+            public boolean supportsParallelEvaluation() {
+                return true;
+            }
+
+            @Override
+            public boolean isStateless() {
+                return true;
+            }
+
             @Override
             public void check(JavaClass javaClass, ConditionEvents events) {
                 for (JavaMethodCall call : javaClass.getMethodCallsFromSelf()) {
                     boolean satisfied = call.getOriginOwner().equals(call.getTargetOwner()) && predicate.test(call.getTarget());
-                    events.add(new SimpleConditionEvent(call, satisfied, call.getDescription()));
+                    events.add(SimpleConditionEvent.of(call, satisfied, call::getDescription));
                 }
             }
         };
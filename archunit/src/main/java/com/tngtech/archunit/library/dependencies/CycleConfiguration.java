@@ -22,9 +22,18 @@ final class CycleConfiguration {
     private static final String MAX_NUMBER_OF_CYCLES_TO_DETECT_DEFAULT_VALUE = "100";
     static final String MAX_NUMBER_OF_DEPENDENCIES_TO_SHOW_PER_EDGE_PROPERTY_NAME = "cycles.maxNumberOfDependenciesPerEdge";
     private static final String MAX_NUMBER_OF_DEPENDENCIES_TO_SHOW_PER_EDGE_DEFAULT_VALUE = "20";
+    static final String MAX_DETECTION_TIME_IN_MILLIS_PROPERTY_NAME = "cycles.maxDetectionTimeInMillis";
+    private static final String MAX_DETECTION_TIME_IN_MILLIS_DEFAULT_VALUE = "-1";
+    static final String ENABLE_PARALLEL_DETECTION_PROPERTY_NAME = "cycles.enableParallelDetection";
+    private static final String ENABLE_PARALLEL_DETECTION_DEFAULT_VALUE = "false";
+    static final String REPORT_ONLY_SHORTEST_CYCLE_PER_COMPONENT_PROPERTY_NAME = "cycles.reportOnlyShortestCyclePerComponent";
+    private static final String REPORT_ONLY_SHORTEST_CYCLE_PER_COMPONENT_DEFAULT_VALUE = "false";
 
     private final int maxCyclesToDetect;
     private final int maxDependenciesPerEdge;
+    private final long maxDetectionTimeInMillis;
+    private final boolean parallelDetectionEnabled;
+    private final boolean reportOnlyShortestCyclePerComponent;
 
     CycleConfiguration() {
         String configuredMaxCyclesToDetect = ArchConfiguration.get()
@@ -35,6 +44,18 @@ final class CycleConfiguration {
                 .getPropertyOrDefault(MAX_NUMBER_OF_DEPENDENCIES_TO_SHOW_PER_EDGE_PROPERTY_NAME,
                         MAX_NUMBER_OF_DEPENDENCIES_TO_SHOW_PER_EDGE_DEFAULT_VALUE);
         maxDependenciesPerEdge = Integer.parseInt(configuredMaxDependenciesPerEdge);
+
+        String configuredMaxDetectionTime = ArchConfiguration.get()
+                .getPropertyOrDefault(MAX_DETECTION_TIME_IN_MILLIS_PROPERTY_NAME, MAX_DETECTION_TIME_IN_MILLIS_DEFAULT_VALUE);
+        maxDetectionTimeInMillis = Long.parseLong(configuredMaxDetectionTime);
+
+        String configuredParallelDetection = ArchConfiguration.get()
+                .getPropertyOrDefault(ENABLE_PARALLEL_DETECTION_PROPERTY_NAME, ENABLE_PARALLEL_DETECTION_DEFAULT_VALUE);
+        parallelDetectionEnabled = Boolean.parseBoolean(configuredParallelDetection);
+
+        String configuredReportOnlyShortestCyclePerComponent = ArchConfiguration.get()
+                .getPropertyOrDefault(REPORT_ONLY_SHORTEST_CYCLE_PER_COMPONENT_PROPERTY_NAME, REPORT_ONLY_SHORTEST_CYCLE_PER_COMPONENT_DEFAULT_VALUE);
+        reportOnlyShortestCyclePerComponent = Boolean.parseBoolean(configuredReportOnlyShortestCyclePerComponent);
     }
 
     int getMaxNumberOfCyclesToDetect() {
@@ -44,4 +65,22 @@ final class CycleConfiguration {
     int getMaxNumberOfDependenciesToShowPerEdge() {
         return maxDependenciesPerEdge;
     }
+
+    /**
+     * @return the maximum time in milliseconds to spend on detecting cycles, a value {@code <= 0} means unlimited
+     */
+    long getMaxDetectionTimeInMillis() {
+        return maxDetectionTimeInMillis;
+    }
+
+    boolean isParallelDetectionEnabled() {
+        return parallelDetectionEnabled;
+    }
+
+    /**
+     * @return true, if instead of all cycles only one shortest cycle per strongly connected component should be reported
+     */
+    boolean reportOnlyShortestCyclePerComponent() {
+        return reportOnlyShortestCyclePerComponent;
+    }
 }
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2014-2023 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.library.dependencies;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * A point in time after which the cycle detection should stop, compare {@link CycleConfiguration#getMaxDetectionTimeInMillis()}.
+ */
+final class Deadline {
+    static final Deadline NONE = new Deadline(false, 0);
+
+    private final boolean limited;
+    private final long endNanos;
+
+    private Deadline(boolean limited, long endNanos) {
+        this.limited = limited;
+        this.endNanos = endNanos;
+    }
+
+    boolean isExceeded() {
+        return limited && System.nanoTime() - endNanos > 0;
+    }
+
+    static Deadline from(CycleConfiguration configuration) {
+        long maxDetectionTimeInMillis = configuration.getMaxDetectionTimeInMillis();
+        return maxDetectionTimeInMillis > 0
+                ? new Deadline(true, System.nanoTime() + MILLISECONDS.toNanos(maxDetectionTimeInMillis))
+                : NONE;
+    }
+}
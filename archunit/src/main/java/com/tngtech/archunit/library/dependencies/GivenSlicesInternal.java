@@ -101,6 +101,16 @@ class GivenSlicesInternal implements GivenSlices, SlicesShould, GivenSlicesConju
             this.inputTransformer = inputTransformer;
         }
 
+        @Override
+        public boolean supportsParallelEvaluation() {
+            return true;
+        }
+
+        @Override
+        public boolean isStateless() {
+            return true;
+        }
+
         @Override
         public void check(Slice slice, ConditionEvents events) {
             Iterable<Dependency> relevantDependencies = slice.getDependenciesFromSelf().stream().filter(predicate).collect(toList());
@@ -15,10 +15,14 @@
  */
 package com.tngtech.archunit.library.dependencies;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.ForwardingCollection;
@@ -28,6 +32,8 @@ import com.google.common.collect.ListMultimap;
 import com.google.common.collect.Multimap;
 
 import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
 
 class Graph<T, ATTACHMENT> {
     private final Map<T, Integer> nodes = new HashMap<>();
@@ -50,14 +56,51 @@ class Graph<T, ATTACHMENT> {
     }
 
     Cycles<T, ATTACHMENT> findCycles() {
+        return findCycles(new CycleConfiguration());
+    }
+
+    Cycles<T, ATTACHMENT> findCycles(CycleConfiguration configuration) {
         Map<Integer, Map<Integer, Edge<T, ATTACHMENT>>> edgesByTargetIndexByOriginIndex = indexEdgesByTargetIndexByOriginIndex(nodes, outgoingEdges);
-        JohnsonCycleFinder johnsonCycleFinder = new JohnsonCycleFinder(createPrimitiveGraph());
+        JohnsonCycleFinder johnsonCycleFinder = new JohnsonCycleFinder(createPrimitiveGraph(), configuration);
         ImmutableList.Builder<Cycle<T, ATTACHMENT>> result = ImmutableList.builder();
         JohnsonCycleFinder.Result cycles = johnsonCycleFinder.findCycles();
         for (int[] rawCycle : cycles) {
             result.add(mapToCycle(edgesByTargetIndexByOriginIndex, rawCycle));
         }
-        return new Cycles<>(result.build(), cycles.maxNumberOfCyclesReached());
+        return new Cycles<>(result.build(), cycles.maxNumberOfCyclesReached(), cycles.maxDetectionTimeReached());
+    }
+
+    /**
+     * Instead of all cycles, only finds one shortest cycle within each strongly connected component (with more than one node),
+     * which is considerably faster for big components. Note that all nodes of such a component are part of some cycle.
+     */
+    List<Component<T, ATTACHMENT>> findShortestCyclePerComponent(CycleConfiguration configuration) {
+        Map<Integer, Map<Integer, Edge<T, ATTACHMENT>>> edgesByTargetIndexByOriginIndex = indexEdgesByTargetIndexByOriginIndex(nodes, outgoingEdges);
+        PrimitiveGraph primitiveGraph = createPrimitiveGraph();
+        Deadline deadline = Deadline.from(configuration);
+        List<int[]> components = new TarjanComponentFinder(primitiveGraph).findAllNonTrivialStronglyConnectedComponents();
+        List<int[]> shortestCycles = (configuration.isParallelDetectionEnabled() ? components.parallelStream() : components.stream())
+                .map(component -> findShortestCycle(primitiveGraph, component, deadline))
+                .collect(toList());
+
+        List<T> nodesByIndex = nodesByIndex();
+        ImmutableList.Builder<Component<T, ATTACHMENT>> result = ImmutableList.builder();
+        for (int i = 0; i < components.size(); i++) {
+            Set<T> componentNodes = Arrays.stream(components.get(i)).mapToObj(nodesByIndex::get).collect(toSet());
+            result.add(new Component<>(componentNodes, mapToCycle(edgesByTargetIndexByOriginIndex, shortestCycles.get(i))));
+        }
+        return result.build();
+    }
+
+    private static int[] findShortestCycle(PrimitiveGraph primitiveGraph, int[] component, Deadline deadline) {
+        int[] subgraphCycle = new ShortestCycleFinder(primitiveGraph.inducedSubgraph(component)).findShortestCycle(deadline);
+        return Arrays.stream(subgraphCycle).map(subgraphNode -> component[subgraphNode]).toArray();
+    }
+
+    private List<T> nodesByIndex() {
+        List<T> result = new ArrayList<>(Collections.nCopies(nodes.size(), null));
+        nodes.forEach((node, index) -> result.set(index, node));
+        return result;
     }
 
     private PrimitiveGraph createPrimitiveGraph() {
@@ -111,19 +154,43 @@ class Graph<T, ATTACHMENT> {
     static class Cycles<T, ATTACHMENT> extends ForwardingCollection<Cycle<T, ATTACHMENT>> {
         private final Collection<Cycle<T, ATTACHMENT>> cycles;
         private final boolean maxNumberOfCyclesReached;
+        private final boolean maxDetectionTimeReached;
 
-        private Cycles(Collection<Cycle<T, ATTACHMENT>> cycles, boolean maxNumberOfCyclesReached) {
+        private Cycles(Collection<Cycle<T, ATTACHMENT>> cycles, boolean maxNumberOfCyclesReached, boolean maxDetectionTimeReached) {
             this.cycles = cycles;
             this.maxNumberOfCyclesReached = maxNumberOfCyclesReached;
+            this.maxDetectionTimeReached = maxDetectionTimeReached;
         }
 
         boolean maxNumberOfCyclesReached() {
             return maxNumberOfCyclesReached;
         }
 
+        boolean maxDetectionTimeReached() {
+            return maxDetectionTimeReached;
+        }
+
         @Override
         protected Collection<Cycle<T, ATTACHMENT>> delegate() {
             return cycles;
         }
     }
+
+    static class Component<T, ATTACHMENT> {
+        private final Set<T> nodes;
+        private final Cycle<T, ATTACHMENT> shortestCycle;
+
+        private Component(Set<T> nodes, Cycle<T, ATTACHMENT> shortestCycle) {
+            this.nodes = nodes;
+            this.shortestCycle = shortestCycle;
+        }
+
+        Set<T> getNodes() {
+            return nodes;
+        }
+
+        Cycle<T, ATTACHMENT> getShortestCycle() {
+            return shortestCycle;
+        }
+    }
 }
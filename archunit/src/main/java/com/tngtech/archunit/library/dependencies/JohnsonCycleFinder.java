@@ -16,14 +16,18 @@
 package com.tngtech.archunit.library.dependencies;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
+import java.util.function.IntUnaryOperator;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import static com.tngtech.archunit.library.dependencies.CycleConfiguration.MAX_NUMBER_OF_CYCLES_TO_DETECT_PROPERTY_NAME;
 import static com.tngtech.archunit.library.dependencies.TarjanComponentFinder.NO_COMPONENT_FOUND;
+import static java.util.Comparator.comparingInt;
+import static java.util.stream.Collectors.toList;
 
 /**
  * An implementation of Johnson's algorithm to find cycles within an uni-directed graph
@@ -60,16 +64,54 @@ class JohnsonCycleFinder {
 
     private int nodeToProcess = 0;
     private final PrimitiveGraph primitiveGraph;
+    private final CycleConfiguration configuration;
+    private final Deadline deadline;
 
     JohnsonCycleFinder(PrimitiveGraph primitiveGraph) {
+        this(primitiveGraph, new CycleConfiguration());
+    }
+
+    JohnsonCycleFinder(PrimitiveGraph primitiveGraph, CycleConfiguration configuration) {
+        this(primitiveGraph, configuration, Deadline.from(configuration));
+    }
+
+    private JohnsonCycleFinder(PrimitiveGraph primitiveGraph, CycleConfiguration configuration, Deadline deadline) {
         this.primitiveGraph = primitiveGraph;
+        this.configuration = configuration;
+        this.deadline = deadline;
     }
 
+    /**
+     * If parallel detection is enabled, each strongly connected component of the whole graph is searched for cycles
+     * on its own within the common {@link java.util.concurrent.ForkJoinPool}. Since cycles can never span several of these components,
+     * and Johnson's algorithm finds all cycles through a start node within the component of this node,
+     * the result will be exactly the same as the result of the sequential algorithm.
+     */
     Result findCycles() {
-        Result result = new Result();
+        log.trace("Maximum number of cycles to detect is set to {}; "
+                        + "this limit can be adapted using the `archunit.properties` value `{}=xxx`",
+                configuration.getMaxNumberOfCyclesToDetect(), MAX_NUMBER_OF_CYCLES_TO_DETECT_PROPERTY_NAME);
+
+        return configuration.isParallelDetectionEnabled()
+                ? findCyclesInParallel()
+                : findCyclesSequentially();
+    }
+
+    private Result findCyclesInParallel() {
+        List<int[]> components = new TarjanComponentFinder(primitiveGraph).findAllNonTrivialStronglyConnectedComponents();
+        List<Result> resultsPerComponent = components.parallelStream()
+                .map(component -> new JohnsonCycleFinder(primitiveGraph.inducedSubgraph(component), configuration, deadline)
+                        .findCyclesSequentially()
+                        .mapNodes(subgraphNode -> component[subgraphNode]))
+                .collect(toList());
+        return Result.merge(resultsPerComponent, configuration.getMaxNumberOfCyclesToDetect());
+    }
+
+    private Result findCyclesSequentially() {
+        Result result = new Result(configuration.getMaxNumberOfCyclesToDetect(), deadline);
         TarjanComponentFinder componentFinder = new TarjanComponentFinder(primitiveGraph);
         JohnsonComponent johnsonComponent = JohnsonComponent.within(primitiveGraph);
-        while (nodeToProcess < primitiveGraph.getSize()) {
+        while (nodeToProcess < primitiveGraph.getSize() && result.canAcceptMoreCycles()) {
             int[] nextStronglyConnectedComponent = componentFinder.findNonTrivialStronglyConnectedComponentWithLowestNodeIndexAbove(nodeToProcess);
             if (nextStronglyConnectedComponent == NO_COMPONENT_FOUND) {
                 break;
@@ -114,30 +156,43 @@ class JohnsonCycleFinder {
     }
 
     static class Result implements Iterable<int[]> {
-        private final CycleConfiguration configuration = new CycleConfiguration();
+        // checking the time on every step of the search would be unnecessarily expensive
+        private static final int STEPS_BETWEEN_DEADLINE_CHECKS = 1024;
+
+        private final int maxNumberOfCyclesToDetect;
+        private final Deadline deadline;
         private final List<int[]> cycles = new ArrayList<>();
         private boolean maxNumberOfCyclesReached = false;
+        private boolean maxDetectionTimeReached = false;
+        private int stepsUntilDeadlineCheck = 0;
 
-        private Result() {
-            log.trace("Maximum number of cycles to detect is set to {}; "
-                            + "this limit can be adapted using the `archunit.properties` value `{}=xxx`",
-                    configuration.getMaxNumberOfCyclesToDetect(), MAX_NUMBER_OF_CYCLES_TO_DETECT_PROPERTY_NAME);
+        private Result(int maxNumberOfCyclesToDetect, Deadline deadline) {
+            this.maxNumberOfCyclesToDetect = maxNumberOfCyclesToDetect;
+            this.deadline = deadline;
         }
 
         private boolean canAcceptMoreCycles() {
-            return !maxNumberOfCyclesReached;
+            if (--stepsUntilDeadlineCheck < 0) {
+                stepsUntilDeadlineCheck = STEPS_BETWEEN_DEADLINE_CHECKS;
+                maxDetectionTimeReached = maxDetectionTimeReached || deadline.isExceeded();
+            }
+            return !maxNumberOfCyclesReached && !maxDetectionTimeReached;
         }
 
         boolean maxNumberOfCyclesReached() {
             return maxNumberOfCyclesReached;
         }
 
+        boolean maxDetectionTimeReached() {
+            return maxDetectionTimeReached;
+        }
+
         void add(int[] cycle) {
             if (maxNumberOfCyclesReached) {
                 return;
             }
 
-            if (this.cycles.size() >= configuration.getMaxNumberOfCyclesToDetect()) {
+            if (this.cycles.size() >= maxNumberOfCyclesToDetect) {
                 maxNumberOfCyclesReached = true;
                 return;
             }
@@ -145,9 +200,29 @@ class JohnsonCycleFinder {
             this.cycles.add(cycle);
         }
 
+        private Result mapNodes(IntUnaryOperator mapping) {
+            cycles.replaceAll(cycle -> Arrays.stream(cycle).map(mapping).toArray());
+            return this;
+        }
+
         @Override
         public Iterator<int[]> iterator() {
             return cycles.iterator();
         }
+
+        /**
+         * Combines the results of disjoint components in the same way as if all cycles had been found by one sequential search,
+         * i.e. ordered by their start node (the first node of each cycle) and limited to the maximum number of cycles to detect.
+         */
+        private static Result merge(List<Result> results, int maxNumberOfCyclesToDetect) {
+            Result result = new Result(maxNumberOfCyclesToDetect, Deadline.NONE);
+            results.stream()
+                    .flatMap(it -> it.cycles.stream())
+                    .sorted(comparingInt(cycle -> cycle[0]))
+                    .forEach(result::add);
+            result.maxNumberOfCyclesReached |= results.stream().anyMatch(Result::maxNumberOfCyclesReached);
+            result.maxDetectionTimeReached = results.stream().anyMatch(Result::maxDetectionTimeReached);
+            return result;
+        }
     }
 }
@@ -15,6 +15,9 @@
  */
 package com.tngtech.archunit.library.dependencies;
 
+import static java.util.Arrays.binarySearch;
+import static java.util.Arrays.stream;
+
 /**
  * An optimized graph stripped down to the bare minimum for cycle detection.
  * We represent nodes as integers from 0 ..< graph.size() and an edge as an array of two integers (node origin and node target).
@@ -36,4 +39,20 @@ class PrimitiveGraph {
     int[] getAdjacentNodesOf(int nodeIndex) {
         return edges[nodeIndex];
     }
+
+    /**
+     * @param sortedNodes node indexes sorted in ascending order
+     * @return the sub graph consisting of the given nodes and all edges between them, where node {@code i} of the sub graph
+     * corresponds to node {@code sortedNodes[i]} of this graph (thus the order of nodes and edges is preserved)
+     */
+    PrimitiveGraph inducedSubgraph(int[] sortedNodes) {
+        int[][] subgraphEdges = new int[sortedNodes.length][];
+        for (int i = 0; i < sortedNodes.length; i++) {
+            subgraphEdges[i] = stream(edges[sortedNodes[i]])
+                    .map(target -> binarySearch(sortedNodes, target))
+                    .filter(subgraphIndex -> subgraphIndex >= 0)
+                    .toArray();
+        }
+        return new PrimitiveGraph(subgraphEdges);
+    }
 }
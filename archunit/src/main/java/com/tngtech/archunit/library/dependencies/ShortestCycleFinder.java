@@ -0,0 +1,106 @@
+/*
+ * Copyright 2014-2023 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.library.dependencies;
+
+import java.util.Arrays;
+
+/**
+ * Finds a shortest cycle within a strongly connected component, which is considerably cheaper than finding all cycles
+ * via {@link JohnsonCycleFinder}, since the number of cycles can grow exponentially with the size of the component.
+ * <br><br>
+ * The idea is to do a breadth first search from every node of the component. The first edge we encounter leading back
+ * to the start node closes a shortest cycle through the start node. Once we have found a cycle of length {@code n},
+ * we never need to follow paths of length {@code n - 1} or longer anymore, so most searches terminate very early.
+ * If the {@link Deadline} is exceeded, the shortest cycle found so far is returned
+ * (at least one search is always completed, so the result is always a cycle).
+ */
+class ShortestCycleFinder {
+    private static final int UNVISITED = -1;
+
+    private final PrimitiveGraph component;
+    private final int[] distances;
+    private final int[] predecessors;
+    private final int[] queue;
+
+    /**
+     * @param stronglyConnectedComponent a graph consisting of a single strongly connected component with more than one node
+     */
+    ShortestCycleFinder(PrimitiveGraph stronglyConnectedComponent) {
+        this.component = stronglyConnectedComponent;
+        distances = new int[stronglyConnectedComponent.getSize()];
+        predecessors = new int[stronglyConnectedComponent.getSize()];
+        queue = new int[stronglyConnectedComponent.getSize()];
+    }
+
+    /**
+     * @return the nodes of a shortest cycle in the order of its edges
+     */
+    int[] findShortestCycle(Deadline deadline) {
+        int[] shortestCycle = null;
+        for (int startNode = 0; startNode < component.getSize(); startNode++) {
+            int maxLength = shortestCycle == null ? Integer.MAX_VALUE : shortestCycle.length - 1;
+            int[] cycle = findShortestCycleThrough(startNode, maxLength);
+            if (cycle != null) {
+                shortestCycle = cycle;
+            }
+            // there are no self-edges, so no cycle can be shorter than two nodes
+            if (shortestCycle != null && shortestCycle.length == 2 || deadline.isExceeded()) {
+                break;
+            }
+        }
+        return shortestCycle;
+    }
+
+    /**
+     * @return a shortest cycle through {@code startNode} that consists of at most {@code maxLength} nodes,
+     * or {@code null} if there is no such cycle
+     */
+    private int[] findShortestCycleThrough(int startNode, int maxLength) {
+        Arrays.fill(distances, UNVISITED);
+        distances[startNode] = 0;
+        int queueStart = 0;
+        int queueEnd = 0;
+        queue[queueEnd++] = startNode;
+        while (queueStart < queueEnd) {
+            int node = queue[queueStart++];
+            if (distances[node] + 1 > maxLength) {
+                return null;
+            }
+            for (int target : component.getAdjacentNodesOf(node)) {
+                if (target == startNode) {
+                    return pathTo(node, distances[node] + 1);
+                }
+                if (distances[target] == UNVISITED) {
+                    distances[target] = distances[node] + 1;
+                    predecessors[target] = node;
+                    queue[queueEnd++] = target;
+                }
+            }
+        }
+        return null;
+    }
+
+    private int[] pathTo(int lastNode, int length) {
+        int[] result = new int[length];
+        int node = lastNode;
+        for (int i = length - 1; i > 0; i--) {
+            result[i] = node;
+            node = predecessors[node];
+        }
+        result[0] = node;
+        return result;
+    }
+}
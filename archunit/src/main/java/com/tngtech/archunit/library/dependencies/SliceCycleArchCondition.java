@@ -41,11 +41,13 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import static com.google.common.collect.MultimapBuilder.hashKeys;
+import static com.tngtech.archunit.library.dependencies.CycleConfiguration.MAX_DETECTION_TIME_IN_MILLIS_PROPERTY_NAME;
 import static com.tngtech.archunit.library.dependencies.CycleConfiguration.MAX_NUMBER_OF_CYCLES_TO_DETECT_PROPERTY_NAME;
 import static com.tngtech.archunit.library.dependencies.CycleConfiguration.MAX_NUMBER_OF_DEPENDENCIES_TO_SHOW_PER_EDGE_PROPERTY_NAME;
 import static java.lang.System.lineSeparator;
 import static java.util.Comparator.comparing;
 import static java.util.stream.Collectors.toCollection;
+import static java.util.stream.Collectors.toList;
 
 class SliceCycleArchCondition extends ArchCondition<Slice> {
     private static final Logger log = LoggerFactory.getLogger(SliceCycleArchCondition.class);
@@ -79,17 +81,33 @@ class SliceCycleArchCondition extends ArchCondition<Slice> {
 
     @Override
     public void finish(ConditionEvents events) {
-        Graph.Cycles<Slice, Dependency> cycles = graph.findCycles();
+        CycleConfiguration configuration = new CycleConfiguration();
+        if (configuration.reportOnlyShortestCyclePerComponent()) {
+            for (Graph.Component<Slice, Dependency> component : graph.findShortestCyclePerComponent(configuration)) {
+                eventRecorder.record(component, events);
+            }
+        } else {
+            recordAllCycles(configuration, events);
+        }
+        releaseResources();
+    }
+
+    private void recordAllCycles(CycleConfiguration configuration, ConditionEvents events) {
+        Graph.Cycles<Slice, Dependency> cycles = graph.findCycles(configuration);
         if (cycles.maxNumberOfCyclesReached()) {
             events.setInformationAboutNumberOfViolations(String.format(
                     " >= %d times - the maximum number of cycles to detect has been reached; "
                             + "this limit can be adapted using the `archunit.properties` value `%s=xxx`",
                     cycles.size(), MAX_NUMBER_OF_CYCLES_TO_DETECT_PROPERTY_NAME));
+        } else if (cycles.maxDetectionTimeReached()) {
+            events.setInformationAboutNumberOfViolations(String.format(
+                    " >= %d times - the maximum time to detect cycles of %d ms has been exceeded; "
+                            + "this limit can be adapted using the `archunit.properties` value `%s=xxx`",
+                    cycles.size(), configuration.getMaxDetectionTimeInMillis(), MAX_DETECTION_TIME_IN_MILLIS_PROPERTY_NAME));
         }
         for (Cycle<Slice, Dependency> cycle : cycles) {
             eventRecorder.record(cycle, events);
         }
-        releaseResources();
     }
 
     private void releaseResources() {
@@ -180,16 +198,23 @@ class SliceCycleArchCondition extends ArchCondition<Slice> {
         }
 
         void record(Cycle<Slice, Dependency> cycle, ConditionEvents events) {
-            events.add(newEvent(cycle));
+            events.add(newEvent(cycle, ""));
+        }
+
+        void record(Graph.Component<Slice, Dependency> component, ConditionEvents events) {
+            List<String> sliceDescriptions = component.getNodes().stream().map(Slice::getDescription).sorted().collect(toList());
+            String componentDescription = String.format("  All %d slices depending on each other in cycles: %s",
+                    sliceDescriptions.size(), Joiner.on(", ").join(sliceDescriptions));
+            events.add(newEvent(component.getShortestCycle(), componentDescription + lineSeparator()));
         }
 
-        private ConditionEvent newEvent(Cycle<Slice, Dependency> cycle) {
+        private ConditionEvent newEvent(Cycle<Slice, Dependency> cycle, String detailsIntro) {
             Map<String, Edge<Slice, Dependency>> descriptionsToEdges = sortEdgesByDescription(cycle);
             String description = createDescription(descriptionsToEdges.keySet(), CYCLE_DETECTED_SECTION_INTRO.length());
             String details = createDetails(descriptionsToEdges);
             return new SimpleConditionEvent(cycle,
                     false,
-                    CYCLE_DETECTED_SECTION_INTRO + description + lineSeparator() + details);
+                    CYCLE_DETECTED_SECTION_INTRO + description + lineSeparator() + detailsIntro + details);
         }
 
         private Map<String, Edge<Slice, Dependency>> sortEdgesByDescription(Cycle<Slice, Dependency> cycle) {
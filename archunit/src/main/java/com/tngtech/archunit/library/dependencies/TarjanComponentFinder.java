@@ -16,6 +16,7 @@
 package com.tngtech.archunit.library.dependencies;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import com.google.common.primitives.Ints;
@@ -68,16 +69,40 @@ class TarjanComponentFinder {
         return nextComponent;
     }
 
+    /**
+     * Returns all strongly connected components of the graph consisting of more than one node, ordered by their lowest node index.<br>
+     * Note that the returned arrays of node indexes are guaranteed to be sorted in ascending order.
+     */
+    List<int[]> findAllNonTrivialStronglyConnectedComponents() {
+        List<int[]> result = new ArrayList<>();
+        for (int j = 0; j < graph.getSize(); j++) {
+            if (graph.isVisitationIndexUnset(j)) {
+                result.addAll(findNonTrivialStronglyConnectedComponents(j, 0));
+            }
+        }
+        reset();
+        result.forEach(Arrays::sort);
+        result.sort(comparing(component -> component[0]));
+        return result;
+    }
+
     private int[] findNonTrivialLowestStronglyConnectedComponentInSubGraphInducedByLowerBound(int lowerIndexBound) {
+        List<int[]> components = new ArrayList<>();
         for (int j = lowerIndexBound; j < graph.getSize(); j++) {
+            // all nodes lower than j have been visited, so once we have found a component containing such a node,
+            // no component we could still find can contain a lower node
+            if (!components.isEmpty() && lowestNodeOf(components) < j) {
+                break;
+            }
             if (graph.isVisitationIndexUnset(j)) {
-                List<int[]> components = findNonTrivialStronglyConnectedComponents(j, lowerIndexBound);
-                if (!components.isEmpty()) {
-                    return findComponentWithLowestNode(components);
-                }
+                components.addAll(findNonTrivialStronglyConnectedComponents(j, lowerIndexBound));
             }
         }
-        return NO_COMPONENT_FOUND;
+        return components.isEmpty() ? NO_COMPONENT_FOUND : findComponentWithLowestNode(components);
+    }
+
+    private static int lowestNodeOf(List<int[]> components) {
+        return components.stream().mapToInt(Ints::min).min().getAsInt();
     }
 
     private List<int[]> findNonTrivialStronglyConnectedComponents(int nodeToVisit, int lowerIndexBound) {
@@ -0,0 +1,506 @@
+/*
+ * Copyright 2014-2023 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.library.freeze;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.ref.SoftReference;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import com.tngtech.archunit.PublicAPI;
+import com.tngtech.archunit.lang.ArchRule;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkState;
+import static com.tngtech.archunit.PublicAPI.State.EXPERIMENTAL;
+import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
+import static com.tngtech.archunit.library.freeze.FreezingArchRule.ensureUnixLineBreaks;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * A {@link ViolationStore} that keeps the violations of all rules within one binary file, which is considerably faster to read
+ * and update than the many text files of {@link TextFileBasedViolationStore}, if there are many rules or rules with many violations.
+ * To use it, configure
+ * <pre><code>
+ * freeze.store=com.tngtech.archunit.library.freeze.BinaryViolationStore
+ * </code></pre>
+ * The layout within the configured store folder will look like:
+ * <pre><code>
+ * storeFolder
+ *   |-- stored.violations (the violations of all stored rules)
+ *   |-- stored.violations.lock (used to synchronize concurrent access by several JVMs)
+ * </code></pre>
+ * Every distinct violation (and rule description) is stored only once, rules reference their violations by index.
+ * Saving the violations of a rule only appends the new violations and the new index table of this rule to the file
+ * (and does not touch the file at all, if the violations are unchanged). Once the outdated parts of the file take up more space
+ * than the current ones, the file is rewritten with only the current violations.
+ * <br><br>
+ * The store file is only accessed while holding a lock on {@code stored.violations.lock}, so several JVMs (e.g. forked test JVMs)
+ * can safely use the same store concurrently.
+ * <br><br>
+ * This {@link ViolationStore} can be configured through the same properties as {@link TextFileBasedViolationStore}:
+ * <pre><code>
+ * default.path=...               # string: the path of the folder where the store file will be created
+ * default.allowStoreCreation=... # boolean: whether to allow creating a new store file
+ * default.allowStoreUpdate=...   # boolean: whether to allow updating the store file
+ * </code></pre>
+ */
+@PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+public final class BinaryViolationStore implements ViolationStore {
+    private static final Logger log = LoggerFactory.getLogger(BinaryViolationStore.class);
+
+    private static final String STORE_FILE_NAME = "stored.violations";
+    private static final String LOCK_FILE_SUFFIX = ".lock";
+
+    private boolean storeCreationAllowed;
+    private boolean storeUpdateAllowed;
+    private StoreFile storeFile;
+
+    @Override
+    public void initialize(Properties properties) {
+        storeCreationAllowed = Boolean.parseBoolean(properties.getProperty(
+                TextFileBasedViolationStore.ALLOW_STORE_CREATION_PROPERTY_NAME, TextFileBasedViolationStore.ALLOW_STORE_CREATION_DEFAULT));
+        storeUpdateAllowed = Boolean.parseBoolean(properties.getProperty(
+                TextFileBasedViolationStore.ALLOW_STORE_UPDATE_PROPERTY_NAME, TextFileBasedViolationStore.ALLOW_STORE_UPDATE_DEFAULT));
+        File storeFolder = new File(properties.getProperty(TextFileBasedViolationStore.STORE_PATH_PROPERTY_NAME, TextFileBasedViolationStore.STORE_PATH_DEFAULT));
+        checkState(storeFolder.exists() && storeFolder.isDirectory() || storeFolder.mkdirs(), "Cannot create folder %s", storeFolder.getAbsolutePath());
+
+        Path file = new File(storeFolder, STORE_FILE_NAME).toPath().toAbsolutePath().normalize();
+        log.trace("Initializing {} at {}", BinaryViolationStore.class.getSimpleName(), file);
+        if (!Files.exists(file) && !storeCreationAllowed) {
+            throw new StoreInitializationFailedException(String.format(
+                    "Creating new violation store is disabled (enable by configuration %s.%s=true)",
+                    ViolationStoreFactory.FREEZE_STORE_PROPERTY_NAME, TextFileBasedViolationStore.ALLOW_STORE_CREATION_PROPERTY_NAME));
+        }
+        storeFile = StoreFile.of(file);
+        try {
+            storeFile.initialize();
+        } catch (IOException e) {
+            throw new StoreInitializationFailedException(String.format("Cannot create rule store at %s", file), e);
+        }
+    }
+
+    @Override
+    public boolean contains(ArchRule rule) {
+        return readViolations(rule) != null;
+    }
+
+    @Override
+    public void save(ArchRule rule, List<String> violations) {
+        log.trace("Storing evaluated rule '{}' with {} violations: {}", rule.getDescription(), violations.size(), violations);
+        if (!storeUpdateAllowed) {
+            throw new StoreUpdateFailedException(String.format(
+                    "Updating frozen violations is disabled (enable by configuration %s.%s=true)",
+                    ViolationStoreFactory.FREEZE_STORE_PROPERTY_NAME, TextFileBasedViolationStore.ALLOW_STORE_UPDATE_PROPERTY_NAME));
+        }
+        try {
+            storeFile.save(ensureUnixLineBreaks(rule.getDescription()), violations);
+        } catch (IOException e) {
+            throw new StoreUpdateFailedException(e);
+        }
+    }
+
+    @Override
+    public List<String> getViolations(ArchRule rule) {
+        List<String> result = readViolations(rule);
+        checkArgument(result != null, "No rule stored with description '%s'", rule.getDescription());
+        log.trace("Retrieved stored rule '{}' with {} violations: {}", rule.getDescription(), result.size(), result);
+        return result;
+    }
+
+    private List<String> readViolations(ArchRule rule) {
+        try {
+            return storeFile.getViolations(ensureUnixLineBreaks(rule.getDescription()));
+        } catch (IOException e) {
+            throw new StoreReadException(e);
+        }
+    }
+
+    /**
+     * The store file consists of a header and a sequence of records, which are only ever appended:
+     * <pre><code>
+     * header:      int magic number | int format version | long generation
+     * string:      byte 1 | int length | UTF-8 bytes                                (the n-th string record has id n)
+     * rule:        byte 2 | int id of description | int number of violations | int id of each violation
+     * </code></pre>
+     * The last rule record with a certain description determines the violations of this rule.
+     * Whenever the file is rewritten to remove outdated records, it gets a new generation, so other JVMs
+     * know that they have to read the file from the start again instead of just reading the appended records.
+     * Incomplete records at the end of the file (e.g. because a JVM was killed while appending) are ignored and overwritten.
+     */
+    private static class StoreFile {
+        private static final int MAGIC_NUMBER = 0x41525653;
+        private static final int FORMAT_VERSION = 1;
+        private static final int HEADER_SIZE = 16;
+        private static final byte STRING_RECORD = 1;
+        private static final byte RULE_RECORD = 2;
+        private static final long MIN_SIZE_TO_COMPACT = 1 << 20;
+
+        // all stores of the same JVM share the content read so far (FreezingArchRule creates a store per rule)
+        private static final Map<Path, StoreFile> storeFiles = new ConcurrentHashMap<>();
+        // FileLocks are held by the whole JVM, so all StoreFiles of the same JVM using the same lock file
+        // synchronize on the same interned path
+        private static final Interner<Path> lockFiles = Interners.newWeakInterner();
+
+        private final Path file;
+        private final Path lockFile;
+        // the content can be read from the file again at any time, so the garbage collector may drop it if memory gets scarce
+        private SoftReference<Content> content = new SoftReference<>(null);
+
+        private StoreFile(Path file) {
+            this.file = file;
+            this.lockFile = lockFiles.intern(file.resolveSibling(file.getFileName() + LOCK_FILE_SUFFIX));
+        }
+
+        static StoreFile of(Path file) {
+            return storeFiles.computeIfAbsent(file, StoreFile::new);
+        }
+
+        void initialize() throws IOException {
+            locked(channel -> {
+                if (channel.size() < HEADER_SIZE) {
+                    channel.truncate(0);
+                    writeFully(channel, header(ThreadLocalRandom.current().nextLong()));
+                }
+                refresh(channel);
+                return null;
+            });
+        }
+
+        List<String> getViolations(String ruleDescription) throws IOException {
+            return locked(channel -> refresh(channel).getViolations(ruleDescription));
+        }
+
+        void save(String ruleDescription, List<String> violations) throws IOException {
+            boolean compactionNecessary = locked(channel -> {
+                Content current = refresh(channel);
+                try {
+                    appendRuleIfChanged(channel, current, ruleDescription, violations);
+                } catch (IOException | RuntimeException e) {
+                    // the content in memory might not match the file anymore, so read everything again next time
+                    content.clear();
+                    throw e;
+                }
+                return current.validLength > MIN_SIZE_TO_COMPACT && current.outdatedLength > current.validLength / 2;
+            });
+            if (compactionNecessary) {
+                compact();
+            }
+        }
+
+        private void appendRuleIfChanged(FileChannel channel, Content current, String ruleDescription, List<String> violations) throws IOException {
+            RecordWriter writer = new RecordWriter();
+            int descriptionId = current.idOf(ruleDescription, writer);
+            int[] violationIds = new int[violations.size()];
+            for (int i = 0; i < violationIds.length; i++) {
+                violationIds[i] = current.idOf(ensureUnixLineBreaks(violations.get(i)), writer);
+            }
+            int[] previousViolationIds = current.violationIdsByRule.get(ruleDescription);
+            if (Arrays.equals(previousViolationIds, violationIds)) {
+                log.trace("Violations of rule '{}' are unchanged", ruleDescription);
+                return;
+            }
+
+            writer.writeRule(descriptionId, violationIds);
+            // drop incomplete records another JVM might have left behind
+            channel.truncate(current.validLength);
+            ByteBuffer records = writer.toByteBuffer();
+            while (records.hasRemaining()) {
+                channel.write(records, current.validLength + records.position());
+            }
+            current.validLength += records.limit();
+            current.putRule(ruleDescription, violationIds);
+        }
+
+        /**
+         * @return the content of the store file, after reading all records that have not been read so far
+         */
+        private Content refresh(FileChannel channel) throws IOException {
+            Content result = content.get();
+            if (result == null) {
+                result = new Content();
+                content = new SoftReference<>(result);
+            }
+
+            long size = channel.size();
+            ByteBuffer header = readFully(channel, 0, HEADER_SIZE);
+            if (header.getInt() != MAGIC_NUMBER || header.getInt() != FORMAT_VERSION) {
+                throw new IOException(String.format("%s is no violation store file of format version %d", file, FORMAT_VERSION));
+            }
+            long currentGeneration = header.getLong();
+            if (currentGeneration != result.generation || size < result.validLength) {
+                result.reset(currentGeneration);
+            }
+            if (size > result.validLength) {
+                result.readRecords(readFully(channel, result.validLength, (int) (size - result.validLength)));
+            }
+            return result;
+        }
+
+        private void compact() throws IOException {
+            locked(channel -> {
+                Content current = refresh(channel);
+                log.trace("Compacting {} ({} of {} bytes are outdated)", file, current.outdatedLength, current.validLength);
+                Path tempFile = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+                try {
+                    try (FileChannel out = FileChannel.open(tempFile, WRITE)) {
+                        writeFully(out, header(current.generation + 1));
+                        writeFully(out, current.currentRecords().toByteBuffer());
+                    }
+                    return tempFile;
+                } catch (IOException | RuntimeException e) {
+                    Files.deleteIfExists(tempFile);
+                    throw e;
+                }
+            }, this::replaceFileWith);
+        }
+
+        private void replaceFileWith(Path tempFile) throws IOException {
+            try {
+                try {
+                    Files.move(tempFile, file, REPLACE_EXISTING, ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(tempFile, file, REPLACE_EXISTING);
+                }
+            } finally {
+                Files.deleteIfExists(tempFile);
+            }
+        }
+
+        private <T> T locked(ChannelAction<T> action) throws IOException {
+            return locked(action, __ -> {
+            });
+        }
+
+        /**
+         * Executes the action on the opened store file while holding the lock, followed by the post-processing
+         * after the store file has been closed again (some platforms do not allow to replace an open file).
+         */
+        private <T> T locked(ChannelAction<T> action, PostProcessing<T> afterClose) throws IOException {
+            // FileLocks are held by the whole JVM, so threads of the same JVM must additionally be synchronized
+            synchronized (lockFile) {
+                try (FileChannel lockChannel = FileChannel.open(lockFile, CREATE, WRITE)) {
+                    FileLock lock = lockChannel.lock();
+                    try {
+                        T result;
+                        try (FileChannel channel = FileChannel.open(file, CREATE, READ, WRITE)) {
+                            result = action.execute(channel);
+                        }
+                        afterClose.execute(result);
+                        return result;
+                    } finally {
+                        lock.release();
+                    }
+                }
+            }
+        }
+
+        private static ByteBuffer header(long generation) {
+            ByteBuffer result = ByteBuffer.allocate(HEADER_SIZE).putInt(MAGIC_NUMBER).putInt(FORMAT_VERSION).putLong(generation);
+            result.flip();
+            return result;
+        }
+
+        private static ByteBuffer readFully(FileChannel channel, long position, int length) throws IOException {
+            ByteBuffer result = ByteBuffer.allocate(length);
+            while (result.hasRemaining()) {
+                if (channel.read(result, position + result.position()) < 0) {
+                    throw new IOException("Unexpected end of file");
+                }
+            }
+            result.flip();
+            return result;
+        }
+
+        private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+
+        private static int ruleRecordLength(int[] violationIds) {
+            return 9 + 4 * violationIds.length;
+        }
+    }
+
+    /**
+     * The records of the store file read so far, i.e. all strings and the current violations of each rule.
+     */
+    private static class Content {
+        private long generation;
+        private long validLength = StoreFile.HEADER_SIZE;
+        private long outdatedLength;
+        private final List<String> strings = new ArrayList<>();
+        private final Map<String, Integer> stringIds = new HashMap<>();
+        private final Map<String, int[]> violationIdsByRule = new HashMap<>();
+
+        List<String> getViolations(String ruleDescription) {
+            int[] violationIds = violationIdsByRule.get(ruleDescription);
+            return violationIds != null ? Arrays.stream(violationIds).mapToObj(strings::get).collect(toList()) : null;
+        }
+
+        void putRule(String ruleDescription, int[] violationIds) {
+            int[] previousViolationIds = violationIdsByRule.put(ruleDescription, violationIds);
+            if (previousViolationIds != null) {
+                outdatedLength += StoreFile.ruleRecordLength(previousViolationIds);
+            }
+        }
+
+        int idOf(String string, RecordWriter writer) {
+            Integer id = stringIds.get(string);
+            if (id == null) {
+                id = addString(string);
+                writer.writeString(string);
+            }
+            return id;
+        }
+
+        private int addString(String string) {
+            int id = strings.size();
+            strings.add(string);
+            stringIds.put(string, id);
+            return id;
+        }
+
+        void reset(long newGeneration) {
+            generation = newGeneration;
+            validLength = StoreFile.HEADER_SIZE;
+            outdatedLength = 0;
+            strings.clear();
+            stringIds.clear();
+            violationIdsByRule.clear();
+        }
+
+        void readRecords(ByteBuffer records) {
+            while (records.remaining() > 0) {
+                int start = records.position();
+                if (!readRecord(records)) {
+                    records.position(start);
+                    break;
+                }
+            }
+            validLength += records.position();
+        }
+
+        private boolean readRecord(ByteBuffer records) {
+            byte type = records.get();
+            if (type == StoreFile.STRING_RECORD && records.remaining() >= 4) {
+                int length = records.getInt();
+                if (records.remaining() < length) {
+                    return false;
+                }
+                byte[] bytes = new byte[length];
+                records.get(bytes);
+                addString(new String(bytes, UTF_8));
+                return true;
+            }
+            if (type == StoreFile.RULE_RECORD && records.remaining() >= 8) {
+                String ruleDescription = strings.get(records.getInt());
+                int numberOfViolations = records.getInt();
+                if (records.remaining() < 4L * numberOfViolations) {
+                    return false;
+                }
+                int[] violationIds = new int[numberOfViolations];
+                records.asIntBuffer().get(violationIds);
+                records.position(records.position() + 4 * numberOfViolations);
+                putRule(ruleDescription, violationIds);
+                return true;
+            }
+            return false;
+        }
+
+        RecordWriter currentRecords() {
+            RecordWriter writer = new RecordWriter();
+            Map<Integer, Integer> newIds = new HashMap<>();
+            violationIdsByRule.forEach((ruleDescription, violationIds) -> {
+                int descriptionId = newId(stringIds.get(ruleDescription), newIds, writer);
+                int[] newViolationIds = Arrays.stream(violationIds).map(id -> newId(id, newIds, writer)).toArray();
+                writer.writeRule(descriptionId, newViolationIds);
+            });
+            return writer;
+        }
+
+        private int newId(int oldId, Map<Integer, Integer> newIds, RecordWriter writer) {
+            return newIds.computeIfAbsent(oldId, __ -> {
+                writer.writeString(strings.get(oldId));
+                return newIds.size();
+            });
+        }
+    }
+
+    private static class RecordWriter {
+        private ByteBuffer buffer = ByteBuffer.allocate(1024);
+
+        void writeString(String string) {
+            byte[] bytes = string.getBytes(UTF_8);
+            ensureCapacity(5 + bytes.length).put(StoreFile.STRING_RECORD).putInt(bytes.length).put(bytes);
+        }
+
+        void writeRule(int descriptionId, int[] violationIds) {
+            ensureCapacity(StoreFile.ruleRecordLength(violationIds)).put(StoreFile.RULE_RECORD).putInt(descriptionId).putInt(violationIds.length);
+            buffer.asIntBuffer().put(violationIds);
+            buffer.position(buffer.position() + 4 * violationIds.length);
+        }
+
+        private ByteBuffer ensureCapacity(int additionalBytes) {
+            if (buffer.remaining() < additionalBytes) {
+                ByteBuffer newBuffer = ByteBuffer.allocate(Math.max(2 * buffer.capacity(), buffer.position() + additionalBytes));
+                buffer.flip();
+                buffer = newBuffer.put(buffer);
+            }
+            return buffer;
+        }
+
+        ByteBuffer toByteBuffer() {
+            ByteBuffer result = buffer.duplicate();
+            result.flip();
+            return result;
+        }
+    }
+
+    @FunctionalInterface
+    private interface ChannelAction<T> {
+        T execute(FileChannel channel) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface PostProcessing<T> {
+        void execute(T result) throws IOException;
+    }
+}
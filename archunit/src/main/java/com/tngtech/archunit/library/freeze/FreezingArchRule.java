@@ -16,9 +16,13 @@
 package com.tngtech.archunit.library.freeze;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
 import java.util.function.Predicate;
@@ -29,6 +33,7 @@ import com.tngtech.archunit.core.domain.JavaClasses;
 import com.tngtech.archunit.lang.ArchRule;
 import com.tngtech.archunit.lang.EvaluationResult;
 import com.tngtech.archunit.lang.Priority;
+import com.tngtech.archunit.lang.StreamingEvaluation;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -118,6 +123,11 @@ public final class FreezingArchRule implements ArchRule {
     @Override
     @PublicAPI(usage = ACCESS)
     public EvaluationResult evaluate(JavaClasses classes) {
+        // known violations can only be filtered out, once all violations of the delegate are known
+        return StreamingEvaluation.evaluateMaterialized(() -> evaluateAndFilterKnownViolations(classes));
+    }
+
+    private EvaluationResult evaluateAndFilterKnownViolations(JavaClasses classes) {
         store.initialize(ArchConfiguration.get().getSubProperties(FREEZE_STORE_PROPERTY_NAME));
 
         EvaluationResultLineBreakAdapter result = new EvaluationResultLineBreakAdapter(delegate.evaluate(classes));
@@ -212,7 +222,7 @@ public final class FreezingArchRule implements ArchRule {
     }
 
     static String ensureUnixLineBreaks(String string) {
-        return string.replaceAll("\r\n", "\n");
+        return string.indexOf('\r') >= 0 ? string.replace("\r\n", "\n") : string;
     }
 
     private static List<String> ensureUnixLineBreaks(List<String> strings) {
@@ -225,20 +235,60 @@ public final class FreezingArchRule implements ArchRule {
         private final List<String> storedUnsolvedViolations = new ArrayList<>();
 
         CategorizedViolations(ViolationLineMatcher matcher, EvaluationResultLineBreakAdapter actualResult, List<String> storedViolations) {
-            List<String> storedViolationsLeft = new ArrayList<>(storedViolations);
-            for (String actualViolation : actualResult.getViolations()) {
-                for (Iterator<String> iterator = storedViolationsLeft.iterator(); iterator.hasNext(); ) {
-                    String storedViolation = iterator.next();
-                    if (matcher.matches(actualViolation, storedViolation)) {
-                        iterator.remove();
-                        knownActualViolations.add(actualViolation);
-                        storedUnsolvedViolations.add(storedViolation);
-                        break;
+            List<String> actualViolations = actualResult.getViolations();
+            Optional<List<String>> actualKeys = keysOf(matcher, actualViolations);
+            Optional<Map<String, List<String>>> storedViolationsByKey = keysOf(matcher, storedViolations).map(keys -> groupByKey(storedViolations, keys));
+            if (actualKeys.isPresent() && storedViolationsByKey.isPresent()) {
+                // only violations with equal keys can match, so it suffices to compare each actual violation to the stored ones with the same key
+                for (int i = 0; i < actualViolations.size(); i++) {
+                    List<String> storedViolationsLeft = storedViolationsByKey.get().get(actualKeys.get().get(i));
+                    if (storedViolationsLeft != null) {
+                        matchFirst(matcher, actualViolations.get(i), storedViolationsLeft);
                     }
                 }
+            } else {
+                List<String> storedViolationsLeft = new LinkedList<>(storedViolations);
+                for (String actualViolation : actualViolations) {
+                    matchFirst(matcher, actualViolation, storedViolationsLeft);
+                }
             }
             storedSolvedViolations = new ArrayList<>(storedViolations);
-            storedSolvedViolations.removeAll(storedUnsolvedViolations);
+            storedSolvedViolations.removeAll(new HashSet<>(storedUnsolvedViolations));
+        }
+
+        /**
+         * @return the key of each violation, or {@link Optional#empty()}, if the matcher does not provide a key for every violation
+         */
+        private static Optional<List<String>> keysOf(ViolationLineMatcher matcher, List<String> violations) {
+            List<String> result = new ArrayList<>(violations.size());
+            for (String violation : violations) {
+                Optional<String> key = matcher.getKey(violation);
+                if (!key.isPresent()) {
+                    return Optional.empty();
+                }
+                result.add(key.get());
+            }
+            return Optional.of(result);
+        }
+
+        private static Map<String, List<String>> groupByKey(List<String> violations, List<String> keys) {
+            Map<String, List<String>> result = new HashMap<>();
+            for (int i = 0; i < violations.size(); i++) {
+                result.computeIfAbsent(keys.get(i), __ -> new LinkedList<>()).add(violations.get(i));
+            }
+            return result;
+        }
+
+        private void matchFirst(ViolationLineMatcher matcher, String actualViolation, List<String> storedViolationsLeft) {
+            for (Iterator<String> iterator = storedViolationsLeft.iterator(); iterator.hasNext(); ) {
+                String storedViolation = iterator.next();
+                if (matcher.matches(actualViolation, storedViolation)) {
+                    iterator.remove();
+                    knownActualViolations.add(actualViolation);
+                    storedUnsolvedViolations.add(storedViolation);
+                    return;
+                }
+            }
         }
 
         Set<String> getKnownActualViolations() {
@@ -66,13 +66,13 @@ public final class TextFileBasedViolationStore implements ViolationStore {
     private static final Logger log = LoggerFactory.getLogger(TextFileBasedViolationStore.class);
 
     private static final Pattern UNESCAPED_LINE_BREAK_PATTERN = Pattern.compile("(?<!\\\\)\n");
-    private static final String STORE_PATH_PROPERTY_NAME = "default.path";
-    private static final String STORE_PATH_DEFAULT = "archunit_store";
+    static final String STORE_PATH_PROPERTY_NAME = "default.path";
+    static final String STORE_PATH_DEFAULT = "archunit_store";
     private static final String STORED_RULES_FILE_NAME = "stored.rules";
-    private static final String ALLOW_STORE_CREATION_PROPERTY_NAME = "default.allowStoreCreation";
-    private static final String ALLOW_STORE_CREATION_DEFAULT = "false";
-    private static final String ALLOW_STORE_UPDATE_PROPERTY_NAME = "default.allowStoreUpdate";
-    private static final String ALLOW_STORE_UPDATE_DEFAULT = "true";
+    static final String ALLOW_STORE_CREATION_PROPERTY_NAME = "default.allowStoreCreation";
+    static final String ALLOW_STORE_CREATION_DEFAULT = "false";
+    static final String ALLOW_STORE_UPDATE_PROPERTY_NAME = "default.allowStoreUpdate";
+    static final String ALLOW_STORE_UPDATE_DEFAULT = "true";
 
     private final RuleViolationFileNameStrategy ruleViolationFileNameStrategy;
 
@@ -212,10 +212,13 @@ public final class TextFileBasedViolationStore implements ViolationStore {
     private static class FileSyncedProperties {
         private final File propertiesFile;
         private final Properties loadedProperties;
+        private long lastModifiedWhenSynced;
+        private long lengthWhenSynced;
 
         FileSyncedProperties(File file) {
             propertiesFile = initializePropertiesFile(file);
             loadedProperties = initializationSuccessful() ? loadRulesFrom(propertiesFile) : null;
+            rememberFileState();
         }
 
         boolean initializationSuccessful() {
@@ -251,8 +254,27 @@ public final class TextFileBasedViolationStore implements ViolationStore {
         }
 
         void setProperty(String propertyName, String value) {
-            loadedProperties.setProperty(ensureUnixLineBreaks(propertyName), ensureUnixLineBreaks(value));
-            syncFileSystem();
+            // several stores backed by the same file might add rules concurrently (e.g. if tests are executed in parallel),
+            // so we must not overwrite rules that have been added to the file since we have loaded it
+            synchronized (FileSyncedProperties.class) {
+                if (fileChangedSinceSynced()) {
+                    loadedProperties.putAll(loadRulesFrom(propertiesFile));
+                }
+                loadedProperties.setProperty(ensureUnixLineBreaks(propertyName), ensureUnixLineBreaks(value));
+                syncFileSystem();
+                rememberFileState();
+            }
+        }
+
+        private boolean fileChangedSinceSynced() {
+            return propertiesFile.lastModified() != lastModifiedWhenSynced || propertiesFile.length() != lengthWhenSynced;
+        }
+
+        private void rememberFileState() {
+            if (initializationSuccessful()) {
+                lastModifiedWhenSynced = propertiesFile.lastModified();
+                lengthWhenSynced = propertiesFile.length();
+            }
         }
 
         private void syncFileSystem() {
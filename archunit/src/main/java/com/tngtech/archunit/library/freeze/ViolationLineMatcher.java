@@ -15,9 +15,12 @@
  */
 package com.tngtech.archunit.library.freeze;
 
+import java.util.Optional;
+
 import com.tngtech.archunit.PublicAPI;
 import com.tngtech.archunit.lang.ArchRule;
 
+import static com.tngtech.archunit.PublicAPI.State.EXPERIMENTAL;
 import static com.tngtech.archunit.PublicAPI.Usage.INHERITANCE;
 
 /**
@@ -32,4 +35,20 @@ public interface ViolationLineMatcher {
      * @return true, if and only if those two lines should be considered equivalent
      */
     boolean matches(String lineFromFirstViolation, String lineFromSecondViolation);
+
+    /**
+     * Optionally provides a key for a line of a violation, which allows {@link FreezingArchRule} to only compare lines with equal keys
+     * via {@link #matches(String, String)}, instead of comparing every actual violation to every stored violation.
+     * Thus, whenever {@link #matches(String, String)} considers two lines equivalent, both lines must have equal keys.
+     * E.g. a matcher ignoring line numbers could return the line with all line numbers removed.
+     * <br><br>
+     * By default no key is provided, in which case all lines will be compared pairwise.
+     *
+     * @param line A line from the description of a violation of an {@link ArchRule}
+     * @return A key that is equal for all lines this matcher considers equivalent, or {@link Optional#empty()} if this matcher provides no keys
+     */
+    @PublicAPI(usage = INHERITANCE, state = EXPERIMENTAL)
+    default Optional<String> getKey(String line) {
+        return Optional.empty();
+    }
 }
@@ -15,6 +15,8 @@
  */
 package com.tngtech.archunit.library.freeze;
 
+import java.util.Optional;
+
 import com.tngtech.archunit.ArchConfiguration;
 import com.tngtech.archunit.base.MayResolveTypesViaReflection;
 
@@ -64,6 +66,20 @@ class ViolationLineMatcherFactory {
             return !relevantPart1.hasNext() && !relevantPart2.hasNext();
         }
 
+        /**
+         * The relevant parts always end with ':' or '$' (except for the last one), so their concatenation is equal
+         * if and only if all relevant parts are equal.
+         */
+        @Override
+        public Optional<String> getKey(String line) {
+            StringBuilder key = new StringBuilder(line.length());
+            RelevantPartIterator relevantPart = new RelevantPartIterator(line);
+            while (relevantPart.hasNext()) {
+                key.append(relevantPart.next());
+            }
+            return Optional.of(key.toString());
+        }
+
         static class RelevantPartIterator {
             private final String str;
             private final int length;
@@ -16,7 +16,9 @@
 package com.tngtech.archunit.library.plantuml.rules;
 
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.google.common.collect.ImmutableSet;
 import com.tngtech.archunit.core.domain.JavaClass;
@@ -26,6 +28,8 @@ import static com.google.common.collect.Iterables.getOnlyElement;
 
 class JavaClassDiagramAssociation {
     private final Set<AssociatedComponent> components;
+    // there are far fewer packages than classes, so we only match each package once against all components
+    private final Map<String, Set<PlantUmlComponent>> componentsByPackageName = new ConcurrentHashMap<>();
 
     JavaClassDiagramAssociation(PlantUmlDiagram diagram) {
         ImmutableSet.Builder<AssociatedComponent> components = ImmutableSet.builder();
@@ -49,8 +53,12 @@ class JavaClassDiagramAssociation {
     }
 
     Set<String> getTargetPackageIdentifiers(JavaClass javaClass) {
+        return getTargetPackageIdentifiers(getComponentOf(javaClass));
+    }
+
+    Set<String> getTargetPackageIdentifiers(PlantUmlComponent component) {
         ImmutableSet.Builder<String> result = ImmutableSet.builder();
-        for (PlantUmlComponent target : getComponentOf(javaClass).getDependencies()) {
+        for (PlantUmlComponent target : component.getDependencies()) {
             result.addAll(getPackageIdentifiersFromComponentOf(target));
         }
         return result.build();
@@ -60,7 +68,7 @@ class JavaClassDiagramAssociation {
         return getPackageIdentifiersFromComponentOf(getComponentOf(javaClass));
     }
 
-    private Set<String> getPackageIdentifiersFromComponentOf(PlantUmlComponent component) {
+    Set<String> getPackageIdentifiersFromComponentOf(PlantUmlComponent component) {
         ImmutableSet.Builder<String> result = ImmutableSet.builder();
         for (Stereotype stereotype : component.getStereotypes()) {
             result.add(stereotype.asString());
@@ -68,7 +76,7 @@ class JavaClassDiagramAssociation {
         return result.build();
     }
 
-    private PlantUmlComponent getComponentOf(JavaClass javaClass) {
+    PlantUmlComponent getComponentOf(JavaClass javaClass) {
         return getOnlyElement(getAssociatedComponents(javaClass));
     }
 
@@ -77,9 +85,13 @@ class JavaClassDiagramAssociation {
     }
 
     Set<PlantUmlComponent> getAssociatedComponents(JavaClass javaClass) {
+        return componentsByPackageName.computeIfAbsent(javaClass.getPackageName(), this::findAssociatedComponents);
+    }
+
+    private Set<PlantUmlComponent> findAssociatedComponents(String packageName) {
         ImmutableSet.Builder<PlantUmlComponent> result = ImmutableSet.builder();
         for (AssociatedComponent component : components) {
-            if (component.contains(javaClass)) {
+            if (component.contains(packageName)) {
                 result.add(component.asPlantUmlComponent());
             }
         }
@@ -99,8 +111,8 @@ class JavaClassDiagramAssociation {
             this.packageMatchers = packageMatchers.build();
         }
 
-        private boolean contains(JavaClass javaClass) {
-            return packageMatchers.stream().anyMatch(packageMatcher -> packageMatcher.matches(javaClass.getPackageName()));
+        private boolean contains(String packageName) {
+            return packageMatchers.stream().anyMatch(packageMatcher -> packageMatcher.matches(packageName));
         }
 
         PlantUmlComponent asPlantUmlComponent() {
@@ -21,10 +21,13 @@ import java.net.URL;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 import com.google.common.collect.FluentIterable;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Sets;
 import com.tngtech.archunit.PublicAPI;
 import com.tngtech.archunit.base.DescribedPredicate;
@@ -38,12 +41,14 @@ import com.tngtech.archunit.lang.ConditionEvents;
 
 import static com.google.common.base.Preconditions.checkState;
 import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
+import static com.tngtech.archunit.base.DescribedPredicate.describe;
 import static com.tngtech.archunit.core.domain.Dependency.Functions.GET_ORIGIN_CLASS;
 import static com.tngtech.archunit.core.domain.Dependency.Functions.GET_TARGET_CLASS;
+import static com.tngtech.archunit.core.domain.Dependency.Predicates.dependencyTarget;
 import static com.tngtech.archunit.core.domain.Formatters.joinSingleQuoted;
 import static com.tngtech.archunit.core.domain.properties.HasName.Predicates.name;
 import static com.tngtech.archunit.lang.SimpleConditionEvent.violated;
-import static com.tngtech.archunit.lang.conditions.ArchConditions.onlyHaveDependenciesInAnyPackage;
+import static com.tngtech.archunit.lang.conditions.ArchConditions.onlyHaveDependenciesWhere;
 import static java.util.Collections.singleton;
 import static java.util.stream.Collectors.joining;
 
@@ -95,6 +100,7 @@ import static java.util.stream.Collectors.joining;
 public final class PlantUmlArchCondition extends ArchCondition<JavaClass> {
     private final DescribedPredicate<Dependency> ignorePredicate;
     private final JavaClassDiagramAssociation javaClassDiagramAssociation;
+    private final Map<PlantUmlComponent, ArchCondition<JavaClass>> dependencyConditionsByComponent = new ConcurrentHashMap<>();
 
     private PlantUmlArchCondition(
             String description,
@@ -161,6 +167,16 @@ public final class PlantUmlArchCondition extends ArchCondition<JavaClass> {
                 javaClassDiagramAssociation);
     }
 
+    @Override
+    public boolean supportsParallelEvaluation() {
+        return true;
+    }
+
+    @Override
+    public boolean isStateless() {
+        return true;
+    }
+
     @Override
     public void check(JavaClass javaClass, ConditionEvents events) {
         if (allDependenciesAreIgnored(javaClass)) {
@@ -191,15 +207,28 @@ public final class PlantUmlArchCondition extends ArchCondition<JavaClass> {
     }
 
     private void checkDependencies(JavaClass javaClass, ConditionEvents events) {
-        String[] allAllowedTargets = Sets.union(
-                javaClassDiagramAssociation.getPackageIdentifiersFromComponentOf(javaClass),
-                javaClassDiagramAssociation.getTargetPackageIdentifiers(javaClass)
-        ).toArray(new String[0]);
+        PlantUmlComponent component = javaClassDiagramAssociation.getComponentOf(javaClass);
+        dependencyConditionsByComponent.computeIfAbsent(component, this::createDependencyCondition).check(javaClass, events);
+    }
 
-        ArchCondition<JavaClass> delegate = onlyHaveDependenciesInAnyPackage(allAllowedTargets)
+    private ArchCondition<JavaClass> createDependencyCondition(PlantUmlComponent component) {
+        Set<String> allAllowedTargets = Sets.union(
+                javaClassDiagramAssociation.getPackageIdentifiersFromComponentOf(component),
+                javaClassDiagramAssociation.getTargetPackageIdentifiers(component));
+        Set<PlantUmlComponent> allowedComponents = ImmutableSet.<PlantUmlComponent>builder()
+                .add(component)
+                .addAll(component.getDependencies())
+                .build();
+
+        // a target resides in an allowed package if and only if it is associated with an allowed component,
+        // which we can look up by package name instead of matching all package identifiers against every dependency
+        DescribedPredicate<JavaClass> inAllowedComponent = describe(
+                String.format("in any package [%s]", joinSingleQuoted(allAllowedTargets)),
+                target -> javaClassDiagramAssociation.getAssociatedComponents(target).stream().anyMatch(allowedComponents::contains));
+
+        return onlyHaveDependenciesWhere(dependencyTarget(inAllowedComponent))
+                .as("only have dependencies in any package [%s]", joinSingleQuoted(allAllowedTargets))
                 .ignoreDependency(ignorePredicate);
-
-        delegate.check(javaClass, events);
     }
 
     private boolean allDependenciesAreIgnored(JavaClass item) {
@@ -330,16 +359,16 @@ public final class PlantUmlArchCondition extends ArchCondition<JavaClass> {
         }
 
         private static class NotContainedInPackagesPredicate extends DescribedPredicate<Dependency> {
-            private final List<String> packageIdentifiers;
+            private final PackageMatchers packageMatchers;
 
             NotContainedInPackagesPredicate(List<String> packageIdentifiers) {
                 super(" while ignoring dependencies outside of packages [%s]", joinSingleQuoted(packageIdentifiers));
-                this.packageIdentifiers = packageIdentifiers;
+                this.packageMatchers = PackageMatchers.of(packageIdentifiers);
             }
 
             @Override
             public boolean test(Dependency input) {
-                return !PackageMatchers.of(packageIdentifiers).test(input.getTargetClass().getPackageName());
+                return !packageMatchers.test(input.getTargetClass().getPackageName());
             }
         }
     }
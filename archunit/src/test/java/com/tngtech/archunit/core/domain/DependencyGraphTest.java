@@ -0,0 +1,148 @@
+package com.tngtech.archunit.core.domain;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.EnumSet;
+import java.util.List;
+
+import com.tngtech.archunit.base.DescribedPredicate;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+import org.junit.Test;
+
+import static com.tngtech.archunit.core.domain.DependencyGraph.DependencyType.INHERITANCE;
+import static com.tngtech.archunit.core.domain.DependencyGraph.DependencyType.MEMBER_ACCESS;
+import static com.tngtech.archunit.core.domain.DependencyGraph.DependencyType.MEMBER_TYPE;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class DependencyGraphTest {
+    private final JavaClasses classes = new ClassFileImporter().importClasses(
+            CycleStart.class, CycleMiddle.class, CycleEnd.class, DependsOnCycle.class, Base.class, Sub.class, Unrelated.class);
+    private final DependencyGraph graph = classes.dependencyGraph();
+
+    @Test
+    public void assigns_dense_ids_to_all_classes() {
+        assertThat(graph.size()).isEqualTo(classes.size());
+        for (JavaClass javaClass : classes) {
+            assertThat(graph.getJavaClass(graph.getId(javaClass))).isSameAs(javaClass);
+        }
+        assertThat(graph.contains(new ClassFileImporter().importClass(Object.class))).isFalse();
+        assertThatThrownBy(() -> graph.getJavaClass(graph.size())).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    public void is_memoized_by_classes() {
+        assertThat(classes.dependencyGraph()).isSameAs(graph);
+    }
+
+    @Test
+    public void contains_only_dependencies_between_the_classes() {
+        assertThat(targetsOf(CycleStart.class)).containsExactly(CycleMiddle.class.getName());
+        assertThat(targetsOf(Sub.class)).containsExactly(Base.class.getName());
+        assertThat(originsOf(CycleStart.class)).containsOnly(CycleEnd.class.getName(), DependsOnCycle.class.getName());
+        assertThat(graph.getOutDegree(id(Unrelated.class))).isZero();
+        assertThat(graph.getInDegree(id(Unrelated.class))).isZero();
+    }
+
+    @Test
+    public void combines_dependency_types_per_edge() {
+        assertThat(graph.getDependencyTypes(id(Sub.class), id(Base.class))).contains(INHERITANCE, MEMBER_ACCESS);
+        assertThat(graph.getDependencyTypes(id(CycleStart.class), id(CycleMiddle.class))).containsOnly(MEMBER_TYPE);
+        assertThat(graph.getDependencyTypes(id(Base.class), id(Sub.class))).isEmpty();
+        assertThat(graph.dependsOn(id(Sub.class), id(Base.class))).isTrue();
+        assertThat(graph.dependsOn(id(Base.class), id(Sub.class))).isFalse();
+
+        List<Integer> inheritanceTargets = new ArrayList<>();
+        graph.forEachTarget(id(CycleStart.class), EnumSet.of(INHERITANCE), inheritanceTargets::add);
+        assertThat(inheritanceTargets).isEmpty();
+    }
+
+    @Test
+    public void determines_transitive_targets_and_origins() {
+        assertThat(namesOf(graph.getTransitiveTargets(id(DependsOnCycle.class))))
+                .containsOnly(CycleStart.class.getName(), CycleMiddle.class.getName(), CycleEnd.class.getName());
+        assertThat(namesOf(graph.getTransitiveTargets(id(CycleStart.class))))
+                .as("class within cycle reaches itself")
+                .containsOnly(CycleStart.class.getName(), CycleMiddle.class.getName(), CycleEnd.class.getName());
+        assertThat(namesOf(graph.getTransitiveOrigins(id(CycleEnd.class))))
+                .containsOnly(CycleStart.class.getName(), CycleMiddle.class.getName(), CycleEnd.class.getName(), DependsOnCycle.class.getName());
+        assertThat(graph.getTransitiveTargets(id(Unrelated.class)).isEmpty()).isTrue();
+        assertThat(graph.getTransitiveTargets(id(Sub.class), EnumSet.of(MEMBER_TYPE)).isEmpty()).isTrue();
+    }
+
+    @Test
+    public void finds_strongly_connected_components() {
+        List<int[]> components = graph.getStronglyConnectedComponents();
+
+        assertThat(components).hasSize(1);
+        assertThat(namesOf(components.get(0)))
+                .containsOnly(CycleStart.class.getName(), CycleMiddle.class.getName(), CycleEnd.class.getName());
+        assertThat(graph.hasCycles()).isTrue();
+        assertThat(graph.getStronglyConnectedComponents(EnumSet.of(INHERITANCE))).isEmpty();
+        assertThat(classes.that(DescribedPredicate.describe("not in cycle", c -> !c.isEquivalentTo(CycleEnd.class)))
+                .dependencyGraph().hasCycles()).isFalse();
+    }
+
+    private int id(Class<?> clazz) {
+        return graph.getId(classes.get(clazz));
+    }
+
+    private List<String> targetsOf(Class<?> clazz) {
+        List<String> result = new ArrayList<>();
+        graph.forEachTarget(id(clazz), target -> result.add(graph.getJavaClass(target).getName()));
+        return result;
+    }
+
+    private List<String> originsOf(Class<?> clazz) {
+        List<String> result = new ArrayList<>();
+        graph.forEachOrigin(id(clazz), origin -> result.add(graph.getJavaClass(origin).getName()));
+        return result;
+    }
+
+    private List<String> namesOf(BitSet ids) {
+        return graph.getJavaClasses(ids).stream().map(JavaClass::getName).collect(toList());
+    }
+
+    private List<String> namesOf(int[] ids) {
+        BitSet bitSet = new BitSet();
+        for (int id : ids) {
+            bitSet.set(id);
+        }
+        return namesOf(bitSet);
+    }
+
+    @SuppressWarnings("unused")
+    private static class CycleStart {
+        CycleMiddle middle;
+    }
+
+    @SuppressWarnings("unused")
+    private static class CycleMiddle {
+        CycleEnd end;
+    }
+
+    @SuppressWarnings("unused")
+    private static class CycleEnd {
+        CycleStart start;
+    }
+
+    @SuppressWarnings("unused")
+    private static class DependsOnCycle {
+        CycleStart start;
+    }
+
+    private static class Base {
+        void call() {
+        }
+    }
+
+    private static class Sub extends Base {
+        void callSuper() {
+            super.call();
+        }
+    }
+
+    private static class Unrelated {
+    }
+}
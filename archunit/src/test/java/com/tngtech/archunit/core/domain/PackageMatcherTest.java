@@ -53,6 +53,15 @@ public class PackageMatcherTest {
             "..[a|b*].pk*..     , some.arbitrary.pkg.whatever    , false",
             "..[*c*|*d*].pk*..  , some.anydinside.pkg.whatever   , true",
             "..[*c*|*d*].pk*..  , some.nofit.pkg.whatever        , false",
+            "some.pkg..         , some.pkg.sub.subsub            , true",
+            "some.pkg..         , some.pkgsuffix                 , false",
+            "some.pkg..         , other.some.pkg                 , false",
+            "..pkg..            , pkg                            , true",
+            "..pkg..            , some.pkgsuffix.more            , false",
+            "..pkg..            , some.prefixpkg.more            , false",
+            "..pkg..            , some.prefixpkg.pkg             , true",
+            "..some.pkg..       , a.some.pkg.b                   , true",
+            "..some.pkg..       , a.some.b.pkg                   , false",
     })
     public void match(String matcher, String target, boolean matches) {
         assertThat(PackageMatcher.of(matcher).matches(target))
@@ -70,6 +79,12 @@ public class PackageMatcherTest {
             "(*).(*).(*).(*) , a.b.c.d , a:b:c:d",
             "(*) , some , some",
             "some.(*).pkg , some.in.between.pkg , null",
+            "some.(*) , some.arbitrary , arbitrary",
+            "some.(*) , some.arbitrary.pkg , null",
+            "some.(*).. , some.arbitrary.pkg , arbitrary",
+            "some.(*).. , some.arbitrary , arbitrary",
+            "some.(*).. , some , null",
+            "some.(*).. , other.some.arbitrary , null",
             "some.(**).pkg , some.in.between.pkg , in.between",
             "some.(**).pkg.(*) , some.in.between.pkg.addon , in.between:addon",
             "some(**)pkg , somerandom.in.between.longpkg , random.in.between.long",
@@ -2,15 +2,21 @@ package com.tngtech.archunit.core.importer;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.PrintStream;
 import java.io.Serializable;
+import java.io.UncheckedIOException;
 import java.lang.annotation.Annotation;
 import java.net.MalformedURLException;
+import java.net.URI;
 import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Set;
 import java.util.regex.Pattern;
 
@@ -20,6 +26,7 @@ import com.google.common.collect.Sets;
 import com.tngtech.archunit.ArchConfiguration;
 import com.tngtech.archunit.base.DescribedPredicate;
 import com.tngtech.archunit.core.domain.AccessTarget.CodeUnitAccessTarget;
+import com.tngtech.archunit.core.domain.Dependency;
 import com.tngtech.archunit.core.domain.JavaClass;
 import com.tngtech.archunit.core.domain.JavaClasses;
 import com.tngtech.archunit.core.domain.JavaEnumConstant;
@@ -827,6 +834,83 @@ public class ClassFileImporterTest {
         assertThat(source.getMd5sum()).isEqualTo(MD5_SUM_DISABLED);
     }
 
+    @Test
+    public void imports_the_same_classes_in_parallel_as_sequentially() {
+        String packageToImport = "com.tngtech.archunit.core.importer.testexamples";
+
+        JavaClasses sequentiallyImported = new ClassFileImporter().importPackages(packageToImport);
+        ArchConfiguration.get().setParallelImportEnabled(true);
+        JavaClasses parallelImported = new ClassFileImporter().importPackages(packageToImport);
+
+        assertSameImport(sequentiallyImported, parallelImported);
+    }
+
+    @Test
+    public void imports_the_same_classes_from_import_cache() throws IOException {
+        String packageToImport = "com.tngtech.archunit.core.importer.testexamples";
+        File cacheDirectory = temporaryFolder.newFolder();
+
+        JavaClasses withoutCache = new ClassFileImporter().importPackages(packageToImport);
+        ArchConfiguration.get().setProperty("import.cache.directory", cacheDirectory.getAbsolutePath());
+        JavaClasses populatingCache = new ClassFileImporter().importPackages(packageToImport);
+        assertThat(cacheDirectory.list()).as("cache files").isNotEmpty();
+        JavaClasses fromCache = new ClassFileImporter().importPackages(packageToImport);
+
+        for (JavaClasses actual : ImmutableList.of(populatingCache, fromCache)) {
+            assertSameImport(withoutCache, actual);
+            for (JavaClass expectedClass : withoutCache) {
+                assertThat(actual.get(expectedClass.getName()).getSource()).isEqualTo(expectedClass.getSource());
+            }
+        }
+    }
+
+    @Test
+    public void import_caches_used_concurrently_do_not_overwrite_each_others_class_files() throws IOException {
+        File folder = temporaryFolder.newFolder();
+        copyClassFile(ClassToImportOne.class, folder);
+        copyClassFile(ClassToImportTwo.class, folder);
+        ArchConfiguration.get().setProperty("import.cache.directory", temporaryFolder.newFolder().getAbsolutePath());
+
+        // e.g. two JVMs that have both read the cache before any of them has written it
+        ImportCache first = ImportCache.fromConfiguration();
+        ImportCache second = ImportCache.fromConfiguration();
+        first.readPruned(classFileLocationOf(folder, ClassToImportOne.class));
+        second.readPruned(classFileLocationOf(folder, ClassToImportTwo.class));
+        first.flush();
+        second.flush();
+
+        for (Class<?> clazz : ImmutableList.of(ClassToImportOne.class, ClassToImportTwo.class)) {
+            // only a cached class file can still be read, once the original is garbled without changing its size or modification date
+            Path classFile = new File(folder, clazz.getSimpleName() + ".class").toPath();
+            FileTime lastModified = Files.getLastModifiedTime(classFile);
+            Files.write(classFile, new byte[(int) Files.size(classFile)]);
+            Files.setLastModifiedTime(classFile, lastModified);
+
+            assertThat(ImportCache.fromConfiguration().readPruned(classFileLocationOf(folder, clazz)))
+                    .as("cached class file of " + clazz.getSimpleName())
+                    .startsWith((byte) 0xCA, (byte) 0xFE, (byte) 0xBA, (byte) 0xBE);
+        }
+    }
+
+    @Test
+    public void notifies_import_listeners_about_import_statistics() {
+        List<ImportStatistics> statistics = new ArrayList<>();
+
+        new ClassFileImporter()
+                .withImportListener(statistics::add)
+                .importClasses(ClassToImportOne.class, ClassToImportTwo.class);
+
+        ImportStatistics importStatistics = getOnlyElement(statistics);
+        assertThat(importStatistics.getNumberOfParsedClassFiles()).isEqualTo(2);
+        assertThat(importStatistics.getBytesRead()).isPositive();
+        assertThat(importStatistics.getNumberOfResolvedClassesPerIteration()).isNotEmpty();
+        assertThat(importStatistics.getSlowestLocations().keySet())
+                .containsOnly(Location.of(uriOf(ClassToImportOne.class)), Location.of(uriOf(ClassToImportTwo.class)));
+        for (ImportStatistics.Phase phase : ImportStatistics.Phase.values()) {
+            assertThat(importStatistics.getDuration(phase)).as("duration of " + phase).isLessThanOrEqualTo(importStatistics.getTotalDuration());
+        }
+    }
+
     @Test
     public void imports_class_objects() {
         JavaClasses classes = new ClassFileImporter().importClasses(ClassToImportOne.class, ClassToImportTwo.class);
@@ -917,10 +1001,46 @@ public class ClassFileImporterTest {
         assertThat(classes.get(clazz.getName())).hasSimpleName(clazz.getSimpleName());
     }
 
+    private static void assertSameImport(JavaClasses expected, JavaClasses actual) {
+        assertThat(namesOf(actual)).containsOnlyElementsOf(namesOf(expected));
+        for (JavaClass expectedClass : expected) {
+            JavaClass actualClass = actual.get(expectedClass.getName());
+            assertThat(descriptionsOf(actualClass.getDirectDependenciesFromSelf()))
+                    .as("dependencies from " + expectedClass.getName())
+                    .isEqualTo(descriptionsOf(expectedClass.getDirectDependenciesFromSelf()));
+            assertThat(descriptionsOf(actualClass.getDirectDependenciesToSelf()))
+                    .as("dependencies to " + expectedClass.getName())
+                    .isEqualTo(descriptionsOf(expectedClass.getDirectDependenciesToSelf()));
+        }
+    }
+
+    private static Set<String> descriptionsOf(Set<Dependency> dependencies) {
+        return dependencies.stream().map(Dependency::getDescription).collect(toSet());
+    }
+
     private void copyClassFile(Class<?> clazz, File targetFolder) throws IOException {
         Files.copy(Paths.get(uriOf(clazz)), new File(targetFolder, clazz.getSimpleName() + ".class").toPath());
     }
 
+    private static ClassFileLocation classFileLocationOf(File folder, Class<?> clazz) {
+        Path classFile = new File(folder, clazz.getSimpleName() + ".class").toPath();
+        return new ClassFileLocation() {
+            @Override
+            public InputStream openStream() {
+                try {
+                    return Files.newInputStream(classFile);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+
+            @Override
+            public URI getUri() {
+                return classFile.toUri();
+            }
+        };
+    }
+
     private Condition<CodeUnitAccessTarget> targetWithFullName(String name) {
         return new Condition<CodeUnitAccessTarget>(String.format("target with name '%s'", name)) {
             @Override
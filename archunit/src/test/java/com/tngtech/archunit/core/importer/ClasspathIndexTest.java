@@ -0,0 +1,35 @@
+package com.tngtech.archunit.core.importer;
+
+import java.io.File;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Test;
+
+import static com.tngtech.archunit.testutil.TestUtils.uriOf;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ClasspathIndexTest {
+
+    @Test
+    public void finds_class_files_of_the_classpath_like_the_ClassLoader() {
+        ClasspathIndex index = ClasspathIndex.ofClassPath();
+
+        assertThat(index.findClassFile(classFileOf(ImmutableList.class))).contains(uriOf(ImmutableList.class));
+        assertThat(index.findClassFile(classFileOf(File.class))).contains(uriOf(File.class));
+        assertThat(index.findClassFile(classFileOf(getClass()))).contains(uriOf(getClass()));
+    }
+
+    @Test
+    public void does_not_find_class_files_missing_from_the_classpath() {
+        assertThat(ClasspathIndex.ofClassPath().findClassFile("sooo/Wrong.class")).isEmpty();
+    }
+
+    @Test
+    public void creates_the_index_only_once_for_the_same_classpath() {
+        assertThat(ClasspathIndex.ofClassPath()).isSameAs(ClasspathIndex.ofClassPath());
+    }
+
+    private static String classFileOf(Class<?> clazz) {
+        return clazz.getName().replace('.', '/') + ".class";
+    }
+}
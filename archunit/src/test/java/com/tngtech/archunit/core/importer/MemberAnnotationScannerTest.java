@@ -0,0 +1,80 @@
+package com.tngtech.archunit.core.importer;
+
+import java.lang.annotation.Retention;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static java.util.stream.Collectors.toSet;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MemberAnnotationScannerTest {
+
+    @Test
+    public void finds_classes_declaring_annotated_fields_or_methods() {
+        List<String> classNames = scan(WithAnnotatedField.class, WithAnnotatedMethod.class, WithoutAnnotatedMembers.class);
+
+        assertThat(classNames).containsOnly(WithAnnotatedField.class.getName(), WithAnnotatedMethod.class.getName());
+    }
+
+    @Test
+    public void finds_classes_inheriting_annotated_members_from_scanned_supertypes() {
+        List<String> classNames = scan(
+                WithAnnotatedField.class, SubclassOfWithAnnotatedField.class,
+                InterfaceWithAnnotatedField.class, ImplementationOfInterfaceWithAnnotatedField.class);
+
+        assertThat(classNames).containsOnly(
+                WithAnnotatedField.class.getName(), SubclassOfWithAnnotatedField.class.getName(),
+                InterfaceWithAnnotatedField.class.getName(), ImplementationOfInterfaceWithAnnotatedField.class.getName());
+    }
+
+    @Test
+    public void ignores_annotated_members_of_supertypes_that_are_not_scanned() {
+        List<String> classNames = scan(SubclassOfWithAnnotatedField.class, ImplementationOfInterfaceWithAnnotatedField.class);
+
+        assertThat(classNames).isEmpty();
+    }
+
+    private List<String> scan(Class<?>... classes) {
+        return new MemberAnnotationScanner(Marker.class).findClassesWithAnnotatedMembers(
+                Arrays.stream(classes).flatMap(clazz -> Locations.ofClass(clazz).stream()).collect(toSet()));
+    }
+
+    @Retention(RUNTIME)
+    private @interface Marker {
+    }
+
+    @SuppressWarnings("unused")
+    private static class WithAnnotatedField {
+        @Marker
+        Object field;
+    }
+
+    @SuppressWarnings("unused")
+    private static class WithAnnotatedMethod {
+        @Marker
+        void method() {
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private static class WithoutAnnotatedMembers {
+        Object field;
+
+        void method() {
+        }
+    }
+
+    private static class SubclassOfWithAnnotatedField extends WithAnnotatedField {
+    }
+
+    private interface InterfaceWithAnnotatedField {
+        @Marker
+        Object field = new Object();
+    }
+
+    private static class ImplementationOfInterfaceWithAnnotatedField implements InterfaceWithAnnotatedField {
+    }
+}
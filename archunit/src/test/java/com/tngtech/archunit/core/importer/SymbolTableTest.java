@@ -0,0 +1,75 @@
+package com.tngtech.archunit.core.importer;
+
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.domain.JavaMethodCall;
+import com.tngtech.archunit.core.importer.RawAccessRecord.CodeUnit;
+import com.tngtech.archunit.core.importer.RawAccessRecord.TargetInfo;
+import org.junit.Test;
+
+import static com.google.common.collect.Iterables.getOnlyElement;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SymbolTableTest {
+    private final SymbolTable symbols = new SymbolTable();
+
+    @Test
+    public void interns_strings() {
+        String string = symbols.intern(new String("someName"));
+
+        assertThat(symbols.intern(new String("someName"))).isSameAs(string);
+        assertThat(symbols.intern(null)).isNull();
+    }
+
+    @Test
+    public void returns_canonical_descriptors_of_asm_object_type_names() {
+        assertThat(symbols.descriptorOfAsmObjectTypeName(new String("java/lang/String")))
+                .isSameAs(symbols.descriptorOfAsmObjectTypeName(new String("java/lang/String")))
+                .isEqualTo(JavaClassDescriptorImporter.createFromAsmObjectTypeName("java/lang/String"));
+    }
+
+    @Test
+    public void returns_canonical_target_infos() {
+        TargetInfo target = symbols.targetInfo(new String("java/lang/Object"), new String("toString"), new String("()Ljava/lang/String;"));
+        TargetInfo sameTarget = symbols.targetInfo(new String("java/lang/Object"), new String("toString"), new String("()Ljava/lang/String;"));
+
+        assertThat(sameTarget).isSameAs(target);
+        assertThat(target.getDeclaringClassName()).isEqualTo(Object.class.getName());
+        assertThat(target.getName()).isEqualTo("toString");
+        assertThat(target.getDescriptor()).isEqualTo("()Ljava/lang/String;");
+    }
+
+    @Test
+    public void returns_canonical_code_units() {
+        CodeUnit codeUnit = symbols.codeUnit(new String("run"), new String("()V"), new String("some.Clazz"));
+
+        assertThat(symbols.codeUnit(new String("run"), new String("()V"), new String("some.Clazz"))).isSameAs(codeUnit);
+        assertThat(symbols.codeUnit("run", "()V", "other.Clazz")).isNotSameAs(codeUnit);
+    }
+
+    @Test
+    public void imported_classes_share_names_and_descriptors() {
+        JavaClasses classes = new ClassFileImporter().importClasses(FirstCaller.class, SecondCaller.class);
+        JavaClass firstCaller = classes.get(FirstCaller.class);
+        JavaClass secondCaller = classes.get(SecondCaller.class);
+
+        assertThat(firstCaller.getMethod("call", Object.class).getDescriptor()).isSameAs(secondCaller.getMethod("call", Object.class).getDescriptor());
+        JavaMethodCall firstCall = getOnlyElement(firstCaller.getMethodCallsFromSelf());
+        JavaMethodCall secondCall = getOnlyElement(secondCaller.getMethodCallsFromSelf());
+        assertThat(firstCall.getTarget().getName()).isSameAs(secondCall.getTarget().getName());
+    }
+
+    @SuppressWarnings("unused")
+    private static class FirstCaller {
+        void call(Object object) {
+            object.hashCode();
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private static class SecondCaller {
+        void call(Object object) {
+            object.hashCode();
+        }
+    }
+}
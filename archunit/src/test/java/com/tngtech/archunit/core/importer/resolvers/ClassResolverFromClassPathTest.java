@@ -1,12 +1,19 @@
 package com.tngtech.archunit.core.importer.resolvers;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
 import com.tngtech.archunit.core.domain.JavaClass;
 import com.tngtech.archunit.core.importer.resolvers.ClassResolver.ClassUriImporter;
 import com.tngtech.archunit.testutil.TestUtils;
@@ -21,12 +28,17 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
 
+import static com.google.common.io.ByteStreams.toByteArray;
 import static com.tngtech.archunit.core.domain.TestUtils.importClassWithContext;
 import static com.tngtech.archunit.testutil.Assertions.assertThat;
 import static com.tngtech.java.junit.dataprovider.DataProviders.$;
 import static com.tngtech.java.junit.dataprovider.DataProviders.$$;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
@@ -63,6 +75,33 @@ public class ClassResolverFromClassPathTest {
         verifyNoMoreInteractions(uriImporter);
     }
 
+    @Test
+    public void resolves_several_classes_by_reading_their_class_files_from_the_opened_JAR_file() throws IOException {
+        JavaClass immutableList = importClassWithContext(ImmutableList.class);
+        JavaClass immutableSet = importClassWithContext(ImmutableSet.class);
+        Map<URI, byte[]> readClassFiles = new HashMap<>();
+        when(uriImporter.tryImport(any(URI.class), any())).thenAnswer(invocation -> {
+            URI uri = invocation.getArgument(0);
+            Supplier<InputStream> classFile = invocation.getArgument(1);
+            try (InputStream stream = classFile.get()) {
+                readClassFiles.put(uri, toByteArray(stream));
+            }
+            return Optional.of(uri.equals(TestUtils.uriOf(ImmutableList.class)) ? immutableList : immutableSet);
+        });
+
+        Map<String, JavaClass> result = resolver.tryResolveAll(
+                ImmutableSet.of(ImmutableList.class.getName(), ImmutableSet.class.getName(), "sooo.Wrong"));
+
+        assertThat(result).containsOnly(
+                entry(ImmutableList.class.getName(), immutableList),
+                entry(ImmutableSet.class.getName(), immutableSet));
+        assertThat(readClassFiles).containsOnlyKeys(TestUtils.uriOf(ImmutableList.class), TestUtils.uriOf(ImmutableSet.class));
+        try (InputStream expectedClassFile = TestUtils.urlOf(ImmutableList.class).openStream()) {
+            assertThat(readClassFiles.get(TestUtils.uriOf(ImmutableList.class))).isEqualTo(toByteArray(expectedClassFile));
+        }
+        verify(uriImporter, never()).tryImport(any(URI.class));
+    }
+
     @DataProvider
     public static Object[][] urls_with_spaces() throws MalformedURLException, URISyntaxException {
         return $$(
@@ -0,0 +1,52 @@
+package com.tngtech.archunit.core.importer.resolvers;
+
+import java.util.Optional;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.importer.resolvers.ClassResolver.ClassUriImporter;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+import static com.tngtech.archunit.core.domain.TestUtils.importClassWithContext;
+import static com.tngtech.archunit.testutil.Assertions.assertThat;
+import static com.tngtech.archunit.testutil.TestUtils.uriOf;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+public class IndexedClassResolverFromClasspathTest {
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private ClassUriImporter uriImporter;
+
+    private final IndexedClassResolverFromClasspath resolver = new IndexedClassResolverFromClasspath();
+
+    @Before
+    public void setUp() {
+        resolver.setClassUriImporter(uriImporter);
+    }
+
+    @Test
+    public void resolves_classes_from_the_classpath() {
+        JavaClass expectedJavaClass = importClassWithContext(ImmutableList.class);
+        when(uriImporter.tryImport(uriOf(ImmutableList.class))).thenReturn(Optional.of(expectedJavaClass));
+
+        Optional<JavaClass> result = resolver.tryResolve(ImmutableList.class.getName());
+
+        assertThat(result).contains(expectedJavaClass);
+    }
+
+    @Test
+    public void is_resilient_if_class_is_not_on_the_classpath() {
+        assertThat(resolver.tryResolve("sooo.Wrong")).isEmpty();
+        assertThat(resolver.tryResolveAll(ImmutableSet.of("sooo.Wrong", "sooo.AlsoWrong"))).isEmpty();
+        verifyNoMoreInteractions(uriImporter);
+    }
+}
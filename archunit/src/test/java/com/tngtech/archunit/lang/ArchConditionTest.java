@@ -252,6 +252,104 @@ public class ArchConditionTest {
                 .containViolations(String.format("Class <%s> satisfies some description in (%s.java:0)", Object.class.getName(), Object.class.getSimpleName()));
     }
 
+    @Test
+    public void or_checks_cheaper_conditions_first_and_skips_remaining_conditions_once_satisfied() {
+        List<Integer> checkedByExpensiveCondition = new ArrayList<>();
+        ArchCondition<Integer> condition = withCost(ArchCondition.Cost.HIGH, greaterThan(20), checkedByExpensiveCondition)
+                .or(withCost(ArchCondition.Cost.LOW, greaterThan(15), new ArrayList<>()));
+
+        ConditionEvents events = ConditionEvents.Factory.create();
+        condition.check(16, events);
+        assertThat(events).containNoViolation();
+        assertThat(checkedByExpensiveCondition).isEmpty();
+
+        condition.check(5, events);
+        assertThat(events).containViolations("5 is not greater than 15 and 5 is not greater than 20");
+        assertThat(checkedByExpensiveCondition).containsExactly(5);
+    }
+
+    @Test
+    public void or_checks_all_conditions_if_satisfied_events_are_required() {
+        List<Integer> checkedByExpensiveCondition = new ArrayList<>();
+        ArchCondition<Integer> condition = never(withCost(ArchCondition.Cost.HIGH, greaterThan(20), checkedByExpensiveCondition)
+                .or(withCost(ArchCondition.Cost.LOW, greaterThan(15), new ArrayList<>())));
+
+        ConditionEvents events = ConditionEvents.Factory.create();
+        condition.check(16, events);
+        assertThat(events).containViolations("16 is greater than 15");
+        assertThat(checkedByExpensiveCondition).containsExactly(16);
+    }
+
+    @Test
+    public void or_checks_stateful_conditions_for_every_object() {
+        List<Integer> checkedObjects = new ArrayList<>();
+        ArchCondition<Integer> atLeastOneGreaterThan20 = new ArchCondition<Integer>("contain at least one number greater than 20") {
+            @Override
+            public void check(Integer item, ConditionEvents events) {
+                checkedObjects.add(item);
+            }
+
+            @Override
+            public void finish(ConditionEvents events) {
+                if (checkedObjects.stream().noneMatch(number -> number > 20)) {
+                    events.add(SimpleConditionEvent.violated(checkedObjects, "no number is greater than 20"));
+                }
+            }
+
+            @Override
+            public Cost getCost() {
+                return Cost.HIGH;
+            }
+        };
+        ArchCondition<Integer> condition = withCost(ArchCondition.Cost.LOW, greaterThan(15), new ArrayList<>()).or(atLeastOneGreaterThan20);
+
+        ConditionEvents events = ConditionEvents.Factory.create();
+        condition.check(16, events);
+        condition.check(21, events);
+        condition.finish(events);
+        assertThat(events).containNoViolation();
+        assertThat(checkedObjects).containsExactly(16, 21);
+    }
+
+    @Test
+    public void and_checks_cheaper_conditions_first_and_skips_remaining_conditions_once_violated() {
+        List<Integer> checkedByExpensiveCondition = new ArrayList<>();
+        ArchCondition<Integer> condition = withCost(ArchCondition.Cost.HIGH, greaterThan(20), checkedByExpensiveCondition)
+                .and(withCost(ArchCondition.Cost.LOW, greaterThan(15), new ArrayList<>()));
+
+        ConditionEvents events = ConditionEvents.Factory.create();
+        condition.check(5, events);
+        assertThat(events).containViolations("5 is not greater than 15");
+        assertThat(checkedByExpensiveCondition).isEmpty();
+
+        events = ConditionEvents.Factory.create();
+        condition.check(16, events);
+        assertThat(events).containViolations("16 is not greater than 20");
+        assertThat(checkedByExpensiveCondition).containsExactly(16);
+    }
+
+    @Test
+    public void and_checks_all_conditions_if_satisfied_events_are_required() {
+        List<Integer> checkedByExpensiveCondition = new ArrayList<>();
+        ArchCondition<Integer> condition = never(withCost(ArchCondition.Cost.HIGH, greaterThan(20), checkedByExpensiveCondition)
+                .and(withCost(ArchCondition.Cost.LOW, greaterThan(15), new ArrayList<>())));
+
+        ConditionEvents events = ConditionEvents.Factory.create();
+        condition.check(5, events);
+        assertThat(events).containNoViolation();
+        assertThat(checkedByExpensiveCondition).containsExactly(5);
+    }
+
+    @Test
+    public void join_conditions_have_cost_of_most_expensive_condition() {
+        ArchCondition<Integer> cheap = withCost(ArchCondition.Cost.LOW, greaterThan(1), new ArrayList<>());
+        ArchCondition<Integer> expensive = withCost(ArchCondition.Cost.HIGH, greaterThan(1), new ArrayList<>());
+
+        assertThat(cheap.or(expensive).getCost()).isEqualTo(ArchCondition.Cost.HIGH);
+        assertThat(cheap.and(cheap).getCost()).isEqualTo(ArchCondition.Cost.LOW);
+        assertThat(cheap.as("changed").getCost()).isEqualTo(ArchCondition.Cost.LOW);
+    }
+
     @Test
     public void from_predicate_describing_events() {
         JavaClass object = new ClassFileImporter().importClass(Object.class);
@@ -280,6 +378,26 @@ public class ArchConditionTest {
         };
     }
 
+    private ArchCondition<Integer> withCost(ArchCondition.Cost cost, ArchCondition<Integer> condition, List<Integer> checkedObjects) {
+        return new ArchCondition<Integer>(condition.getDescription()) {
+            @Override
+            public void check(Integer item, ConditionEvents events) {
+                checkedObjects.add(item);
+                condition.check(item, events);
+            }
+
+            @Override
+            public boolean isStateless() {
+                return true;
+            }
+
+            @Override
+            public Cost getCost() {
+                return cost;
+            }
+        };
+    }
+
     private EvaluationResult evaluationResultOf(ConditionEvents events) {
         return new EvaluationResult(() -> "irrelevant", events, MEDIUM);
     }
@@ -0,0 +1,177 @@
+package com.tngtech.archunit.lang;
+
+import java.lang.annotation.Retention;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.google.common.collect.ImmutableList;
+import com.tngtech.archunit.ArchConfiguration;
+import com.tngtech.archunit.base.DescribedPredicate;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+import com.tngtech.archunit.lang.syntax.ArchRuleDefinition;
+import com.tngtech.archunit.testutil.ArchConfigurationRule;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static com.tngtech.archunit.core.domain.JavaClass.Predicates.simpleName;
+import static com.tngtech.archunit.lang.SimpleConditionEvent.violated;
+import static com.tngtech.archunit.lang.conditions.ArchConditions.beInterfaces;
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.all;
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.classes;
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.methods;
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.noClasses;
+import static com.tngtech.archunit.library.dependencies.SlicesRuleDefinition.slices;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ArchRuleEvaluationTest {
+    @Rule
+    public final ArchConfigurationRule archConfigurationRule = new ArchConfigurationRule();
+
+    @Test
+    public void evaluates_all_rules_like_single_evaluations() {
+        JavaClasses classes = new ClassFileImporter().importPackagesOf(ArchRuleDefinition.class);
+        List<ArchRule> rules = ImmutableList.of(
+                noClasses().should().accessClassesThat().haveSimpleNameEndingWith("Internal"),
+                classes().that().arePublic().should().beInterfaces().orShould().haveSimpleNameStartingWith("Arch"),
+                methods().that().arePublic().should().haveNameStartingWith("get"),
+                slices().matching("com.tngtech.archunit.lang.(*)..").should().beFreeOfCycles(),
+                CompositeArchRule.of(classes().should().bePublic()).and(noClasses().should(beInterfaces())));
+
+        List<EvaluationResult> results = ArchRuleEvaluation.evaluateAll(rules, classes);
+
+        assertThat(results).hasSameSizeAs(rules);
+        for (int i = 0; i < rules.size(); i++) {
+            assertThat(results.get(i).getFailureReport().getDetails())
+                    .as("violations of rule '%s'", rules.get(i).getDescription())
+                    .isEqualTo(rules.get(i).evaluate(classes).getFailureReport().getDetails());
+        }
+    }
+
+    @Test
+    public void checks_each_class_with_all_rules_before_checking_the_next_class() {
+        JavaClasses classes = new ClassFileImporter().importClasses(String.class, Integer.class);
+        List<String> checks = new ArrayList<>();
+
+        ArchRuleEvaluation.evaluateAll(ImmutableList.of(
+                classes().should(recordCheckIn(checks, "first")),
+                classes().should(recordCheckIn(checks, "second"))), classes);
+
+        List<String> classNames = classes.stream().map(JavaClass::getSimpleName).collect(toList());
+        assertThat(checks).containsExactly(
+                "first " + classNames.get(0), "second " + classNames.get(0),
+                "first " + classNames.get(1), "second " + classNames.get(1));
+    }
+
+    @Test
+    public void checks_stateless_rules_class_by_class_even_if_parallel_evaluation_is_enabled() {
+        JavaClasses classes = new ClassFileImporter().importClasses(String.class, Integer.class);
+        List<String> checks = new ArrayList<>();
+        ArchConfiguration.get().setParallelRuleEvaluationEnabled(true);
+
+        ArchRuleEvaluation.evaluateAll(ImmutableList.of(
+                classes().should(recordCheckIn(checks, "first")),
+                classes().should(recordCheckIn(checks, "second"))), classes);
+
+        List<String> classNames = classes.stream().map(JavaClass::getSimpleName).collect(toList());
+        assertThat(checks).containsExactly(
+                "first " + classNames.get(0), "second " + classNames.get(0),
+                "first " + classNames.get(1), "second " + classNames.get(1));
+    }
+
+    @Test
+    public void transforms_classes_only_once_for_rules_selecting_the_same_objects() {
+        JavaClasses classes = new ClassFileImporter().importClasses(String.class, Integer.class);
+        AtomicInteger transformations = new AtomicInteger();
+        ClassesTransformer<JavaClass> transformer = new AbstractClassesTransformer<JavaClass>("counted classes") {
+            @Override
+            public Iterable<JavaClass> doTransform(JavaClasses collection) {
+                transformations.incrementAndGet();
+                return collection;
+            }
+        };
+
+        DescribedPredicate<JavaClass> isString = simpleName("String");
+
+        List<EvaluationResult> results = ArchRuleEvaluation.evaluateAll(ImmutableList.of(
+                all(transformer.that(isString)).should(recordCheckIn(new ArrayList<>(), "first")),
+                all(transformer.that(isString).as("renamed")).should(recordCheckIn(new ArrayList<>(), "second")),
+                all(transformer.that(simpleName("Integer"))).should(recordCheckIn(new ArrayList<>(), "third"))), classes);
+
+        assertThat(results).hasSize(3);
+        assertThat(transformations).hasValue(2);
+    }
+
+    @Test
+    public void does_not_share_selections_of_different_predicates_with_the_same_description() {
+        JavaClasses classes = new ClassFileImporter().importClasses(A.class, B.class);
+
+        List<EvaluationResult> results = ArchRuleEvaluation.evaluateAll(ImmutableList.of(
+                classes().that().areAnnotatedWith(Deprecated.class).should().haveSimpleName("A"),
+                classes().that().areAnnotatedWith(java.lang.Deprecated.class).should().haveSimpleName("B")), classes);
+
+        assertThat(results.get(0).hasViolation()).as("first rule has violation").isFalse();
+        assertThat(results.get(1).hasViolation()).as("second rule has violation").isFalse();
+    }
+
+    @Test
+    public void evaluates_the_same_stateful_condition_for_each_rule_separately() {
+        JavaClasses classes = new ClassFileImporter().importClasses(String.class, Integer.class);
+        ArchCondition<JavaClass> countClasses = new ArchCondition<JavaClass>("be counted") {
+            private int count;
+
+            @Override
+            public void init(Collection<JavaClass> allObjectsToTest) {
+                count = 0;
+            }
+
+            @Override
+            public void check(JavaClass item, ConditionEvents events) {
+                count++;
+            }
+
+            @Override
+            public void finish(ConditionEvents events) {
+                events.add(violated(count, "counted " + count));
+            }
+        };
+
+        List<EvaluationResult> results = ArchRuleEvaluation.evaluateAll(ImmutableList.of(
+                classes().should(countClasses),
+                classes().that().haveSimpleName("String").should(countClasses)), classes);
+
+        assertThat(results.get(0).getFailureReport().getDetails()).containsExactly("counted 2");
+        assertThat(results.get(1).getFailureReport().getDetails()).containsExactly("counted 1");
+    }
+
+    private static ArchCondition<JavaClass> recordCheckIn(List<String> checks, String ruleName) {
+        return new ArchCondition<JavaClass>("be recorded") {
+            @Override
+            public void check(JavaClass item, ConditionEvents events) {
+                checks.add(ruleName + " " + item.getSimpleName());
+            }
+
+            @Override
+            public boolean isStateless() {
+                return true;
+            }
+        };
+    }
+
+    @Retention(RUNTIME)
+    private @interface Deprecated {
+    }
+
+    @Deprecated
+    private static class A {
+    }
+
+    @java.lang.Deprecated
+    private static class B {
+    }
+}
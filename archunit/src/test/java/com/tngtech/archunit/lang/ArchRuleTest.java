@@ -2,10 +2,14 @@ package com.tngtech.archunit.lang;
 
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
 
 import com.google.common.base.Joiner;
 import com.google.common.base.Splitter;
+import com.tngtech.archunit.ArchConfiguration;
 import com.tngtech.archunit.core.domain.JavaClass;
 import com.tngtech.archunit.core.domain.JavaClasses;
 import com.tngtech.archunit.core.domain.JavaClassesTest;
@@ -27,6 +31,7 @@ import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.all;
 import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.classes;
 import static com.tngtech.archunit.testutil.ArchConfigurationRule.FAIL_ON_EMPTY_SHOULD_PROPERTY_NAME;
 import static java.util.stream.Collectors.toCollection;
+import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -117,6 +122,66 @@ public class ArchRuleTest {
         assertThat(condition.eventsFromFinish.getViolating()).hasSize(1);
     }
 
+    @Test
+    public void parallel_evaluation_reports_the_same_violations_in_the_same_order() {
+        ArchRule rule = all(numbers(1000)).should(new ArchCondition<Integer>("be even") {
+            @Override
+            public void check(Integer item, ConditionEvents events) {
+                events.add(new SimpleConditionEvent(item, item % 2 == 0, item + " is odd"));
+            }
+
+            @Override
+            public boolean supportsParallelEvaluation() {
+                return true;
+            }
+        });
+        List<String> sequentialViolations = rule.evaluate(importClasses(getClass())).getFailureReport().getDetails();
+
+        ArchConfiguration.get().setParallelRuleEvaluationEnabled(true);
+        List<String> parallelViolations = rule.evaluate(importClasses(getClass())).getFailureReport().getDetails();
+
+        assertThat(parallelViolations).hasSize(500).isEqualTo(sequentialViolations);
+    }
+
+    @Test
+    public void parallel_evaluation_checks_conditions_not_declaring_support_for_it_sequentially() {
+        Set<Thread> checkingThreads = ConcurrentHashMap.newKeySet();
+        ArchRule rule = all(numbers(1000)).should(new ArchCondition<Integer>("be checked sequentially") {
+            @Override
+            public void check(Integer item, ConditionEvents events) {
+                checkingThreads.add(Thread.currentThread());
+            }
+        });
+
+        ArchConfiguration.get().setParallelRuleEvaluationEnabled(true);
+        rule.evaluate(importClasses(getClass()));
+
+        assertThat(checkingThreads).containsOnly(Thread.currentThread());
+    }
+
+    @Test
+    public void parallel_evaluation_keeps_information_about_number_of_violations_of_first_chunk() {
+        ArchRule rule = all(numbers(1000)).should(new ArchCondition<Integer>("be checked") {
+            @Override
+            public void check(Integer item, ConditionEvents events) {
+                events.add(SimpleConditionEvent.violated(item, "violated by " + item));
+                if (item == 0 || item == 999) {
+                    events.setInformationAboutNumberOfViolations("reported by " + item);
+                }
+            }
+
+            @Override
+            public boolean supportsParallelEvaluation() {
+                return true;
+            }
+        });
+
+        ArchConfiguration.get().setParallelRuleEvaluationEnabled(true);
+        String report = rule.evaluate(importClasses(getClass())).getFailureReport().toString();
+
+        assertThat(report).contains("reported by 0").doesNotContain("reported by 999");
+    }
+
     @Test
     public void evaluation_fails_because_of_empty_set_of_elements_with_default_fail_on_empty_should() {
         assertThatThrownBy(
@@ -172,6 +237,15 @@ public class ArchRuleTest {
         };
     }
 
+    private ClassesTransformer<Integer> numbers(int count) {
+        return new AbstractClassesTransformer<Integer>("numbers") {
+            @Override
+            public Iterable<Integer> doTransform(JavaClasses collection) {
+                return IntStream.range(0, count).boxed().collect(toList());
+            }
+        };
+    }
+
     private Condition<Throwable> containingOnlyLinesWith(String... messages) {
         return new Condition<Throwable>(String.format("Only the error messages %s", joinSingleQuoted(messages))) {
             @Override
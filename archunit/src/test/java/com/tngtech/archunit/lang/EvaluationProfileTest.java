@@ -0,0 +1,87 @@
+package com.tngtech.archunit.lang;
+
+import com.tngtech.archunit.ArchConfiguration;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+import com.tngtech.archunit.testutil.ArchConfigurationRule;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static com.tngtech.archunit.lang.SimpleConditionEvent.satisfied;
+import static com.tngtech.archunit.lang.SimpleConditionEvent.violated;
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.classes;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EvaluationProfileTest {
+    @Rule
+    public final ArchConfigurationRule archConfigurationRule = new ArchConfigurationRule();
+
+    private final JavaClasses classes = new ClassFileImporter().importClasses(String.class, Integer.class, Object.class);
+
+    @Test
+    public void records_checked_objects_events_and_violations() {
+        EvaluationProfile profile = profile(classes().should(beNamedString()));
+
+        assertThat(profile.getNumberOfCheckedObjects()).isEqualTo(3);
+        assertThat(profile.getNumberOfEvents()).isEqualTo(3);
+        assertThat(profile.getNumberOfViolations()).isEqualTo(2);
+        assertThat(profile.getWallTime()).isGreaterThanOrEqualTo(profile.getCheckDuration());
+    }
+
+    @Test
+    public void sums_up_profiles_of_composite_rules() {
+        EvaluationProfile profile = profile(CompositeArchRule
+                .of(classes().should(beNamedString()))
+                .and(classes().that().haveSimpleName("Integer").should(beNamedString())));
+
+        assertThat(profile.getNumberOfCheckedObjects()).isEqualTo(4);
+        assertThat(profile.getNumberOfEvents()).isEqualTo(4);
+        assertThat(profile.getNumberOfViolations()).isEqualTo(3);
+    }
+
+    @Test
+    public void counts_events_once_if_evaluated_in_parallel() {
+        ArchConfiguration.get().setParallelRuleEvaluationEnabled(true);
+
+        EvaluationProfile profile = profile(classes().should(beNamedString()));
+
+        assertThat(profile.getNumberOfCheckedObjects()).isEqualTo(3);
+        assertThat(profile.getNumberOfEvents()).isEqualTo(3);
+        assertThat(profile.getNumberOfViolations()).isEqualTo(2);
+    }
+
+    @Test
+    public void nested_recorders_do_not_affect_outer_recorder() {
+        EvaluationProfile.Recorder outer = EvaluationProfile.Recorder.start();
+        EvaluationProfile inner = profile(classes().should(beNamedString()));
+        EvaluationProfile outerProfile = outer.stop();
+
+        assertThat(inner.getNumberOfCheckedObjects()).isEqualTo(3);
+        assertThat(outerProfile.getNumberOfCheckedObjects()).isZero();
+        assertThat(EvaluationProfile.Recorder.current()).isEmpty();
+    }
+
+    private EvaluationProfile profile(ArchRule rule) {
+        EvaluationProfile.Recorder recorder = EvaluationProfile.Recorder.start();
+        rule.evaluate(classes);
+        return recorder.stop();
+    }
+
+    private static ArchCondition<JavaClass> beNamedString() {
+        return new ArchCondition<JavaClass>("be named String") {
+            @Override
+            public void check(JavaClass javaClass, ConditionEvents events) {
+                boolean isString = javaClass.isEquivalentTo(String.class);
+                events.add(isString
+                        ? satisfied(javaClass, javaClass.getName() + " is String")
+                        : violated(javaClass, javaClass.getName() + " is no String"));
+            }
+
+            @Override
+            public boolean supportsParallelEvaluation() {
+                return true;
+            }
+        };
+    }
+}
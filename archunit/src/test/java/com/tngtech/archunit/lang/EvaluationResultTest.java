@@ -211,6 +211,7 @@ public class EvaluationResultTest {
     public static Path writeIgnoreFileWithPatterns(String... patterns) throws IOException {
         Path ignoreFile = ignoreFile();
         Files.write(ignoreFile, Joiner.on("\n").join(patterns).getBytes(UTF_8));
+        IgnorePatterns.reset();
         return ignoreFile;
     }
 
@@ -219,11 +220,12 @@ public class EvaluationResultTest {
         return Paths.get(toUri(EvaluationResultTest.class.getResource("/"))).resolve(ARCHUNIT_IGNORE_PATTERNS_FILE_NAME);
     }
 
-    private void cleanIgnoreFile() throws IOException {
+    public static void cleanIgnoreFile() throws IOException {
         Path ignoreFile = ignoreFile();
         if (exists(ignoreFile)) {
             delete(ignoreFile);
         }
+        IgnorePatterns.reset();
     }
 
     private static class CorrectSubtype extends CorrectType {
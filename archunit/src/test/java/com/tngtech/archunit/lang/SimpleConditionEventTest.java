@@ -2,6 +2,7 @@ package com.tngtech.archunit.lang;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Test;
 
@@ -22,4 +23,16 @@ public class SimpleConditionEventTest {
         SimpleConditionEvent.violated(88, "violated").handleWith(handler);
         assertThat(messages).containsExactly("88: violated");
     }
+
+    @Test
+    public void creates_lazy_message_once_when_needed() {
+        AtomicInteger createdMessages = new AtomicInteger();
+        ConditionEvent event = SimpleConditionEvent.of(77, true, () -> "satisfied " + createdMessages.incrementAndGet());
+
+        assertThat(createdMessages).hasValue(0);
+
+        assertThat(event.getDescriptionLines()).containsExactly("satisfied 1");
+        assertThat(event.invert().getDescriptionLines()).containsExactly("satisfied 1");
+        assertThat(createdMessages).hasValue(1);
+    }
 }
@@ -0,0 +1,88 @@
+package com.tngtech.archunit.lang;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import com.tngtech.archunit.ArchConfiguration;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+import com.tngtech.archunit.testutil.ArchConfigurationRule;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static com.tngtech.archunit.lang.SimpleConditionEvent.satisfied;
+import static com.tngtech.archunit.lang.SimpleConditionEvent.violated;
+import static com.tngtech.archunit.lang.StreamingEvaluation.MAX_FAILURE_DETAILS_PROPERTY_NAME;
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.classes;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class StreamingEvaluationTest {
+    @Rule
+    public final ArchConfigurationRule archConfigurationRule = new ArchConfigurationRule();
+
+    private final JavaClasses classes = new ClassFileImporter().importClasses(String.class, Integer.class, Long.class, Object.class);
+
+    @Test
+    public void passes_all_violations_to_handler() {
+        ArchRule rule = classes().should(beNamedString());
+
+        List<String> expectedMessages = new ArrayList<>();
+        rule.evaluate(classes).handleViolations((Collection<JavaClass> __, String message) -> expectedMessages.add(message));
+        List<String> messages = new ArrayList<>();
+        StreamingEvaluation.evaluate(rule, classes, (Collection<JavaClass> __, String message) -> messages.add(message));
+
+        assertThat(messages).containsExactlyElementsOf(expectedMessages).hasSize(3);
+    }
+
+    @Test
+    public void reports_same_failure_report_as_evaluate_if_limit_is_not_exceeded() {
+        ArchRule rule = CompositeArchRule.of(classes().should(beNamedString()))
+                .and(classes().that().haveSimpleName("Long").should(beNamedString()));
+
+        EvaluationResult result = StreamingEvaluation.evaluate(rule, classes, (Collection<Object> __, String message) -> {
+        });
+
+        assertThat(result.hasViolation()).isTrue();
+        assertThat(result.getFailureReport().toString()).isEqualTo(rule.evaluate(classes).getFailureReport().toString());
+    }
+
+    @Test
+    public void keeps_only_first_lines_of_failure_report() {
+        ArchConfiguration.get().setProperty(MAX_FAILURE_DETAILS_PROPERTY_NAME, "2");
+        ArchRule rule = classes().should(beNamedString());
+
+        assertThatThrownBy(() -> StreamingEvaluation.check(rule, classes, (Collection<Object> __, String message) -> {
+        }))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("(3 times, only the first 2 lines are listed)")
+                .hasMessageContaining(Integer.class.getName() + " is no String")
+                .hasMessageContaining(Long.class.getName() + " is no String")
+                .hasMessageNotContaining(Object.class.getName() + " is no String");
+    }
+
+    @Test
+    public void succeeds_without_violations() {
+        ArchRule rule = classes().that().haveSimpleName("String").should(beNamedString());
+
+        EvaluationResult result = StreamingEvaluation.evaluate(rule, classes, (Collection<Object> __, String message) -> {
+        });
+
+        assertThat(result.hasViolation()).isFalse();
+        assertThat(StreamingEvaluation.ViolationStream.current()).isEmpty();
+    }
+
+    private static ArchCondition<JavaClass> beNamedString() {
+        return new ArchCondition<JavaClass>("be named String") {
+            @Override
+            public void check(JavaClass javaClass, ConditionEvents events) {
+                boolean isString = javaClass.isEquivalentTo(String.class);
+                events.add(isString
+                        ? satisfied(javaClass, javaClass.getName() + " is String")
+                        : violated(javaClass, javaClass.getName() + " is no String"));
+            }
+        };
+    }
+}
@@ -68,6 +68,22 @@ public class NeverConditionTest {
         assertThat(events).containViolations(ORIGINALLY_NO_MISMATCH);
     }
 
+    @Test
+    public void requires_satisfied_events_to_invert() {
+        ConditionEvents events = ConditionEvents.Factory.create();
+        assertThat(events.requiresSatisfiedEvents()).as("original events require satisfied events").isFalse();
+
+        never(new ArchCondition<Object>("check requirement") {
+            @Override
+            public void check(Object item, ConditionEvents invertedEvents) {
+                assertThat(invertedEvents.requiresSatisfiedEvents()).as("inverted events require satisfied events").isTrue();
+                invertedEvents.add(new SimpleConditionEvent(item, true, ORIGINALLY_NO_MISMATCH));
+            }
+        }).check(new Object(), events);
+
+        assertThat(events).containViolations(ORIGINALLY_NO_MISMATCH);
+    }
+
     @Test
     public void updates_description() {
         assertThat(never(someCondition("anything"))).hasDescription("never anything");
@@ -3,12 +3,14 @@ package com.tngtech.archunit.lang.extension;
 import java.util.Comparator;
 import java.util.regex.Pattern;
 
+import com.tngtech.archunit.ArchConfiguration;
 import com.tngtech.archunit.lang.extension.examples.DummyTestExtension;
 import com.tngtech.archunit.lang.extension.examples.TestExtension;
 import com.tngtech.archunit.lang.extension.examples.TestExtensionWithIllegalIdentifier;
 import com.tngtech.archunit.lang.extension.examples.TestExtensionWithNullIdentifier;
 import com.tngtech.archunit.lang.extension.examples.TestExtensionWithSameIdentifier;
 import com.tngtech.archunit.lang.extension.examples.YetAnotherDummyTestExtension;
+import com.tngtech.archunit.testutil.ArchConfigurationRule;
 import com.tngtech.archunit.testutil.LogTestRule;
 import org.apache.logging.log4j.Level;
 import org.assertj.core.api.Condition;
@@ -25,6 +27,8 @@ public class ArchUnitExtensionLoaderTest {
     public final TestServicesFile testServicesFile = new TestServicesFile();
     @Rule
     public final LogTestRule logTestRule = new LogTestRule();
+    @Rule
+    public final ArchConfigurationRule configurationRule = new ArchConfigurationRule();
 
     private final ArchUnitExtensionLoader extensionLoader = new ArchUnitExtensionLoader();
 
@@ -62,6 +66,31 @@ public class ArchUnitExtensionLoaderTest {
                 .hasAtLeastOneElementOfType(YetAnotherDummyTestExtension.class);
     }
 
+    @Test
+    public void loads_extensions_configured_in_archunit_properties() {
+        testServicesFile.addService(TestExtension.class);
+        ArchConfiguration.get().setProperty(ArchUnitExtensionLoader.EXTENSIONS_PROPERTY_NAME,
+                DummyTestExtension.class.getName() + ", " + YetAnotherDummyTestExtension.class.getName());
+
+        Iterable<ArchUnitExtension> extensions = extensionLoader.getAll();
+
+        assertThat(extensions)
+                .hasSize(3)
+                .hasAtLeastOneElementOfType(TestExtension.class)
+                .hasAtLeastOneElementOfType(DummyTestExtension.class)
+                .hasAtLeastOneElementOfType(YetAnotherDummyTestExtension.class);
+    }
+
+    @Test
+    public void rejects_extension_configured_in_archunit_properties_that_cannot_be_instantiated() {
+        ArchConfiguration.get().setProperty(ArchUnitExtensionLoader.EXTENSIONS_PROPERTY_NAME, "not.Existing");
+
+        assertThatThrownBy(extensionLoader::getAll)
+                .isInstanceOf(ExtensionLoadingException.class)
+                .hasMessageContaining("extensions=not.Existing")
+                .hasCauseInstanceOf(ClassNotFoundException.class);
+    }
+
     @Test
     public void rejects_null_extension_identifier() {
         testServicesFile.addService(TestExtensionWithNullIdentifier.class);
@@ -104,6 +104,24 @@ public class ArchUnitExtensionsTest {
                 "Extension 'one' is disabled, skipping... (to enable this extension, configure extension.one.enabled=true)");
     }
 
+    @Test
+    public void requires_profile_only_if_an_enabled_extension_requires_it() {
+        TestExtension notRequiringProfile = enabled(new TestExtension("not-requiring"));
+        TestExtension requiringProfile = new TestExtension("requiring") {
+            @Override
+            public boolean requiresProfile() {
+                return true;
+            }
+        };
+        when(extensionLoader.getAll()).thenReturn(ImmutableSet.of(notRequiringProfile, requiringProfile));
+
+        assertThat(extensions.isProfileRequired()).as("profile required").isFalse();
+
+        enabled(requiringProfile);
+
+        assertThat(extensions.isProfileRequired()).as("profile required").isTrue();
+    }
+
     @Test
     public void exception_during_configuration_of_extension_is_handled() {
         final String expectedExceptionMessage = "Bummer";
@@ -0,0 +1,78 @@
+package com.tngtech.archunit.lang.extension;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.Duration;
+
+import com.tngtech.archunit.lang.extension.SlowestRulesReport.RuleStatistics;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static com.tngtech.archunit.testutil.TestUtils.properties;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SlowestRulesReportTest {
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void reports_rules_sorted_by_wall_time() {
+        SlowestRulesReport report = new SlowestRulesReport();
+
+        report.record("fast rule", statistics(Duration.ofMillis(10), 100, 1));
+        report.record("slow rule", statistics(Duration.ofMillis(500), 200, 2));
+        report.record("medium rule", statistics(Duration.ofMillis(100), 300, 3));
+
+        String[] lines = report.createReport().split(System.lineSeparator());
+        assertThat(lines[0]).isEqualTo("Slowest 3 of 3 ArchUnit rules (610 ms in total):");
+        assertThat(lines[2]).startsWith("       500").endsWith("slow rule");
+        assertThat(lines[3]).startsWith("       100").endsWith("medium rule");
+        assertThat(lines[4]).startsWith("        10").endsWith("fast rule");
+    }
+
+    @Test
+    public void sums_up_evaluations_of_the_same_rule() {
+        SlowestRulesReport report = new SlowestRulesReport();
+
+        report.record("some rule", statistics(Duration.ofMillis(10), 100, 1));
+        report.record("some rule", statistics(Duration.ofMillis(20), 100, 1));
+
+        String[] lines = report.createReport().split(System.lineSeparator());
+        assertThat(lines).hasSize(3);
+        assertThat(lines[2].trim().split(" +")).containsExactly(
+                "30", "0", "0", "0", "2", "200", "200", "2", "some", "rule");
+    }
+
+    @Test
+    public void limits_number_of_reported_rules() {
+        SlowestRulesReport report = new SlowestRulesReport();
+        report.configure(properties("limit", "1"));
+
+        report.record("fast rule", statistics(Duration.ofMillis(10), 100, 1));
+        report.record("slow rule", statistics(Duration.ofMillis(500), 200, 2));
+
+        String[] lines = report.createReport().split(System.lineSeparator());
+        assertThat(lines[0]).isEqualTo("Slowest 1 of 2 ArchUnit rules (510 ms in total):");
+        assertThat(lines).hasSize(3);
+        assertThat(lines[2]).endsWith("slow rule");
+    }
+
+    @Test
+    public void writes_report_to_configured_file() throws IOException {
+        SlowestRulesReport report = new SlowestRulesReport();
+        File reportFile = new File(temporaryFolder.getRoot(), "some/dir/report.txt");
+        report.configure(properties("file", reportFile.getAbsolutePath()));
+        report.record("some rule", statistics(Duration.ofMillis(10), 100, 1));
+
+        report.report();
+
+        assertThat(new String(Files.readAllBytes(reportFile.toPath()), UTF_8)).isEqualTo(report.createReport());
+    }
+
+    private static RuleStatistics statistics(Duration wallTime, long checkedObjects, long violations) {
+        return new RuleStatistics(wallTime, Duration.ZERO, Duration.ZERO, Duration.ZERO, 1, checkedObjects, checkedObjects, violations);
+    }
+}
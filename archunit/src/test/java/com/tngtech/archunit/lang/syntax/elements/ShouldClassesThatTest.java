@@ -1745,6 +1745,27 @@ public class ShouldClassesThatTest {
         static class Level2TransitivelyDependentClass2 {
             Level2TransitivelyDependentClass1 transitiveDependency1;
         }
+
+        @SuppressWarnings("unused")
+        static class TestClassDependingOnCycle {
+            CycleEntry cycleEntry;
+        }
+
+        @SuppressWarnings("unused")
+        static class CycleEntry {
+            CycleMember cycleMember;
+        }
+
+        @SuppressWarnings("unused")
+        static class CycleMember {
+            CycleEntry cycleEntry;
+            CycleExit cycleExit;
+        }
+
+        @SuppressWarnings("unused")
+        static class CycleExit {
+            Level2TransitivelyDependentClass1 transitiveDependency1;
+        }
     }
 
     @Test
@@ -1798,6 +1819,34 @@ public class ShouldClassesThatTest {
                 ));
     }
 
+    @Test
+    public void transitivelyDependOnClassesThat_finds_paths_through_cyclic_dependencies() {
+        Class<?> testClass = TransitivelyDependOnClassesThatTestCases.TestClassDependingOnCycle.class;
+        Class<?> cycleEntry = TransitivelyDependOnClassesThatTestCases.CycleEntry.class;
+        Class<?> cycleMember = TransitivelyDependOnClassesThatTestCases.CycleMember.class;
+        Class<?> cycleExit = TransitivelyDependOnClassesThatTestCases.CycleExit.class;
+        Class<?> matchingClass = TransitivelyDependOnClassesThatTestCases.Level2TransitivelyDependentClass1.class;
+
+        JavaClasses classes = new ClassFileImporter().importClasses(testClass, cycleEntry, cycleMember, cycleExit, matchingClass);
+
+        assertThatRule(noClasses().that().haveSimpleName(testClass.getSimpleName())
+                .should().transitivelyDependOnClassesThat().belongToAnyOf(matchingClass))
+                .checking(classes)
+                .hasOnlyOneViolationMatching(String.format(".*<%s> transitively depends on <%s> by \\[%s->%s->%s->%s\\] in .*",
+                        quote(testClass.getName()),
+                        quote(matchingClass.getName()),
+                        quote(cycleEntry.getName()),
+                        quote(cycleMember.getName()),
+                        quote(cycleExit.getName()),
+                        quote(matchingClass.getName())
+                ));
+
+        assertThatRule(classes().that().haveSimpleName(testClass.getSimpleName())
+                .should().transitivelyDependOnClassesThat().belongToAnyOf(matchingClass))
+                .checking(classes)
+                .hasNoViolation();
+    }
+
     private static DescribedPredicate<HasName> classWithNameOf(Class<?> type) {
         return GET_NAME.is(equalTo(type.getName()));
     }
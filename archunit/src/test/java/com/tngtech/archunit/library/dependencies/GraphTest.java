@@ -10,13 +10,18 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Range;
 import com.tngtech.archunit.ArchConfiguration;
+import com.tngtech.archunit.library.dependencies.Graph.Component;
 import com.tngtech.archunit.library.dependencies.Graph.Cycles;
+import com.tngtech.archunit.testutil.ArchConfigurationRule;
+import org.junit.Rule;
 import org.junit.Test;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.collect.DiscreteDomain.integers;
 import static com.google.common.collect.Iterables.getOnlyElement;
 import static com.google.common.collect.Sets.cartesianProduct;
+import static com.tngtech.archunit.library.dependencies.CycleConfiguration.ENABLE_PARALLEL_DETECTION_PROPERTY_NAME;
+import static com.tngtech.archunit.library.dependencies.CycleConfiguration.MAX_DETECTION_TIME_IN_MILLIS_PROPERTY_NAME;
 import static com.tngtech.archunit.library.dependencies.CycleConfiguration.MAX_NUMBER_OF_CYCLES_TO_DETECT_PROPERTY_NAME;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptySet;
@@ -28,6 +33,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 public class GraphTest {
     private static final Random random = new Random();
 
+    @Rule
+    public final ArchConfigurationRule configurationRule = new ArchConfigurationRule();
+
     @Test
     public void graph_without_cycles() {
         Graph<String, String> graph = new Graph<>();
@@ -161,6 +169,74 @@ public class GraphTest {
         assertThat(cycles.maxNumberOfCyclesReached()).as("maximum number of cycles reached").isTrue();
     }
 
+    @Test
+    public void finds_cycles_through_lowest_node_of_component_that_is_not_reachable_from_lower_nodes() {
+        Graph<Integer, Integer> graph = new Graph<>();
+        graph.addNodes(ImmutableSet.of(0, 1, 2, 3, 4));
+        graph.addEdges(ImmutableSet.of(
+                integerEdge(0, 3),
+                integerEdge(3, 4),
+                integerEdge(4, 3),
+                integerEdge(1, 2),
+                integerEdge(2, 1)
+        ));
+
+        assertThat(graph.findCycles()).containsOnly(
+                createCycle(ImmutableList.of(1, 2, 1)),
+                createCycle(ImmutableList.of(3, 4, 3)));
+    }
+
+    @Test
+    public void parallel_detection_finds_the_same_cycles_as_sequential_detection() {
+        Graph<Integer, Integer> graph = createConnectedCompleteGraphs(5, 6);
+        ArchConfiguration.get().setProperty(MAX_NUMBER_OF_CYCLES_TO_DETECT_PROPERTY_NAME, String.valueOf(Integer.MAX_VALUE));
+
+        Cycles<Integer, Integer> sequentialCycles = graph.findCycles();
+        ArchConfiguration.get().setProperty(ENABLE_PARALLEL_DETECTION_PROPERTY_NAME, "true");
+        Cycles<Integer, Integer> parallelCycles = graph.findCycles();
+
+        assertThat(parallelCycles).containsExactlyElementsOf(sequentialCycles);
+        assertThat(parallelCycles.maxNumberOfCyclesReached()).as("maximum number of cycles reached").isFalse();
+    }
+
+    @Test
+    public void stops_detecting_cycles_when_maximum_detection_time_is_reached() {
+        Graph<Integer, Integer> graph = createCompleteGraph(12);
+        ArchConfiguration.get().setProperty(MAX_NUMBER_OF_CYCLES_TO_DETECT_PROPERTY_NAME, String.valueOf(Integer.MAX_VALUE));
+        ArchConfiguration.get().setProperty(MAX_DETECTION_TIME_IN_MILLIS_PROPERTY_NAME, "1");
+
+        Cycles<Integer, Integer> cycles = graph.findCycles();
+
+        assertThat(cycles.maxDetectionTimeReached()).as("maximum detection time reached").isTrue();
+        assertThat(cycles.maxNumberOfCyclesReached()).as("maximum number of cycles reached").isFalse();
+    }
+
+    @Test
+    public void finds_shortest_cycle_per_strongly_connected_component() {
+        Graph<Integer, Object> graph = new Graph<>();
+        graph.addNodes(ImmutableSet.of(0, 1, 2, 3, 4, 5, 6, 7));
+        graph.addEdges(ImmutableSet.of(
+                newEdge(0, 1),
+                newEdge(1, 2),
+                newEdge(2, 3),
+                newEdge(3, 0),
+                newEdge(2, 0),
+                newEdge(3, 4),
+                newEdge(5, 6),
+                newEdge(6, 7),
+                newEdge(7, 5)
+        ));
+
+        List<Component<Integer, Object>> components = graph.findShortestCyclePerComponent(new CycleConfiguration());
+
+        assertThat(components).hasSize(2);
+        assertThat(components.get(0).getNodes()).containsOnly(0, 1, 2, 3);
+        assertThat(components.get(0).getShortestCycle().getEdges()).hasSize(3);
+        assertEdgeExists(components.get(0).getShortestCycle(), 2, 0);
+        assertThat(components.get(1).getNodes()).containsOnly(5, 6, 7);
+        assertThat(components.get(1).getShortestCycle().getEdges()).hasSize(3);
+    }
+
     @SuppressWarnings("unchecked")
     private Graph<Integer, Integer> createCompleteGraph(int n) {
         ContiguousSet<Integer> integers = ContiguousSet.create(Range.closedOpen(0, n), integers());
@@ -173,6 +249,25 @@ public class GraphTest {
         return graph;
     }
 
+    /**
+     * @return a graph of complete subgraphs, where each subgraph has an edge to the next one, but not vice versa
+     */
+    private Graph<Integer, Integer> createConnectedCompleteGraphs(int numberOfSubgraphs, int nodesPerSubgraph) {
+        Graph<Integer, Integer> graph = new Graph<>();
+        for (int i = 0; i < numberOfSubgraphs; i++) {
+            ContiguousSet<Integer> integers = ContiguousSet.create(Range.closedOpen(i * nodesPerSubgraph, (i + 1) * nodesPerSubgraph), integers());
+            graph.addNodes(integers);
+            graph.addEdges(cartesianProduct(integers, integers).stream()
+                    .filter(input -> !input.get(0).equals(input.get(1)))
+                    .map(input -> integerEdge(input.get(0), input.get(1)))
+                    .collect(toSet()));
+            if (i > 0) {
+                graph.addEdges(singleton(integerEdge(i * nodesPerSubgraph - 1, i * nodesPerSubgraph)));
+            }
+        }
+        return graph;
+    }
+
     private Cycle<Integer, Integer> createCycle(List<Integer> numbers) {
         ImmutableList.Builder<Edge<Integer, Integer>> builder = ImmutableList.builder();
         for (int i = 0; i < numbers.size() - 1; i++) {
@@ -23,6 +23,7 @@ import org.junit.runner.RunWith;
 import static com.google.common.math.IntMath.factorial;
 import static com.tngtech.archunit.library.dependencies.CycleConfiguration.MAX_NUMBER_OF_CYCLES_TO_DETECT_PROPERTY_NAME;
 import static com.tngtech.archunit.library.dependencies.CycleConfiguration.MAX_NUMBER_OF_DEPENDENCIES_TO_SHOW_PER_EDGE_PROPERTY_NAME;
+import static com.tngtech.archunit.library.dependencies.CycleConfiguration.REPORT_ONLY_SHORTEST_CYCLE_PER_COMPONENT_PROPERTY_NAME;
 import static com.tngtech.archunit.library.dependencies.SlicesRuleDefinition.slices;
 import static com.tngtech.java.junit.dataprovider.DataProviders.$;
 import static com.tngtech.java.junit.dataprovider.DataProviders.$$;
@@ -123,6 +124,18 @@ public class SliceRuleTest {
                 + "this limit can be adapted using the `archunit.properties` value `cycles.maxNumberToDetect=xxx`)");
     }
 
+    @Test
+    public void reports_only_one_shortest_cycle_per_component_if_configured() {
+        ArchConfiguration.get().setProperty(REPORT_ONLY_SHORTEST_CYCLE_PER_COMPONENT_PROPERTY_NAME, "true");
+
+        String failureReport = getFailureReportForCyclesInRootPackageOf(CompleteSevenNodesGraphRoot.class);
+
+        assertThat(countCyclesInMessage(failureReport)).as("number of cycles detected").isEqualTo(1);
+        assertThat(failureReport).as("failure report")
+                .contains("(1 times)")
+                .contains("All 7 slices depending on each other in cycles: ");
+    }
+
     @Test
     public void limits_number_of_reported_dependencies_per_edge_to_configured_limit() {
         ArchConfiguration.get().setProperty(MAX_NUMBER_OF_DEPENDENCIES_TO_SHOW_PER_EDGE_PROPERTY_NAME, "3");
@@ -0,0 +1,167 @@
+package com.tngtech.archunit.library.freeze;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Properties;
+
+import com.google.common.collect.ImmutableList;
+import com.tngtech.archunit.lang.ArchRule;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.classes;
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class BinaryViolationStoreTest {
+
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private File configuredFolder;
+    private ViolationStore store;
+
+    @Before
+    public void setUp() throws Exception {
+        configuredFolder = new File(temporaryFolder.newFolder(), "notyetthere");
+        store = newStore();
+    }
+
+    @Test
+    public void reports_unknown_rule_as_unstored() {
+        assertThat(store.contains(defaultRule())).as("store contains random rule").isFalse();
+    }
+
+    @Test
+    public void throws_an_exception_if_violations_of_unstored_rule_are_requested() {
+        ArchRule rule = defaultRule();
+
+        assertThatThrownBy(() -> store.getViolations(rule))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("No rule stored with description '%s'", rule.getDescription());
+    }
+
+    @Test
+    public void rejects_creating_a_new_store_if_not_allowed() {
+        ViolationStore store = new BinaryViolationStore();
+
+        assertThatThrownBy(() -> store.initialize(propertiesOf("default.path", new File(configuredFolder, "other").getAbsolutePath())))
+                .isInstanceOf(StoreInitializationFailedException.class)
+                .hasMessageContaining("freeze.store.default.allowStoreCreation=true");
+    }
+
+    @Test
+    public void stores_violations_of_multiple_rules_in_a_single_file() {
+        store.save(rule("first rule"), ImmutableList.of("first violation1", "shared violation"));
+        store.save(rule("second rule"), ImmutableList.of("shared violation", "second violation2", "shared violation"));
+        store.save(rule("third rule"), ImmutableList.of());
+
+        assertThat(configuredFolder.list()).containsOnly("stored.violations", "stored.violations.lock");
+        assertThat(store.getViolations(rule("first rule"))).containsExactly("first violation1", "shared violation");
+        assertThat(store.getViolations(rule("second rule"))).containsExactly("shared violation", "second violation2", "shared violation");
+        assertThat(store.getViolations(rule("third rule"))).isEmpty();
+    }
+
+    @Test
+    public void stores_violations_with_line_breaks() {
+        List<String> expected = ImmutableList.of("first with\nlinebreak", "second with\nlinebreak");
+
+        store.save(rule("rule with\r\nlinebreak"), ImmutableList.of("first with\r\nlinebreak", "second with\nlinebreak"));
+
+        assertThat(store.getViolations(rule("rule with\nlinebreak"))).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    public void updates_are_visible_to_other_stores() throws IOException {
+        ViolationStore otherStore = newStore();
+        store.save(defaultRule(), ImmutableList.of("first violation", "second violation"));
+        assertThat(otherStore.getViolations(defaultRule())).containsExactly("first violation", "second violation");
+
+        otherStore.save(defaultRule(), ImmutableList.of("second violation"));
+
+        assertThat(store.getViolations(defaultRule())).containsExactly("second violation");
+        assertThat(newStore().getViolations(defaultRule())).containsExactly("second violation");
+    }
+
+    @Test
+    public void does_not_write_unchanged_violations() {
+        store.save(defaultRule(), ImmutableList.of("first violation", "second violation"));
+        long sizeBefore = storeFile().length();
+
+        store.save(defaultRule(), ImmutableList.of("first violation", "second violation"));
+
+        assertThat(storeFile().length()).isEqualTo(sizeBefore);
+    }
+
+    @Test
+    public void ignores_and_overwrites_incomplete_records() throws IOException {
+        store.save(defaultRule(), ImmutableList.of("violation"));
+        try (OutputStream out = Files.newOutputStream(storeFile().toPath(), APPEND)) {
+            out.write(new byte[]{1, 0, 0, 0, 100, 'x'});
+        }
+
+        assertThat(newStore().getViolations(defaultRule())).containsExactly("violation");
+
+        store.save(rule("other rule"), ImmutableList.of("other violation"));
+        assertThat(newStore().getViolations(rule("other rule"))).containsExactly("other violation");
+    }
+
+    @Test
+    public void removes_outdated_violations_from_file() {
+        List<String> violations = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            violations.add("some violation in (SomeClass.java:" + i + ")");
+        }
+        store.save(rule("other rule"), ImmutableList.of("other violation"));
+        store.save(defaultRule(), violations);
+        long sizeOfOneVersion = storeFile().length();
+
+        for (int i = 0; i < 30; i++) {
+            violations.set(0, "changed violation " + i);
+            store.save(defaultRule(), violations);
+        }
+
+        assertThat(storeFile().length()).isLessThan(2 * sizeOfOneVersion);
+        ViolationStore otherStore = newStore();
+        assertThat(otherStore.getViolations(defaultRule())).containsExactlyElementsOf(violations);
+        assertThat(otherStore.getViolations(rule("other rule"))).containsExactly("other violation");
+    }
+
+    private ViolationStore newStore() {
+        ViolationStore result = new BinaryViolationStore();
+        result.initialize(propertiesOf(
+                "default.path", configuredFolder.getAbsolutePath(),
+                "default.allowStoreCreation", String.valueOf(true)));
+        return result;
+    }
+
+    private File storeFile() {
+        return new File(configuredFolder, "stored.violations");
+    }
+
+    private Properties propertiesOf(String... keyValuePairs) {
+        Properties result = new Properties();
+        LinkedList<String> keyValues = new LinkedList<>(asList(keyValuePairs));
+        while (!keyValues.isEmpty()) {
+            result.setProperty(keyValues.poll(), keyValues.poll());
+        }
+        return result;
+    }
+
+    private ArchRule defaultRule() {
+        return rule("default rule");
+    }
+
+    private ArchRule rule(String description) {
+        return classes().should().bePublic().as(description);
+    }
+}
@@ -2,13 +2,13 @@ package com.tngtech.archunit.library.freeze;
 
 import java.io.File;
 import java.io.IOException;
-import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
@@ -38,13 +38,12 @@ import org.junit.runner.RunWith;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.collect.Sets.cartesianProduct;
 import static com.tngtech.archunit.core.domain.TestUtils.importClasses;
+import static com.tngtech.archunit.lang.EvaluationResultTest.cleanIgnoreFile;
 import static com.tngtech.archunit.lang.EvaluationResultTest.writeIgnoreFileWithPatterns;
 import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.classes;
 import static com.tngtech.archunit.library.freeze.FreezingArchRule.freeze;
 import static com.tngtech.archunit.testutil.Assertions.assertThat;
 import static com.tngtech.archunit.testutil.Assertions.assertThatRule;
-import static java.nio.file.Files.delete;
-import static java.nio.file.Files.exists;
 import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -234,6 +233,34 @@ public class FreezingArchRuleTest {
                 .hasOnlyViolations("and new");
     }
 
+    @Test
+    public void only_compares_violations_with_equal_keys_if_the_matcher_provides_keys() {
+        TestViolationStore violationStore = new TestViolationStore();
+
+        createFrozen(violationStore, rule("some description")
+                .withViolations("first one", "second one", "bad one").create());
+
+        ArchRule frozen = freeze(rule("some description")
+                .withViolations("bad one", "first one changed", "save one", "second one", "new one").create())
+                .persistIn(violationStore)
+                .associateViolationLinesVia(new ViolationLineMatcher() {
+                    @Override
+                    public boolean matches(String lineFromFirstViolation, String lineFromSecondViolation) {
+                        assertThat(getKey(lineFromFirstViolation)).as("key of compared line").isEqualTo(getKey(lineFromSecondViolation));
+                        return true;
+                    }
+
+                    @Override
+                    public Optional<String> getKey(String line) {
+                        return Optional.of(line.substring(0, 1));
+                    }
+                });
+
+        assertThatRule(frozen)
+                .checking(importClasses(getClass()))
+                .hasOnlyViolations("second one", "new one");
+    }
+
     @Test
     public void fails_on_an_increased_violation_count_of_the_same_violation_compared_to_frozen_ones() {
         TestViolationStore violationStore = new TestViolationStore();
@@ -499,9 +526,8 @@ public class FreezingArchRuleTest {
 
     @Test
     public void violations_ignored_by_archunit_ignore_patterns_are_omitted_from_the_store() throws IOException {
-        Path ignoreFile = null;
         try {
-            ignoreFile = writeIgnoreFileWithPatterns(".* ignored");
+            writeIgnoreFileWithPatterns(".* ignored");
 
             ArchRule input = rule("some description").withViolations("first ignored", "second non-ignored").create();
             TestViolationStore violationStore = new TestViolationStore();
@@ -512,9 +538,7 @@ public class FreezingArchRuleTest {
 
             violationStore.verifyStoredRule("some description", "second non-ignored");
         } finally {
-            if (ignoreFile != null && exists(ignoreFile)) {
-                delete(ignoreFile);
-            }
+            cleanIgnoreFile();
         }
     }
 
@@ -108,6 +108,19 @@ public class TextFileBasedViolationStoreTest {
         assertThat(store.getViolations(thirdRule)).containsOnly("third violation1", "third violation2");
     }
 
+    @Test
+    public void keeps_rules_stored_by_other_stores_of_the_same_folder() throws IOException {
+        ViolationStore otherStore = new TextFileBasedViolationStore();
+        otherStore.initialize(propertiesOf("default.path", configuredFolder.getAbsolutePath()));
+
+        store.save(rule("first rule"), ImmutableList.of("first violation"));
+        otherStore.save(rule("second rule"), ImmutableList.of("second violation"));
+        store.save(rule("third rule"), ImmutableList.of("third violation"));
+
+        Properties properties = readProperties(new File(configuredFolder, "stored.rules"));
+        assertThat(properties.stringPropertyNames()).containsOnly("first rule", "second rule", "third rule");
+    }
+
     @Test
     public void stores_violations_with_line_breaks() {
         List<String> expected = ImmutableList.of(String.format("first with%nlinebreak"), String.format("second with%nlinebreak"));
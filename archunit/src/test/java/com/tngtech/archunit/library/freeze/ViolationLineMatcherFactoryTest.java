@@ -54,4 +54,22 @@ public class ViolationLineMatcherFactoryTest {
                 .as(String.format("'%s' matches '%s'", str1, str2))
                 .isEqualTo(expected);
     }
+
+    @Test
+    @DataProvider(splitBy = "\\|", value = {
+            "abc|abc|" + true,
+            "abc|abcd|" + false,
+            "(A.java:1)|(A.java:2)|" + true,
+            "A.java:1|A.java:2|" + false,
+            "A$1 B$2 C$4 (X.java:111)|A$2 B$3 C$5 (X.java:222)|" + true,
+            "A:1|A$2|" + false,
+            "A:1) B$2 C|A: B$ C|" + true,
+    })
+    public void default_matcher_provides_equal_keys_if_and_only_if_lines_match(String str1, String str2, boolean expected) {
+        ViolationLineMatcher defaultMatcher = ViolationLineMatcherFactory.create();
+
+        assertThat(defaultMatcher.getKey(str1).get().equals(defaultMatcher.getKey(str2).get()))
+                .as(String.format("key of '%s' equals key of '%s'", str1, str2))
+                .isEqualTo(expected);
+    }
 }